@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.generator.common.catalog.dto.WorkloadProfile;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+
+/**
+ * {@link DtoMatrixJsonReader} の性能を、Jacksonでツリー構造へ読み込みDTOマトリクスへコピーする処理と比較するベンチマーククラスです。
+ * <p>
+ * 入力は {@link DtoMatrixWorkloadGenerator} が生成する合成DTOマトリクスをJSON形式で出力したバイト列です。
+ * どちらの処理も {@link DtoSymbolTable} で文字列を集約し、元のDTOマトリクスと等しいDTOマトリクスを生成します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DtoMatrixJsonReaderBenchmark {
+
+    /**
+     * プロファイル
+     */
+    @Param({ "SMALL", "WIDE", "DEEP", "ENTERPRISE" })
+    private WorkloadProfile workloadProfile;
+
+    /**
+     * JSONの読み込みに使用するオブジェクトマッパー
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * JSON形式のDTO定義
+     */
+    private byte[] json;
+
+    /**
+     * 測定対象のJSONを生成し、どちらの処理でも元のDTOマトリクスと等しいDTOマトリクスを生成できることを確認します。
+     *
+     * @throws IOException           JSONの生成または読み込みに失敗した場合
+     * @throws IllegalStateException 読み込んだDTOマトリクスが元のDTOマトリクスと異なる場合
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        final DtoMatrix dtoMatrix = DtoMatrixWorkloadGenerator.of(this.workloadProfile).execute();
+        this.json = this.objectMapper.writeValueAsBytes(this.toJson(dtoMatrix));
+
+        if (!dtoMatrix.equals(this.streaming()) || !dtoMatrix.equals(this.jacksonTree())) {
+            throw new IllegalStateException("JSONから読み込んだDTOマトリクスが元のDTOマトリクスと一致しません。");
+        }
+    }
+
+    /**
+     * {@link DtoMatrixJsonReader} でJSONを逐次読み込みDTOマトリクスを生成します。
+     *
+     * @return DTOマトリクス
+     */
+    @Benchmark
+    public DtoMatrix streaming() {
+        return DtoMatrixJsonReader.of(new ByteArrayInputStream(this.json)).execute();
+    }
+
+    /**
+     * JacksonでJSONをツリー構造へ読み込み、DTOマトリクスへコピーします。
+     *
+     * @return DTOマトリクス
+     *
+     * @throws IOException JSONの読み込みに失敗した場合
+     */
+    @Benchmark
+    public DtoMatrix jacksonTree() throws IOException {
+
+        final JsonNode root = this.objectMapper.readTree(this.json);
+        final JsonNode dtoMeta = root.get("dtoMeta");
+        final JsonNode dtoCreator = root.get("dtoCreator");
+
+        return DtoMatrix.of(
+                DtoMeta.of(dtoMeta.get("version").asText(), dtoMeta.get("projectName").asText(),
+                        dtoMeta.get("packageName").asText(), dtoMeta.get("physicalName").asText(),
+                        dtoMeta.get("logicalName").asText(), dtoMeta.get("description").asText()),
+                DtoCreator.of(dtoCreator.get("creator").asText(), dtoCreator.get("creationDate").asText(),
+                        dtoCreator.get("updateDate").asText()),
+                this.toDtoDefinitionGroup(root.get("dtoDefinitionGroup"), DtoSymbolTable.of()));
+    }
+
+    /**
+     * 引数として渡されたJSONの配列をDTO定義グループへコピーします。
+     *
+     * @param dtoDefinitions DTO定義の配列
+     * @param dtoSymbolTable DTOシンボルテーブル
+     * @return DTO定義グループ
+     */
+    private DtoDefinitionGroup toDtoDefinitionGroup(JsonNode dtoDefinitions, DtoSymbolTable dtoSymbolTable) {
+
+        final DtoDefinitionGroup dtoDefinitionGroup = DtoDefinitionGroup.of();
+
+        for (JsonNode dtoDefinition : dtoDefinitions) {
+            final DtoFieldGroup dtoFieldGroup = DtoFieldGroup.of();
+
+            for (JsonNode dtoField : dtoDefinition.get("dtoFieldGroup")) {
+                final DtoField copiedDtoField = dtoSymbolTable.createDtoField(dtoField.get("variableName").asText(),
+                        dtoField.get("dataType").asText(), dtoField.get("initialValue").asText(),
+                        dtoField.get("invariant").asBoolean(), dtoField.get("description").asText());
+                copiedDtoField.setChildDtoDefinitionGroup(
+                        this.toDtoDefinitionGroup(dtoField.get("childDtoDefinitionGroup"), dtoSymbolTable));
+                dtoFieldGroup.add(copiedDtoField);
+            }
+
+            dtoDefinitionGroup.add(dtoSymbolTable.createDtoDefinition(dtoDefinition.get("className").asText(),
+                    dtoDefinition.get("description").asText(),
+                    DtoDefinitionAssembler.toCompactDtoFieldGroup(dtoFieldGroup)));
+        }
+
+        return dtoDefinitionGroup;
+    }
+
+    /**
+     * 引数として渡されたDTOマトリクスをJSONのツリー構造へ変換します。
+     *
+     * @param dtoMatrix DTOマトリクス
+     * @return JSONのツリー構造
+     */
+    private ObjectNode toJson(DtoMatrix dtoMatrix) {
+
+        final ObjectNode root = this.objectMapper.createObjectNode();
+        final DtoMeta dtoMeta = dtoMatrix.getDtoMeta();
+        final DtoCreator dtoCreator = dtoMatrix.getDtoCreator();
+
+        root.putObject("dtoMeta").put("version", dtoMeta.getVersion()).put("projectName", dtoMeta.getProjectName())
+                .put("packageName", dtoMeta.getPackageName()).put("physicalName", dtoMeta.getPhysicalName())
+                .put("logicalName", dtoMeta.getLogicalName()).put("description", dtoMeta.getDescription());
+        root.putObject("dtoCreator").put("creator", dtoCreator.getCreator())
+                .put("creationDate", dtoCreator.getCreationDate()).put("updateDate", dtoCreator.getUpdateDate());
+        root.set("dtoDefinitionGroup", this.toJson(dtoMatrix.getDtoDefinitionGroup()));
+
+        return root;
+    }
+
+    /**
+     * 引数として渡されたDTO定義グループをJSONの配列へ変換します。
+     *
+     * @param dtoDefinitionGroup DTO定義グループ
+     * @return JSONの配列
+     */
+    private ArrayNode toJson(DtoDefinitionGroup dtoDefinitionGroup) {
+
+        final ArrayNode dtoDefinitions = this.objectMapper.createArrayNode();
+
+        for (DtoDefinition dtoDefinition : dtoDefinitionGroup) {
+            final ArrayNode dtoFields = dtoDefinitions.addObject().put("className", dtoDefinition.getClassName())
+                    .put("description", dtoDefinition.getDescription()).putArray("dtoFieldGroup");
+
+            for (DtoField dtoField : dtoDefinition.getDtoFieldGroup()) {
+                dtoFields.addObject().put("variableName", dtoField.getVariableName())
+                        .put("dataType", dtoField.getDataType()).put("initialValue", dtoField.getInitialValue())
+                        .put("invariant", dtoField.isInvariant()).put("description", dtoField.getDescription())
+                        .set("childDtoDefinitionGroup", this.toJson(dtoField.getChildDtoDefinitionGroup()));
+            }
+        }
+
+        return dtoDefinitions;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.generator.common.catalog.dto.ExecutionMode;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+import org.thinkit.generator.common.vo.dto.DtoResourceGroup;
+
+/**
+ * {@link DtoResourceFormatter#execute()} の性能を測定するベンチマーククラスです。
+ * <p>
+ * ルートクラス数、クラスごとのフィールド数、子クラスのネストの深さ、実行モードおよび描画モードを変化させて測定します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DtoResourceFormatterBenchmark {
+
+    /**
+     * ルートクラス数
+     */
+    @Param({ "10", "100" })
+    private int classCount;
+
+    /**
+     * クラスごとのフィールド数
+     */
+    @Param({ "5", "30" })
+    private int fieldCount;
+
+    /**
+     * 子クラスのネストの深さ
+     */
+    @Param({ "0", "3" })
+    private int depth;
+
+    /**
+     * 実行モード
+     */
+    @Param({ "SEQUENTIAL", "PARALLEL" })
+    private ExecutionMode executionMode;
+
+    /**
+     * 描画モード
+     */
+    @Param({ "FORMATTER", "PREFORMATTED" })
+    private RenderingMode renderingMode;
+
+    /**
+     * DTOマトリクス
+     */
+    private DtoMatrix dtoMatrix;
+
+    /**
+     * 測定対象のDTOマトリクスを生成し、DTOリソースグループを生成できることを確認します。
+     *
+     * @throws IllegalStateException DTOリソースグループの生成に失敗した場合
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        final DtoDefinitionGroup dtoDefinitionGroup = DtoDefinitionGroup.of();
+
+        for (int i = 0; i < this.classCount; i++) {
+            dtoDefinitionGroup.add(this.createDtoDefinition("BenchmarkDto" + i, this.depth));
+        }
+
+        this.dtoMatrix = DtoMatrix.of(
+                DtoMeta.of("1.0", "benchmark", "org.thinkit.benchmark", "BenchmarkDto", "ベンチマーク", "ベンチマーク用のDTO"),
+                DtoCreator.of("Kato Shinya", "2020/09/01", "2020/09/01"), dtoDefinitionGroup);
+
+        if (this.execute() == null) {
+            throw new IllegalStateException("DTOリソースの生成に失敗しました。");
+        }
+    }
+
+    /**
+     * DTOマトリクスを整形しDTOリソースグループを生成します。
+     *
+     * @return DTOリソースグループ
+     */
+    @Benchmark
+    public DtoResourceGroup execute() {
+        return DtoResourceFormatter.of(this.dtoMatrix,
+                DtoResourceFormatterOptions.of().executionMode(this.executionMode).renderingMode(this.renderingMode))
+                .execute();
+    }
+
+    /**
+     * 引数として渡されたクラス名とネストの深さを基にDTO定義を生成します。
+     * <p>
+     * ネストの深さが1以上の場合は先頭のフィールドに子クラスを1件持つDTO定義を再帰的に生成します。
+     *
+     * @param className クラス名
+     * @param depth     ネストの深さ
+     * @return DTO定義
+     */
+    private DtoDefinition createDtoDefinition(String className, int depth) {
+
+        final DtoFieldGroup dtoFieldGroup = DtoFieldGroup.of();
+
+        for (int i = 0; i < this.fieldCount; i++) {
+            final boolean hasChild = i == 0 && depth > 0;
+            final String dataType = hasChild ? className + "Child" : i % 2 == 0 ? "String" : "int";
+            final String initialValue = hasChild ? "null" : i % 2 == 0 ? "\"\"" : "0";
+            final DtoField dtoField = DtoField.of("field" + i, dataType, initialValue, i % 3 == 0, "項目" + i);
+
+            if (hasChild) {
+                dtoField.setChildDtoDefinitionGroup(
+                        DtoDefinitionGroup.of().add(this.createDtoDefinition(className + "Child", depth - 1)));
+            }
+
+            dtoFieldGroup.add(dtoField);
+        }
+
+        final DtoDefinition dtoDefinition = new DtoDefinition();
+        dtoDefinition.setClassName(className);
+        dtoDefinition.setDescription(className + "の説明");
+        dtoDefinition.setDtoFieldGroup(dtoFieldGroup);
+
+        return dtoDefinition;
+    }
+}
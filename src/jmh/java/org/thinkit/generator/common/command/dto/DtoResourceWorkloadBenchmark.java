@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.generator.common.catalog.dto.ExecutionMode;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.catalog.dto.WorkloadProfile;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoResource;
+import org.thinkit.generator.common.vo.dto.DtoResourceGroup;
+
+/**
+ * {@link DtoMatrixWorkloadGenerator} が生成する合成DTOマトリクスを入力として {@link DtoResourceFormatter#execute()}
+ * の性能を測定するベンチマーククラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DtoResourceWorkloadBenchmark {
+
+    /**
+     * プロファイル
+     */
+    @Param({ "SMALL", "WIDE", "DEEP", "ENTERPRISE" })
+    private WorkloadProfile workloadProfile;
+
+    /**
+     * 実行モード
+     */
+    @Param({ "SEQUENTIAL", "PARALLEL" })
+    private ExecutionMode executionMode;
+
+    /**
+     * 描画モード
+     */
+    @Param({ "FORMATTER", "PREFORMATTED" })
+    private RenderingMode renderingMode;
+
+    /**
+     * DTOマトリクス
+     */
+    private DtoMatrix dtoMatrix;
+
+    /**
+     * 測定対象のDTOマトリクスを生成し、DTOリソースグループを生成できることを確認します。
+     * <p>
+     * 描画モードが {@link RenderingMode#FORMATTER} 以外の場合は、生成した各DTOリソースがフォーマッタによる整形結果と一致することも確認します。
+     *
+     * @throws IllegalStateException DTOリソースグループの生成に失敗した場合、またはフォーマッタによる整形結果と一致しない場合
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        this.dtoMatrix = DtoMatrixWorkloadGenerator.of(this.workloadProfile).execute();
+
+        final DtoResourceGroup dtoResourceGroup = this.execute();
+
+        if (dtoResourceGroup == null) {
+            throw new IllegalStateException("DTOリソースの生成に失敗しました。");
+        }
+
+        if (this.renderingMode != RenderingMode.FORMATTER) {
+            this.verify(dtoResourceGroup);
+        }
+    }
+
+    /**
+     * 引数として渡されたDTOリソースグループが、同一のDTOマトリクスをフォーマッタで整形したDTOリソースグループと一致するか検証します。
+     *
+     * @param dtoResourceGroup DTOリソースグループ
+     *
+     * @throws IllegalStateException フォーマッタによる整形結果と一致しない場合
+     */
+    private void verify(DtoResourceGroup dtoResourceGroup) {
+
+        final DtoResourceGroup expectedResourceGroup = DtoResourceFormatter.of(this.dtoMatrix,
+                DtoResourceFormatterOptions.of().executionMode(this.executionMode)
+                        .renderingMode(RenderingMode.FORMATTER))
+                .execute();
+
+        if (expectedResourceGroup == null || expectedResourceGroup.size() != dtoResourceGroup.size()) {
+            throw new IllegalStateException("フォーマッタによるDTOリソースの生成結果と件数が一致しません。");
+        }
+
+        for (int i = 0, size = dtoResourceGroup.size(); i < size; i++) {
+            final DtoResource expectedResource = expectedResourceGroup.get(i);
+            final DtoResource dtoResource = dtoResourceGroup.get(i);
+
+            if (!expectedResource.getResourceName().equals(dtoResource.getResourceName())
+                    || !expectedResource.getResource().equals(dtoResource.getResource())) {
+                throw new IllegalStateException(String.format(
+                        "DTOリソースがフォーマッタの出力と一致しません。クラス名 = (%s)", dtoResource.getResourceName()));
+            }
+        }
+    }
+
+    /**
+     * DTOマトリクスを整形しDTOリソースグループを生成します。
+     *
+     * @return DTOリソースグループ
+     */
+    @Benchmark
+    public DtoResourceGroup execute() {
+        return DtoResourceFormatter.of(this.dtoMatrix,
+                DtoResourceFormatterOptions.of().executionMode(this.executionMode).renderingMode(this.renderingMode))
+                .execute();
+    }
+}
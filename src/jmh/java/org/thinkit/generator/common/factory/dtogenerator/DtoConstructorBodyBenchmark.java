@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.factory.dtogenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.generator.common.factory.resource.Constructor;
+import org.thinkit.generator.common.factory.resource.ResourceFactory;
+
+/**
+ * 項目数の多いDTOクラスのコンストラクタ本体の生成処理の性能を測定するベンチマーククラスです。
+ * <p>
+ * 全ての項目を処理する必須引数有りのコンストラクタとコピーコンストラクタを生成し、コンストラクタ処理の生成に伴う
+ * 一時オブジェクトの生成量を測定します。ビルド設定では {@code gc} プロファイラを有効にしているため、
+ * 結果の {@code gc.alloc.rate.norm} で1回あたりの割り当て量を確認できます。単独で実行する場合は {@code -prof gc} を指定してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoConstructorBodyBenchmark {
+
+    /**
+     * DTOクラスの項目数
+     */
+    @Param({ "10", "100", "500" })
+    private int fieldCount;
+
+    /**
+     * 必須引数有りのコンストラクタ
+     */
+    private Constructor requiredConstructor;
+
+    /**
+     * コピーコンストラクタ
+     */
+    private Constructor copyingConstructor;
+
+    /**
+     * 測定対象のコンストラクタを生成します。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
+
+        this.requiredConstructor = resourceFactory.createConstructor("WideDto",
+                resourceFactory.createFunctionDescription("Constructor"));
+        this.copyingConstructor = resourceFactory.createConstructor("WideDto",
+                resourceFactory.createFunctionDescription("Copying constructor"));
+        this.copyingConstructor.add(resourceFactory.createParameter("WideDto", "wideDto"));
+
+        for (int i = 0; i < this.fieldCount; i++) {
+            final String variableName = "wideField" + i;
+            this.requiredConstructor.add(resourceFactory.createDescriptionTag(variableName, "項目" + i));
+            this.requiredConstructor.add(resourceFactory.createParameter("String", variableName));
+            this.requiredConstructor.add(resourceFactory.createConstructorProcess(variableName).toRequired());
+            this.copyingConstructor
+                    .add(resourceFactory.createConstructorProcess("wideDto", variableName).toCopying());
+        }
+    }
+
+    /**
+     * 必須引数有りのコンストラクタのリソースを生成します。
+     *
+     * @return コンストラクタのリソース
+     */
+    @Benchmark
+    public String requiredConstructor() {
+        return this.requiredConstructor.createResource();
+    }
+
+    /**
+     * コピーコンストラクタのリソースを生成します。
+     *
+     * @return コンストラクタのリソース
+     */
+    @Benchmark
+    public String copyingConstructor() {
+        return this.copyingConstructor.createResource();
+    }
+
+    /**
+     * 整形済みのコピーコンストラクタのリソースを生成します。
+     *
+     * @return 整形済みのコンストラクタのリソース
+     */
+    @Benchmark
+    public String formattedCopyingConstructor() {
+        return ((FormattedResource) this.copyingConstructor).createFormattedResource(1);
+    }
+}
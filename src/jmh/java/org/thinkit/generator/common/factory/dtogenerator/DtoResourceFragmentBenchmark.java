@@ -0,0 +1,292 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.factory.dtogenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.generator.common.factory.dtogenerator.strategy.CopyingConstructorProcess;
+import org.thinkit.generator.common.factory.dtogenerator.strategy.DefaultConstructorProcess;
+import org.thinkit.generator.common.factory.dtogenerator.strategy.RequiredConstructorProcess;
+import org.thinkit.generator.common.factory.resource.Constructor;
+import org.thinkit.generator.common.factory.resource.ConstructorProcess;
+import org.thinkit.generator.common.factory.resource.Copyright;
+import org.thinkit.generator.common.factory.resource.FieldDefinition;
+import org.thinkit.generator.common.factory.resource.ResourceFactory;
+import org.thinkit.generator.common.factory.resource.strategy.ConstructorProcessStrategy;
+
+/**
+ * DTOリソースを構成する各リソースの生成処理の性能を個別に測定するベンチマーククラスです。
+ * <p>
+ * 著作権、ヘッダーテンプレートから生成した著作権、フィールド定義、コンストラクタおよびコンストラクタ処理の各ストラテジーについて、
+ * フォーマッタへ渡すソースコードを生成する {@code createResource()} と整形済みのソースコードを生成する
+ * {@code createFormattedResource()} を測定します。
+ * コンストラクタはパラメータ数を変化させて測定するため、パラメータ数を {@link ConstructorState} に分離し、
+ * 他のリソースの測定回数が増えないようにしています。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoResourceFragmentBenchmark {
+
+    /**
+     * 著作権
+     */
+    private Copyright copyright;
+
+    /**
+     * ヘッダーテンプレート
+     */
+    private DtoHeaderTemplate headerTemplate;
+
+    /**
+     * フィールド定義
+     */
+    private FieldDefinition fieldDefinition;
+
+    /**
+     * 必須引数有りのコンストラクタ処理
+     */
+    private ConstructorProcess requiredConstructorProcess;
+
+    /**
+     * コピーコンストラクタ処理
+     */
+    private ConstructorProcess copyingConstructorProcess;
+
+    /**
+     * 必須引数有りのコンストラクタ処理ストラテジー
+     */
+    private ConstructorProcessStrategy requiredConstructorProcessStrategy;
+
+    /**
+     * コピーコンストラクタ処理ストラテジー
+     */
+    private ConstructorProcessStrategy copyingConstructorProcessStrategy;
+
+    /**
+     * デフォルトのコンストラクタ処理ストラテジー
+     */
+    private ConstructorProcessStrategy defaultConstructorProcessStrategy;
+
+    /**
+     * 測定対象のリソースを生成します。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
+
+        this.copyright = resourceFactory.createCopyright("benchmark", "BenchmarkDto.java", "UTF-8", "Kato Shinya",
+                "2020/09/01");
+        this.headerTemplate = DtoHeaderTemplate.of("benchmark", "UTF-8", "Kato Shinya", "2020/09/01",
+                "Benchmark data transfer object", "1.0");
+        this.fieldDefinition = resourceFactory.createFieldDefinition("String", "benchmarkField", "\"\"");
+        this.requiredConstructorProcess = resourceFactory.createConstructorProcess("benchmarkField").toRequired();
+        this.copyingConstructorProcess = resourceFactory.createConstructorProcess("benchmarkDto", "benchmarkField")
+                .toCopying();
+        this.requiredConstructorProcessStrategy = new RequiredConstructorProcess();
+        this.copyingConstructorProcessStrategy = new CopyingConstructorProcess();
+        this.defaultConstructorProcessStrategy = new DefaultConstructorProcess();
+    }
+
+    /**
+     * 著作権のリソースを生成します。
+     *
+     * @return 著作権のリソース
+     */
+    @Benchmark
+    public String copyright() {
+        return this.copyright.createResource();
+    }
+
+    /**
+     * 整形済みの著作権のリソースを生成します。
+     *
+     * @return 整形済みの著作権のリソース
+     */
+    @Benchmark
+    public String formattedCopyright() {
+        return ((FormattedResource) this.copyright).createFormattedResource();
+    }
+
+    /**
+     * ヘッダーテンプレートから著作権を生成し、そのリソースを生成します。
+     *
+     * @return 著作権のリソース
+     */
+    @Benchmark
+    public String templatedCopyright() {
+        return this.headerTemplate.createCopyright("BenchmarkDto.java").createResource();
+    }
+
+    /**
+     * ヘッダーテンプレートから著作権を生成し、整形済みのリソースを生成します。
+     *
+     * @return 整形済みの著作権のリソース
+     */
+    @Benchmark
+    public String formattedTemplatedCopyright() {
+        return ((FormattedResource) this.headerTemplate.createCopyright("BenchmarkDto.java"))
+                .createFormattedResource();
+    }
+
+    /**
+     * フィールド定義のリソースを生成します。
+     *
+     * @return フィールド定義のリソース
+     */
+    @Benchmark
+    public String fieldDefinition() {
+        return this.fieldDefinition.createResource();
+    }
+
+    /**
+     * 整形済みのフィールド定義のリソースを生成します。
+     *
+     * @return 整形済みのフィールド定義のリソース
+     */
+    @Benchmark
+    public String formattedFieldDefinition() {
+        return ((FormattedResource) this.fieldDefinition).createFormattedResource(1);
+    }
+
+    /**
+     * 必須引数有りのコンストラクタのリソースを生成します。
+     *
+     * @param constructorState コンストラクタの測定状態
+     * @return コンストラクタのリソース
+     */
+    @Benchmark
+    public String constructor(ConstructorState constructorState) {
+        return constructorState.requiredConstructor.createResource();
+    }
+
+    /**
+     * 整形済みの必須引数有りのコンストラクタのリソースを生成します。
+     *
+     * @param constructorState コンストラクタの測定状態
+     * @return 整形済みのコンストラクタのリソース
+     */
+    @Benchmark
+    public String formattedConstructor(ConstructorState constructorState) {
+        return ((FormattedResource) constructorState.requiredConstructor).createFormattedResource(1);
+    }
+
+    /**
+     * 必須引数有りのコンストラクタ処理のリソースを生成します。
+     *
+     * @return 必須引数有りのコンストラクタ処理のリソース
+     */
+    @Benchmark
+    public String requiredConstructorProcess() {
+        return this.requiredConstructorProcess.createResource();
+    }
+
+    /**
+     * コピーコンストラクタ処理のリソースを生成します。
+     *
+     * @return コピーコンストラクタ処理のリソース
+     */
+    @Benchmark
+    public String copyingConstructorProcess() {
+        return this.copyingConstructorProcess.createResource();
+    }
+
+    /**
+     * 必須引数有りのコンストラクタ処理ストラテジーでコンストラクタ処理を生成します。
+     *
+     * @return コンストラクタ処理
+     */
+    @Benchmark
+    public String requiredConstructorProcessStrategy() {
+        return this.requiredConstructorProcessStrategy.toConstructorProcess("benchmarkField", "benchmarkField");
+    }
+
+    /**
+     * コピーコンストラクタ処理ストラテジーでコンストラクタ処理を生成します。
+     *
+     * @return コンストラクタ処理
+     */
+    @Benchmark
+    public String copyingConstructorProcessStrategy() {
+        return this.copyingConstructorProcessStrategy.toConstructorProcess("benchmarkDto", "benchmarkField");
+    }
+
+    /**
+     * デフォルトのコンストラクタ処理ストラテジーでコンストラクタ処理を生成します。
+     *
+     * @return コンストラクタ処理
+     */
+    @Benchmark
+    public String defaultConstructorProcessStrategy() {
+        return this.defaultConstructorProcessStrategy.toConstructorProcess("benchmarkField", "benchmarkField");
+    }
+
+    /**
+     * パラメータ数を変化させてコンストラクタを測定するための状態クラスです。
+     */
+    @State(Scope.Thread)
+    public static class ConstructorState {
+
+        /**
+         * コンストラクタのパラメータ数
+         */
+        @Param({ "1", "10", "50" })
+        private int parameterCount;
+
+        /**
+         * 必須引数有りのコンストラクタ
+         */
+        private Constructor requiredConstructor;
+
+        /**
+         * 測定対象のコンストラクタを生成します。
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+
+            final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
+
+            this.requiredConstructor = resourceFactory.createConstructor("BenchmarkDto",
+                    resourceFactory.createFunctionDescription("Constructor"));
+
+            for (int i = 0; i < this.parameterCount; i++) {
+                final String variableName = "field" + i;
+                this.requiredConstructor.add(resourceFactory.createDescriptionTag(variableName, "項目" + i));
+                this.requiredConstructor.add(resourceFactory.createParameter("String", variableName));
+                this.requiredConstructor.add(resourceFactory.createConstructorProcess(variableName).toRequired());
+            }
+        }
+    }
+}
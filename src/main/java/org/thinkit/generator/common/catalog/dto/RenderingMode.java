@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.catalog.dto;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DTOリソースを生成する際の描画モードを管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public enum RenderingMode implements Catalog<RenderingMode> {
+
+    /**
+     * フォーマッタによる整形
+     */
+    FORMATTER(0),
+
+    /**
+     * 整形済みリソースの直接生成
+     */
+    PREFORMATTED(1),
+
+    /**
+     * 整形済みリソースの直接生成とフォーマッタによる検証
+     */
+    VERIFIED_PREFORMATTED(2);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.catalog.dto;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 性能測定や負荷試験で使用するDTOマトリクスの規模を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public enum WorkloadProfile implements Catalog<WorkloadProfile> {
+
+    /**
+     * 少数のクラスと少数のフィールドで構成される小規模な構成
+     */
+    SMALL(0),
+
+    /**
+     * 数百のフィールドを持つクラスで構成される構成
+     */
+    WIDE(1),
+
+    /**
+     * 子クラスが深くネストされたクラスで構成される構成
+     */
+    DEEP(2),
+
+    /**
+     * 数千のクラスと多様なフィールドで構成される大規模な構成
+     */
+    ENTERPRISE(3);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
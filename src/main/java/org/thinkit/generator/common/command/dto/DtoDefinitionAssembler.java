@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldRow;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 階層付きのDTOフィールドを定義順に受け取り、ネストされたDTO定義を1回の走査で組み立てるクラスです。
+ * <p>
+ * 階層 {@code 1} のDTOフィールドはルートのDTO定義に属します。階層 {@code n} のDTOフィールドの直後に階層 {@code n + 1}
+ * のDTOフィールドが続く場合、階層 {@code n} のDTOフィールドは子DTO定義を持ち、子DTO定義のクラス名と説明には
+ * そのDTOフィールドのデータ型と説明が使用されます。
+ * <p>
+ * 組み立て中のDTO定義は階層ごとのスタックで管理され、各DTOフィールドは1回のみ処理されるため、処理時間はDTOフィールド数に比例します。
+ * 文字列は {@link DtoSymbolTable} で集約されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+final class DtoDefinitionAssembler {
+
+    /**
+     * 列指向のDTOフィールドグループを使用するフィールド数の下限
+     */
+    private static final int COLUMNAR_FIELD_COUNT = 100;
+
+    /**
+     * DTOシンボルテーブル
+     */
+    @ToString.Exclude
+    private final DtoSymbolTable dtoSymbolTable;
+
+    /**
+     * 組み立て中のDTO定義のスタック。インデックスは階層から {@code 1} を引いた値です。
+     */
+    @ToString.Exclude
+    private final List<AssemblingFrame> assemblingFrames = new ArrayList<>();
+
+    /**
+     * 追加されたDTOフィールドの件数
+     */
+    private int fieldCount;
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoSymbolTable DTOシンボルテーブル
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoDefinitionAssembler(@NonNull DtoSymbolTable dtoSymbolTable) {
+        this.dtoSymbolTable = dtoSymbolTable;
+    }
+
+    /**
+     * 引数として渡された行のDTOフィールドを組み立て中のDTO定義へ追加します。
+     * <p>
+     * 階層が直前の行より1つ深い場合は直前の行のDTOフィールドが持つ子DTO定義の組み立てを開始し、
+     * 直前の行より浅い場合は深い階層のDTO定義の組み立てを完了します。
+     *
+     * @param dtoFieldRow DTO定義ファイルの行
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 階層が {@code 1} 未満の場合、または直前の行の階層より2以上深い場合
+     */
+    void add(@NonNull DtoFieldRow dtoFieldRow) {
+
+        final int layer = dtoFieldRow.getLayer();
+        final int depth = this.assemblingFrames.size();
+
+        if (layer < 1 || layer > depth + 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s行目の階層が不正です。階層は1以上かつ直前の行の階層 + 1以下である必要があります。階層 = (%s)、直前の階層 = (%s)",
+                    dtoFieldRow.getRowNumber(), layer, depth));
+        }
+
+        if (layer == depth + 1) {
+            final DtoField ownerDtoField = depth == 0 ? null : this.assemblingFrames.get(depth - 1).lastDtoField;
+            this.assemblingFrames.add(new AssemblingFrame(ownerDtoField));
+        }
+
+        while (this.assemblingFrames.size() > layer) {
+            this.completeFrame();
+        }
+
+        final DtoField dtoField = this.dtoSymbolTable.createDtoField(dtoFieldRow.getVariableName(),
+                dtoFieldRow.getDataType(), dtoFieldRow.getInitialValue(), dtoFieldRow.isInvariant(),
+                dtoFieldRow.getDescription());
+        final AssemblingFrame frame = this.assemblingFrames.get(layer - 1);
+
+        frame.dtoFieldGroup.add(dtoField);
+        frame.lastDtoField = dtoField;
+        this.fieldCount++;
+    }
+
+    /**
+     * 組み立てを完了し、引数として渡されたクラス名と説明を持つルートのDTO定義を返却します。
+     * <p>
+     * DTOフィールドが1件も追加されていない場合はDTOフィールドを持たないDTO定義を返却します。
+     *
+     * @param className   ルートのDTO定義のクラス名
+     * @param description ルートのDTO定義の説明
+     * @return ルートのDTO定義
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoDefinition complete(@NonNull String className, @NonNull String description) {
+
+        while (this.assemblingFrames.size() > 1) {
+            this.completeFrame();
+        }
+
+        final DtoFieldGroup dtoFieldGroup = this.assemblingFrames.isEmpty() ? DtoFieldGroup.of()
+                : toCompactDtoFieldGroup(this.assemblingFrames.remove(0).dtoFieldGroup);
+
+        return this.dtoSymbolTable.createDtoDefinition(className, description, dtoFieldGroup);
+    }
+
+    /**
+     * 追加されたDTOフィールドの件数を返却します。
+     *
+     * @return 追加されたDTOフィールドの件数
+     */
+    int getFieldCount() {
+        return this.fieldCount;
+    }
+
+    /**
+     * スタックの最上位のDTO定義の組み立てを完了し、子DTO定義として所有するDTOフィールドへ設定します。
+     */
+    private void completeFrame() {
+
+        final AssemblingFrame frame = this.assemblingFrames.remove(this.assemblingFrames.size() - 1);
+        final DtoField ownerDtoField = frame.ownerDtoField;
+        final DtoDefinition childDtoDefinition = this.dtoSymbolTable.createDtoDefinition(ownerDtoField.getDataType(),
+                ownerDtoField.getDescription(), toCompactDtoFieldGroup(frame.dtoFieldGroup));
+
+        ownerDtoField.setChildDtoDefinitionGroup(DtoDefinitionGroup.of().add(childDtoDefinition));
+    }
+
+    /**
+     * 組み立てが完了したDTOフィールドグループを返却します。フィールド数が多い場合は列指向のDTOフィールドグループへ変換します。
+     *
+     * @param dtoFieldGroup DTOフィールドグループ
+     * @return 組み立てが完了したDTOフィールドグループ
+     */
+    static DtoFieldGroup toCompactDtoFieldGroup(DtoFieldGroup dtoFieldGroup) {
+        return dtoFieldGroup.size() >= COLUMNAR_FIELD_COUNT ? DtoFieldGroup.ofColumnar(dtoFieldGroup) : dtoFieldGroup;
+    }
+
+    /**
+     * 組み立て中の1件のDTO定義を管理するクラスです。
+     */
+    private static final class AssemblingFrame {
+
+        /**
+         * 子DTO定義として所有するDTOフィールド。ルートのDTO定義の場合は {@code null}
+         */
+        private final DtoField ownerDtoField;
+
+        /**
+         * DTOフィールドグループ
+         */
+        private final DtoFieldGroup dtoFieldGroup = DtoFieldGroup.of();
+
+        /**
+         * 最後に追加されたDTOフィールド
+         */
+        private DtoField lastDtoField;
+
+        /**
+         * コンストラクタ
+         *
+         * @param ownerDtoField 子DTO定義として所有するDTOフィールド。ルートのDTO定義の場合は {@code null}
+         */
+        private AssemblingFrame(DtoField ownerDtoField) {
+            this.ownerDtoField = ownerDtoField;
+        }
+    }
+}
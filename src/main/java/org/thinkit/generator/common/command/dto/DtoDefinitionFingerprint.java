@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+
+import lombok.NonNull;
+
+/**
+ * DTO定義の構造から安定したフィンガープリントを算出するユーティリティクラスです。
+ * <p>
+ * フィンガープリントは出力形式のバージョン、DTO定義のクラス名、説明、各DTOフィールドの情報、DTOメタ、DTO作成者および描画モードを基に
+ * SHA-256で算出されます。
+ * 生成されるリソースはDTO定義自身のDTOフィールドのみに依存するため、子DTO定義グループは対象外です。そのため算出に要する時間は
+ * DTO定義自身のDTOフィールド数に比例し、ネストの深さには依存しません。
+ * <p>
+ * 各文字列は長さを前置して連結されるため、値の区切り位置が異なる定義が同一のフィンガープリントになることはありません。
+ * 同一の構造を持つDTO定義からは実行環境に関わらず同一のフィンガープリントが算出されます。
+ * <p>
+ * DTO定義が同一でもエンジンの変更によって生成されるリソースが変わる場合は {@link #FORMAT_VERSION} を更新してください。
+ * 更新前のマニフェストに記録されたフィンガープリントは全て一致しなくなるため、既存のjavaファイルは次回の実行時に再生成されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class DtoDefinitionFingerprint {
+
+    /**
+     * {@code null} を表す長さ
+     */
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * 生成されるリソースの出力形式のバージョン
+     */
+    static final int FORMAT_VERSION = 2;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoDefinitionFingerprint() {
+    }
+
+    /**
+     * 引数として渡された情報を基にDTO定義のフィンガープリントを算出し16進数の文字列として返却します。
+     *
+     * @param dtoMeta       DTOメタ
+     * @param dtoCreator    DTO作成者
+     * @param renderingMode 描画モード
+     * @param dtoDefinition DTO定義
+     * @return DTO定義のフィンガープリント
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static String of(@NonNull DtoMeta dtoMeta, @NonNull DtoCreator dtoCreator, @NonNull RenderingMode renderingMode,
+            @NonNull DtoDefinition dtoDefinition) {
+
+        final Hasher hasher = Hashing.sha256().newHasher();
+
+        hasher.putInt(FORMAT_VERSION);
+        putString(hasher, dtoMeta.getVersion());
+        putString(hasher, dtoMeta.getProjectName());
+        putString(hasher, dtoMeta.getPackageName());
+        putString(hasher, dtoMeta.getPhysicalName());
+        putString(hasher, dtoMeta.getLogicalName());
+        putString(hasher, dtoMeta.getDescription());
+        putString(hasher, dtoCreator.getCreator());
+        putString(hasher, dtoCreator.getCreationDate());
+        putString(hasher, dtoCreator.getUpdateDate());
+        hasher.putInt(renderingMode.getCode());
+        putDtoDefinition(hasher, dtoDefinition);
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * DTO定義のクラス名、説明および各DTOフィールドの情報をハッシュ計算へ追加します。
+     * <p>
+     * 子DTO定義グループは走査しません。子DTO定義のクラス名はDTOフィールドのデータ型としてハッシュ計算へ追加されます。
+     *
+     * @param hasher        ハッシュ計算オブジェクト
+     * @param dtoDefinition DTO定義
+     */
+    private static void putDtoDefinition(Hasher hasher, DtoDefinition dtoDefinition) {
+
+        putString(hasher, dtoDefinition.getClassName());
+        putString(hasher, dtoDefinition.getDescription());
+
+        final DtoFieldGroup dtoFieldGroup = dtoDefinition.getDtoFieldGroup();
+
+        if (dtoFieldGroup == null) {
+            hasher.putInt(NULL_LENGTH);
+            return;
+        }
+
+        hasher.putInt(dtoFieldGroup.size());
+
+        for (DtoField dtoField : dtoFieldGroup) {
+            putString(hasher, dtoField.getVariableName());
+            putString(hasher, dtoField.getDataType());
+            putString(hasher, dtoField.getInitialValue());
+            hasher.putBoolean(dtoField.isInvariant());
+            putString(hasher, dtoField.getDescription());
+        }
+    }
+
+    /**
+     * 文字列を長さを前置してハッシュ計算へ追加します。
+     *
+     * @param hasher ハッシュ計算オブジェクト
+     * @param value  文字列
+     */
+    private static void putString(Hasher hasher, String value) {
+
+        if (value == null) {
+            hasher.putInt(NULL_LENGTH);
+            return;
+        }
+
+        hasher.putInt(value.length());
+        hasher.putString(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.stream.Stream;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoFieldRow;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 定義順に並んだDTO定義ファイルの行から、ネストされたDTO定義グループを生成するコマンドクラスです。
+ * <p>
+ * 階層 {@code 1} の行はルートのDTO定義のフィールドです。階層 {@code n} の行の直後に階層 {@code n + 1} の行が続く場合、
+ * 階層 {@code n} のDTOフィールドはそのデータ型をクラス名とし、説明を説明とする子DTO定義を持ちます。
+ * 組み立て中のDTO定義は階層ごとのスタックで管理され、各行は1回のみ処理されるため、処理時間は行数に比例します。
+ * <p>
+ * 階層が {@code 1} 未満の行、または直前の行より2以上深い階層の行が存在する場合は、該当する行の行番号と階層をログへ出力し
+ * {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoDefinitionTreeBuilder implements Command<DtoDefinitionGroup> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * DTO定義ファイルの行
+     */
+    private Stream<DtoFieldRow> dtoFieldRows;
+
+    /**
+     * ルートのDTO定義のクラス名
+     */
+    private String className;
+
+    /**
+     * ルートのDTO定義の説明
+     */
+    private String description;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoDefinitionTreeBuilder() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoFieldRows 定義順に並んだDTO定義ファイルの行
+     * @param className    ルートのDTO定義のクラス名
+     * @param description  ルートのDTO定義の説明
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoDefinitionTreeBuilder(@NonNull final Stream<DtoFieldRow> dtoFieldRows, @NonNull final String className,
+            @NonNull final String description) {
+        this.dtoFieldRows = dtoFieldRows;
+        this.className = className;
+        this.description = description;
+    }
+
+    /**
+     * 引数として渡された情報を基に {@link DtoDefinitionTreeBuilder} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * {@code dtoFieldRows} は {@link #execute()} の呼び出し時に定義順に1回のみ消費されます。
+     *
+     * @param dtoFieldRows 定義順に並んだDTO定義ファイルの行
+     * @param className    ルートのDTO定義のクラス名
+     * @param description  ルートのDTO定義の説明
+     * @return {@link DtoDefinitionTreeBuilder} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoDefinitionGroup> of(@NonNull final Stream<DtoFieldRow> dtoFieldRows,
+            @NonNull final String className, @NonNull final String description) {
+        return new DtoDefinitionTreeBuilder(dtoFieldRows, className, description);
+    }
+
+    @Override
+    public DtoDefinitionGroup execute() {
+
+        final DtoDefinitionAssembler dtoDefinitionAssembler = new DtoDefinitionAssembler(DtoSymbolTable.of());
+
+        try {
+            this.dtoFieldRows.forEachOrdered(dtoDefinitionAssembler::add);
+        } catch (IllegalArgumentException e) {
+            logger.atSevere().withCause(e).log("DTO定義の階層が不正です。クラス名 = (%s)", this.className);
+            return null;
+        }
+
+        final DtoDefinition dtoDefinition = dtoDefinitionAssembler.complete(this.className, this.description);
+
+        logger.atFinest().log("DTO定義を生成しました。クラス名 = (%s)、DTOフィールド件数 = (%s)", this.className,
+                dtoDefinitionAssembler.getFieldCount());
+        return DtoDefinitionGroup.of().add(dtoDefinition);
+    }
+}
@@ -0,0 +1,1053 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * UTF-8でエンコードされたJSONをバイトストリームから逐次読み込むプルパーサです。
+ * <p>
+ * 中間的なツリー構造を生成せず、呼び出し側が要求した順にトークンを読み込みます。プロパティ名は文字列を生成せずに
+ * 事前にエンコードされた候補と比較され、文字列値は値を要求された時点でのみ生成されます。
+ * 入れ子の状態は配列で管理されるため、入れ子の深さに関わらず {@link StackOverflowError} は発生しません。
+ * <p>
+ * 入力ストリームはこのクラスが保持するバッファを介して読み込まれるため、呼び出し側でバッファリングする必要はありません。
+ * 入力ストリームはこのクラスでは閉じられません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class DtoJsonParser {
+
+    /**
+     * JSONのトークン
+     */
+    enum Token {
+
+        /**
+         * オブジェクトの開始
+         */
+        BEGIN_OBJECT,
+
+        /**
+         * オブジェクトの終了
+         */
+        END_OBJECT,
+
+        /**
+         * 配列の開始
+         */
+        BEGIN_ARRAY,
+
+        /**
+         * 配列の終了
+         */
+        END_ARRAY,
+
+        /**
+         * プロパティ名
+         */
+        NAME,
+
+        /**
+         * 文字列
+         */
+        STRING,
+
+        /**
+         * 数値
+         */
+        NUMBER,
+
+        /**
+         * 真
+         */
+        TRUE,
+
+        /**
+         * 偽
+         */
+        FALSE,
+
+        /**
+         * null
+         */
+        NULL,
+
+        /**
+         * 文書の終了
+         */
+        END_DOCUMENT
+    }
+
+    /**
+     * バッファサイズ
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * 空の配列のスコープ
+     */
+    private static final int EMPTY_ARRAY = 0;
+
+    /**
+     * 要素を含む配列のスコープ
+     */
+    private static final int NONEMPTY_ARRAY = 1;
+
+    /**
+     * 空のオブジェクトのスコープ
+     */
+    private static final int EMPTY_OBJECT = 2;
+
+    /**
+     * プロパティ名の直後のスコープ
+     */
+    private static final int DANGLING_NAME = 3;
+
+    /**
+     * プロパティを含むオブジェクトのスコープ
+     */
+    private static final int NONEMPTY_OBJECT = 4;
+
+    /**
+     * 空の文書のスコープ
+     */
+    private static final int EMPTY_DOCUMENT = 5;
+
+    /**
+     * 値を含む文書のスコープ
+     */
+    private static final int NONEMPTY_DOCUMENT = 6;
+
+    /**
+     * 真を表すリテラル
+     */
+    private static final byte[] TRUE_LITERAL = "true".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 偽を表すリテラル
+     */
+    private static final byte[] FALSE_LITERAL = "false".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * nullを表すリテラル
+     */
+    private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 入力ストリーム
+     */
+    private final InputStream inputStream;
+
+    /**
+     * 読み込みバッファ
+     */
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * 読み込みバッファ内の読み込み位置
+     */
+    private int position;
+
+    /**
+     * 読み込みバッファ内の有効なバイト数
+     */
+    private int limit;
+
+    /**
+     * 読み込みバッファの先頭の入力ストリーム内の位置
+     */
+    @ToString.Include
+    private long bufferOffset;
+
+    /**
+     * 入れ子のスコープのスタック
+     */
+    private int[] scopes = new int[32];
+
+    /**
+     * 入れ子の深さ
+     */
+    @ToString.Include
+    private int depth;
+
+    /**
+     * 文字列と数値の読み込みに使用する作業用バッファ
+     */
+    private byte[] scratch = new byte[256];
+
+    /**
+     * 作業用バッファ内の有効なバイト数
+     */
+    private int scratchLength;
+
+    /**
+     * 先読みしたトークン
+     */
+    @ToString.Include
+    private Token peeked;
+
+    /**
+     * コンストラクタ
+     *
+     * @param inputStream 入力ストリーム
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoJsonParser(@NonNull InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.scopes[this.depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * 引数として渡されたプロパティ名をUTF-8でエンコードし、 {@link #nextName(byte[][])} の候補として返却します。
+     *
+     * @param names プロパティ名
+     * @return エンコードされたプロパティ名
+     */
+    static byte[][] encodeNames(@NonNull String... names) {
+
+        final byte[][] encodedNames = new byte[names.length][];
+
+        for (int i = 0; i < names.length; i++) {
+            encodedNames[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+
+        return encodedNames;
+    }
+
+    /**
+     * 次のトークンを消費せずに返却します。
+     *
+     * @return 次のトークン
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合
+     */
+    Token peek() throws IOException {
+
+        if (this.peeked != null) {
+            return this.peeked;
+        }
+
+        final int scope = this.scopes[this.depth - 1];
+
+        switch (scope) {
+            case EMPTY_ARRAY -> {
+                this.scopes[this.depth - 1] = NONEMPTY_ARRAY;
+
+                if (this.nextNonWhitespace() == ']') {
+                    this.position++;
+                    return this.peeked = Token.END_ARRAY;
+                }
+            }
+            case NONEMPTY_ARRAY -> {
+                final int current = this.nextNonWhitespace();
+
+                if (current == ']') {
+                    this.position++;
+                    return this.peeked = Token.END_ARRAY;
+                }
+
+                if (current != ',') {
+                    throw this.syntaxError("',' または ']' が必要です。");
+                }
+
+                this.position++;
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                int current = this.nextNonWhitespace();
+
+                if (current == '}') {
+                    this.position++;
+                    return this.peeked = Token.END_OBJECT;
+                }
+
+                if (scope == NONEMPTY_OBJECT) {
+                    if (current != ',') {
+                        throw this.syntaxError("',' または '}' が必要です。");
+                    }
+
+                    this.position++;
+                    current = this.nextNonWhitespace();
+                }
+
+                if (current != '"') {
+                    throw this.syntaxError("プロパティ名が必要です。");
+                }
+
+                this.position++;
+                this.scopes[this.depth - 1] = DANGLING_NAME;
+                return this.peeked = Token.NAME;
+            }
+            case DANGLING_NAME -> {
+                if (this.nextNonWhitespace() != ':') {
+                    throw this.syntaxError("':' が必要です。");
+                }
+
+                this.position++;
+                this.scopes[this.depth - 1] = NONEMPTY_OBJECT;
+            }
+            case EMPTY_DOCUMENT -> {
+                this.skipByteOrderMark();
+                this.scopes[this.depth - 1] = NONEMPTY_DOCUMENT;
+            }
+            default -> {
+                if (this.nextNonWhitespace() == -1) {
+                    return this.peeked = Token.END_DOCUMENT;
+                }
+
+                throw this.syntaxError("文書の末尾に不正な文字が存在します。");
+            }
+        }
+
+        return this.peeked = this.peekValue();
+    }
+
+    /**
+     * 現在のオブジェクトまたは配列に次の要素が存在するか判定します。
+     *
+     * @return 次の要素が存在する場合は {@code true} 、それ以外は {@code false}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合
+     */
+    boolean hasNext() throws IOException {
+        final Token token = this.peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * オブジェクトの開始を読み込みます。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンがオブジェクトの開始ではない場合
+     */
+    void beginObject() throws IOException {
+        this.expect(Token.BEGIN_OBJECT);
+        this.push(EMPTY_OBJECT);
+    }
+
+    /**
+     * オブジェクトの終了を読み込みます。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンがオブジェクトの終了ではない場合
+     */
+    void endObject() throws IOException {
+        this.expect(Token.END_OBJECT);
+        this.depth--;
+    }
+
+    /**
+     * 配列の開始を読み込みます。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンが配列の開始ではない場合
+     */
+    void beginArray() throws IOException {
+        this.expect(Token.BEGIN_ARRAY);
+        this.push(EMPTY_ARRAY);
+    }
+
+    /**
+     * 配列の終了を読み込みます。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンが配列の終了ではない場合
+     */
+    void endArray() throws IOException {
+        this.expect(Token.END_ARRAY);
+        this.depth--;
+    }
+
+    /**
+     * 文書の終了を読み込みます。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 文書の末尾に値以外の文字が存在する場合
+     */
+    void endDocument() throws IOException {
+        this.expect(Token.END_DOCUMENT);
+    }
+
+    /**
+     * プロパティ名を読み込み、引数として渡された候補の中で一致するプロパティ名のインデックスを返却します。
+     * <p>
+     * プロパティ名はバイト列のまま候補と比較されるため、文字列は生成されません。
+     *
+     * @param names {@link #encodeNames(String...)} でエンコードされたプロパティ名の候補
+     * @return 一致するプロパティ名のインデックス。一致する候補が存在しない場合は {@code -1}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンがプロパティ名ではない場合
+     */
+    int nextName(@NonNull byte[][] names) throws IOException {
+
+        this.expect(Token.NAME);
+        this.readString();
+
+        for (int i = 0; i < names.length; i++) {
+            if (Arrays.equals(names[i], 0, names[i].length, this.scratch, 0, this.scratchLength)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 文字列を読み込みます。数値の場合は数値の表記をそのまま文字列として返却します。
+     *
+     * @return 文字列。値が {@code null} の場合は {@code null}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンが文字列、数値または {@code null} ではない場合
+     */
+    String nextString() throws IOException {
+
+        final Token token = this.peek();
+
+        switch (token) {
+            case STRING -> this.readString();
+            case NUMBER -> this.readNumber();
+            case NULL -> {
+                this.peeked = null;
+                return null;
+            }
+            default -> throw this.syntaxError(String.format("文字列が必要ですが %s が存在します。", token));
+        }
+
+        this.peeked = null;
+        return new String(this.scratch, 0, this.scratchLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 真偽値を読み込みます。値が {@code null} の場合は {@code false} を返却します。
+     *
+     * @return 真偽値
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンが真偽値または {@code null} ではない場合
+     */
+    boolean nextBoolean() throws IOException {
+
+        final Token token = this.peek();
+
+        if (token != Token.TRUE && token != Token.FALSE && token != Token.NULL) {
+            throw this.syntaxError(String.format("真偽値が必要ですが %s が存在します。", token));
+        }
+
+        this.peeked = null;
+        return token == Token.TRUE;
+    }
+
+    /**
+     * 次の値を読み飛ばします。値がオブジェクトまたは配列の場合は入れ子の値を含めて読み飛ばします。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合
+     */
+    void skipValue() throws IOException {
+
+        int count = 0;
+
+        do {
+            final Token token = this.peek();
+
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    this.beginObject();
+                    count++;
+                }
+                case BEGIN_ARRAY -> {
+                    this.beginArray();
+                    count++;
+                }
+                case END_OBJECT -> {
+                    this.endObject();
+                    count--;
+                }
+                case END_ARRAY -> {
+                    this.endArray();
+                    count--;
+                }
+                case NAME, STRING -> {
+                    this.readString();
+                    this.peeked = null;
+                }
+                case NUMBER -> {
+                    this.readNumber();
+                    this.peeked = null;
+                }
+                case TRUE, FALSE, NULL -> this.peeked = null;
+                default -> throw this.syntaxError("値が必要です。");
+            }
+        } while (count > 0);
+    }
+
+    /**
+     * 次のトークンが引数として渡されたトークンであることを検証し、消費します。
+     *
+     * @param token 期待するトークン
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 次のトークンが期待するトークンではない場合
+     */
+    private void expect(Token token) throws IOException {
+
+        final Token actual = this.peek();
+
+        if (actual != token) {
+            throw this.syntaxError(String.format("%s が必要ですが %s が存在します。", token, actual));
+        }
+
+        this.peeked = null;
+    }
+
+    /**
+     * 値の先頭を読み込み、値のトークンを返却します。
+     *
+     * @return 値のトークン
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 値が存在しない場合
+     */
+    private Token peekValue() throws IOException {
+
+        final int current = this.nextNonWhitespace();
+
+        switch (current) {
+            case '{' -> {
+                this.position++;
+                return Token.BEGIN_OBJECT;
+            }
+            case '[' -> {
+                this.position++;
+                return Token.BEGIN_ARRAY;
+            }
+            case '"' -> {
+                this.position++;
+                return Token.STRING;
+            }
+            case 't' -> {
+                this.readLiteral(TRUE_LITERAL);
+                return Token.TRUE;
+            }
+            case 'f' -> {
+                this.readLiteral(FALSE_LITERAL);
+                return Token.FALSE;
+            }
+            case 'n' -> {
+                this.readLiteral(NULL_LITERAL);
+                return Token.NULL;
+            }
+            default -> {
+                if (current == '-' || (current >= '0' && current <= '9')) {
+                    return Token.NUMBER;
+                }
+
+                throw this.syntaxError(current == -1 ? "予期しない文書の終了です。" : "値が必要です。");
+            }
+        }
+    }
+
+    /**
+     * 開始の引用符の直後から終了の引用符までの文字列を読み込み、UTF-8のバイト列として作業用バッファへ格納します。
+     * <p>
+     * ASCII以外の文字はUTF-8の形式を検証した上で格納されるため、不正なバイト列や符号化されたサロゲートは受け付けません。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 文字列の形式が不正な場合
+     */
+    private void readString() throws IOException {
+
+        this.scratchLength = 0;
+
+        while (true) {
+            if (this.position == this.limit && !this.fill()) {
+                throw this.syntaxError("文字列が閉じられていません。");
+            }
+
+            final byte[] source = this.buffer;
+            final int start = this.position;
+            final int end = this.limit;
+            int index = start;
+
+            while (index < end) {
+                final byte current = source[index];
+
+                if (current < 0x20 || current == '"' || current == '\\') {
+                    break;
+                }
+
+                index++;
+            }
+
+            this.position = index;
+            this.append(source, start, index - start);
+
+            if (this.position == this.limit) {
+                continue;
+            }
+
+            final byte current = this.buffer[this.position++];
+
+            if (current == '"') {
+                return;
+            }
+
+            if (current < 0) {
+                this.readMultiByteCharacter(current);
+                continue;
+            }
+
+            if (current != '\\') {
+                throw this.syntaxError("文字列に制御文字が含まれています。");
+            }
+
+            this.readEscape();
+        }
+    }
+
+    /**
+     * バックスラッシュの直後からエスケープシーケンスを読み込み、作業用バッファへ格納します。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException エスケープシーケンスの形式が不正な場合
+     */
+    private void readEscape() throws IOException {
+
+        final byte escaped = this.readByte();
+
+        switch (escaped) {
+            case '"', '\\', '/' -> this.append(escaped);
+            case 'b' -> this.append((byte) '\b');
+            case 'f' -> this.append((byte) '\f');
+            case 'n' -> this.append((byte) '\n');
+            case 'r' -> this.append((byte) '\r');
+            case 't' -> this.append((byte) '\t');
+            case 'u' -> {
+                final char character = this.readHexCharacter();
+
+                if (Character.isLowSurrogate(character)) {
+                    throw this.syntaxError("サロゲートペアが不正です。");
+                }
+
+                if (!Character.isHighSurrogate(character)) {
+                    this.appendCodePoint(character);
+                    return;
+                }
+
+                if (this.readByte() != '\\' || this.readByte() != 'u') {
+                    throw this.syntaxError("サロゲートペアが不正です。");
+                }
+
+                final char lowSurrogate = this.readHexCharacter();
+
+                if (!Character.isLowSurrogate(lowSurrogate)) {
+                    throw this.syntaxError("サロゲートペアが不正です。");
+                }
+
+                this.appendCodePoint(Character.toCodePoint(character, lowSurrogate));
+            }
+            default -> throw this.syntaxError("エスケープシーケンスが不正です。");
+        }
+    }
+
+    /**
+     * UTF-8の先頭バイトの直後から後続バイトを読み込み、検証した文字を作業用バッファへ格納します。
+     *
+     * @param leadByte 先頭バイト
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 冗長な表現やサロゲートを含むなどUTF-8の形式が不正な場合
+     */
+    private void readMultiByteCharacter(byte leadByte) throws IOException {
+
+        final int lead = leadByte & 0xFF;
+        final int length;
+        final int minimumCodePoint;
+        int codePoint;
+
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+            minimumCodePoint = 0x80;
+            codePoint = lead & 0x1F;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            minimumCodePoint = 0x800;
+            codePoint = lead & 0x0F;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            minimumCodePoint = 0x10000;
+            codePoint = lead & 0x07;
+        } else {
+            throw this.syntaxError("文字列のUTF-8の形式が不正です。");
+        }
+
+        for (int i = 1; i < length; i++) {
+            final byte continuation = this.readByte();
+
+            if ((continuation & 0xC0) != 0x80) {
+                throw this.syntaxError("文字列のUTF-8の形式が不正です。");
+            }
+
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+
+        if (codePoint < minimumCodePoint || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            throw this.syntaxError("文字列のUTF-8の形式が不正です。");
+        }
+
+        this.appendCodePoint(codePoint);
+    }
+
+    /**
+     * 4桁の16進数で表された文字を読み込みます。
+     *
+     * @return 文字
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 16進数の形式が不正な場合
+     */
+    private char readHexCharacter() throws IOException {
+
+        int character = 0;
+
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(this.readByte(), 16);
+
+            if (digit < 0) {
+                throw this.syntaxError("エスケープシーケンスが不正です。");
+            }
+
+            character = (character << 4) | digit;
+        }
+
+        return (char) character;
+    }
+
+    /**
+     * 数値を読み込み、数値の表記を作業用バッファへ格納します。
+     * <p>
+     * 数値はJSONの文法に従って検証されるため、符号のみの値や先頭に {@code 0} が続く整数部は受け付けません。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 数値の形式が不正な場合
+     */
+    private void readNumber() throws IOException {
+
+        this.scratchLength = 0;
+
+        int current = this.peekByte();
+
+        if (current == '-') {
+            current = this.appendAndPeekByte(current);
+        }
+
+        if (current == '0') {
+            current = this.appendAndPeekByte(current);
+
+            if (current >= '0' && current <= '9') {
+                throw this.syntaxError("数値の整数部の先頭に0は使用できません。");
+            }
+        } else {
+            current = this.readDigits(current);
+        }
+
+        if (current == '.') {
+            current = this.readDigits(this.appendAndPeekByte(current));
+        }
+
+        if (current == 'e' || current == 'E') {
+            current = this.appendAndPeekByte(current);
+
+            if (current == '+' || current == '-') {
+                current = this.appendAndPeekByte(current);
+            }
+
+            this.readDigits(current);
+        }
+    }
+
+    /**
+     * 1桁以上の数字を読み込み、作業用バッファへ格納します。
+     *
+     * @param current 次の文字
+     * @return 数字の直後の文字。文書の終了に達した場合は {@code -1}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 数字が存在しない場合
+     */
+    private int readDigits(int current) throws IOException {
+
+        if (current < '0' || current > '9') {
+            throw this.syntaxError("数値の形式が不正です。");
+        }
+
+        do {
+            current = this.appendAndPeekByte(current);
+        } while (current >= '0' && current <= '9');
+
+        return current;
+    }
+
+    /**
+     * 引数として渡された文字を作業用バッファへ格納して消費し、次の文字を消費せずに返却します。
+     *
+     * @param current 現在の文字
+     * @return 次の文字。文書の終了に達した場合は {@code -1}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     */
+    private int appendAndPeekByte(int current) throws IOException {
+        this.append((byte) current);
+        this.position++;
+        return this.peekByte();
+    }
+
+    /**
+     * 次の文字を消費せずに返却します。
+     *
+     * @return 次の文字。文書の終了に達した場合は {@code -1}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     */
+    private int peekByte() throws IOException {
+        return this.position < this.limit || this.fill() ? this.buffer[this.position] & 0xFF : -1;
+    }
+
+    /**
+     * 引数として渡されたリテラルを読み込みます。
+     *
+     * @param literal リテラル
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 入力がリテラルと一致しない場合
+     */
+    private void readLiteral(byte[] literal) throws IOException {
+        for (byte expected : literal) {
+            if (this.readByte() != expected) {
+                throw this.syntaxError("値が不正です。");
+            }
+        }
+    }
+
+    /**
+     * 文書の先頭にUTF-8のBOMが存在する場合は読み飛ばします。
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException BOMの形式が不正な場合
+     */
+    private void skipByteOrderMark() throws IOException {
+
+        if (this.nextNonWhitespace() != 0xEF) {
+            return;
+        }
+
+        this.position++;
+
+        if (this.readByte() != (byte) 0xBB || this.readByte() != (byte) 0xBF) {
+            throw this.syntaxError("BOMが不正です。");
+        }
+    }
+
+    /**
+     * 空白を読み飛ばし、次の文字を消費せずに返却します。
+     *
+     * @return 次の文字。文書の終了に達した場合は {@code -1}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     */
+    private int nextNonWhitespace() throws IOException {
+
+        while (this.position < this.limit || this.fill()) {
+            final byte[] source = this.buffer;
+            final int end = this.limit;
+            int index = this.position;
+
+            while (index < end) {
+                final byte current = source[index];
+
+                if (current != ' ' && current != '\t' && current != '\n' && current != '\r') {
+                    this.position = index;
+                    return current & 0xFF;
+                }
+
+                index++;
+            }
+
+            this.position = index;
+        }
+
+        return -1;
+    }
+
+    /**
+     * 1バイトを読み込みます。
+     *
+     * @return 読み込んだバイト
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException 文書の終了に達した場合
+     */
+    private byte readByte() throws IOException {
+
+        if (this.position == this.limit && !this.fill()) {
+            throw this.syntaxError("予期しない文書の終了です。");
+        }
+
+        return this.buffer[this.position++];
+    }
+
+    /**
+     * 読み込みバッファを入力ストリームから補充します。読み込みバッファの内容は全て消費済みである必要があります。
+     *
+     * @return 1バイト以上補充した場合は {@code true} 、入力ストリームの終了に達した場合は {@code false}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     */
+    private boolean fill() throws IOException {
+
+        this.bufferOffset += this.limit;
+        this.position = 0;
+        this.limit = 0;
+
+        int length;
+
+        do {
+            length = this.inputStream.read(this.buffer, 0, this.buffer.length);
+        } while (length == 0);
+
+        if (length < 0) {
+            return false;
+        }
+
+        this.limit = length;
+        return true;
+    }
+
+    /**
+     * 引数として渡されたスコープを入れ子のスタックへ追加します。
+     *
+     * @param scope スコープ
+     */
+    private void push(int scope) {
+
+        if (this.depth == this.scopes.length) {
+            this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+        }
+
+        this.scopes[this.depth++] = scope;
+    }
+
+    /**
+     * 引数として渡されたコードポイントをUTF-8でエンコードし、作業用バッファへ格納します。
+     *
+     * @param codePoint コードポイント
+     */
+    private void appendCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            this.append((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            this.append((byte) (0xC0 | (codePoint >> 6)));
+            this.append((byte) (0x80 | (codePoint & 0x3F)));
+        } else if (codePoint < 0x10000) {
+            this.append((byte) (0xE0 | (codePoint >> 12)));
+            this.append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            this.append((byte) (0x80 | (codePoint & 0x3F)));
+        } else {
+            this.append((byte) (0xF0 | (codePoint >> 18)));
+            this.append((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            this.append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            this.append((byte) (0x80 | (codePoint & 0x3F)));
+        }
+    }
+
+    /**
+     * 引数として渡されたバイトを作業用バッファへ格納します。
+     *
+     * @param value バイト
+     */
+    private void append(byte value) {
+
+        if (this.scratchLength == this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, this.scratchLength * 2);
+        }
+
+        this.scratch[this.scratchLength++] = value;
+    }
+
+    /**
+     * 引数として渡されたバイト列を作業用バッファへ格納します。
+     *
+     * @param source バイト列
+     * @param offset 開始位置
+     * @param length 長さ
+     */
+    private void append(byte[] source, int offset, int length) {
+
+        if (this.scratchLength + length > this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, Math.max(this.scratchLength + length, this.scratch.length * 2));
+        }
+
+        System.arraycopy(source, offset, this.scratch, this.scratchLength, length);
+        this.scratchLength += length;
+    }
+
+    /**
+     * 現在の読み込み位置を含む構文エラーを生成します。
+     *
+     * @param message エラーメッセージ
+     * @return 構文エラー
+     */
+    private IllegalArgumentException syntaxError(String message) {
+        return new IllegalArgumentException(
+                String.format("JSONの形式が不正です。位置 = (%s)、%s", this.bufferOffset + this.position, message));
+    }
+}
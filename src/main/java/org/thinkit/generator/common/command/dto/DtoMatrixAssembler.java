@@ -0,0 +1,338 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.List;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.generator.common.catalog.dto.DtoItem;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoFieldRow;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * {@link DtoItem} に対応付けられた表形式の行からDTOマトリクスを組み立てるクラスです。
+ * <p>
+ * 各行の値は {@link DtoItem#getCode()} の位置に格納された配列として受け取ります。論理削除された行とその子孫の行、および空行は無視され、
+ * 物理名、論理名、パッケージ名、プロジェクト名、バージョン、作成者、作成日付、更新日付は値が設定された最初の行の値が使用されます。
+ * ルートのDTO定義のクラス名には物理名が、説明には論理名が使用されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+final class DtoMatrixAssembler {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * 項目数
+     */
+    private static final int ITEM_COUNT = DtoItem.values().length;
+
+    /**
+     * 必須の列
+     */
+    private static final DtoItem[] REQUIRED_ITEMS = { DtoItem.LAYER, DtoItem.VARIABLE_NAME, DtoItem.DATA_TYPE };
+
+    /**
+     * DTOマトリクス全体で共通する項目
+     */
+    private static final DtoItem[] MATRIX_ITEMS = { DtoItem.PHYSICAL_NAME, DtoItem.LOGICAL_NAME, DtoItem.CREATOR,
+            DtoItem.CREATION_TIME, DtoItem.UPDTATE_TIME, DtoItem.PACKAGE_NAME, DtoItem.PROJECT_NAME,
+            DtoItem.VERSION };
+
+    /**
+     * 有効を表す値
+     */
+    private static final String[] TRUE_VALUES = { "true", "1", "○" };
+
+    /**
+     * 論理削除された行が存在しないことを表す階層
+     */
+    private static final int NO_DELETED_LAYER = Integer.MAX_VALUE;
+
+    /**
+     * DTO定義の組み立てオブジェクト
+     */
+    private final DtoDefinitionAssembler dtoDefinitionAssembler;
+
+    /**
+     * DTOマトリクス全体で共通する項目の値
+     */
+    @ToString.Exclude
+    private final String[] matrixValues = new String[ITEM_COUNT];
+
+    /**
+     * 直近に論理削除された行の階層。この階層より深い後続の行は論理削除された行の子孫として無視されます。
+     */
+    private int deletedLayer = NO_DELETED_LAYER;
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoSymbolTable DTOシンボルテーブル
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoMatrixAssembler(@NonNull DtoSymbolTable dtoSymbolTable) {
+        this.dtoDefinitionAssembler = new DtoDefinitionAssembler(dtoSymbolTable);
+    }
+
+    /**
+     * 1行分の値を格納する配列を生成し返却します。
+     *
+     * @return 1行分の値を格納する配列
+     */
+    static String[] createRowValues() {
+        return new String[ITEM_COUNT];
+    }
+
+    /**
+     * 引数として渡された見出し行を基に、各列に対応する {@link DtoItem} の配列を返却します。
+     * <p>
+     * 見出しには {@link DtoItem#getCode()} のコード値または {@link DtoItem} の定数名を指定します。
+     * 対応する項目が存在しない列の要素は {@code null} です。
+     *
+     * @param headers 見出し行
+     * @return 各列に対応する {@link DtoItem} の配列
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 見出しが重複している場合、または必須の列が存在しない場合
+     */
+    static DtoItem[] toColumnItems(@NonNull List<String> headers) {
+
+        final DtoItem[] columnItems = new DtoItem[headers.size()];
+        final boolean[] mappedItems = new boolean[ITEM_COUNT];
+
+        for (int column = 0; column < columnItems.length; column++) {
+            final String header = headers.get(column);
+            final DtoItem dtoItem = header == null ? null : toDtoItem(header);
+
+            if (dtoItem == null) {
+                logger.atFine().log("対応する項目が存在しないため列を無視します。見出し = (%s)", header);
+                continue;
+            }
+
+            if (mappedItems[dtoItem.getCode()]) {
+                throw new IllegalArgumentException(String.format("見出しが重複しています。項目 = (%s)", dtoItem));
+            }
+
+            mappedItems[dtoItem.getCode()] = true;
+            columnItems[column] = dtoItem;
+        }
+
+        for (DtoItem requiredItem : REQUIRED_ITEMS) {
+            if (!mappedItems[requiredItem.getCode()]) {
+                throw new IllegalArgumentException(String.format("必須の列が存在しません。項目 = (%s)", requiredItem));
+            }
+        }
+
+        return columnItems;
+    }
+
+    /**
+     * 引数として渡された行の値を組み立て中のDTOマトリクスへ追加します。論理削除された行と空行は無視されます。
+     * <p>
+     * 論理削除された行に続く、その行より深い階層の行は論理削除された行の子孫として無視されます。
+     * 論理削除された行と同じ階層か、より浅い階層の行が現れた時点で無視を終了します。
+     *
+     * @param rowValues {@link DtoItem#getCode()} の位置に格納された行の値
+     * @param rowNumber 行番号
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 行の定義が不正な場合
+     */
+    void add(@NonNull String[] rowValues, int rowNumber) {
+
+        if (isBlankRow(rowValues)) {
+            return;
+        }
+
+        final int layer;
+
+        try {
+            layer = Integer.parseInt(getRequiredValue(rowValues, DtoItem.LAYER).trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("%s行目の定義が不正です。%s", rowNumber, e.getMessage()), e);
+        }
+
+        if (layer > this.deletedLayer) {
+            return;
+        }
+
+        if (isTrue(rowValues[DtoItem.LOGICAL_DELETE.getCode()])) {
+            this.deletedLayer = layer;
+            return;
+        }
+
+        this.deletedLayer = NO_DELETED_LAYER;
+
+        for (DtoItem matrixItem : MATRIX_ITEMS) {
+            final String value = rowValues[matrixItem.getCode()];
+
+            if (this.matrixValues[matrixItem.getCode()] == null && !isBlank(value)) {
+                this.matrixValues[matrixItem.getCode()] = value;
+            }
+        }
+
+        final DtoFieldRow dtoFieldRow;
+
+        try {
+            dtoFieldRow = DtoFieldRow.of(rowNumber, layer, getRequiredValue(rowValues, DtoItem.VARIABLE_NAME),
+                    getRequiredValue(rowValues, DtoItem.DATA_TYPE), getValue(rowValues, DtoItem.INITIAL_VALUE),
+                    isTrue(rowValues[DtoItem.INVARIANT.getCode()]), getValue(rowValues, DtoItem.DESCRIPTION));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("%s行目の定義が不正です。%s", rowNumber, e.getMessage()), e);
+        }
+
+        this.dtoDefinitionAssembler.add(dtoFieldRow);
+    }
+
+    /**
+     * 組み立てを完了し、DTOマトリクスを返却します。
+     *
+     * @return DTOマトリクス
+     *
+     * @exception IllegalArgumentException 物理名が設定されていない場合
+     */
+    DtoMatrix complete() {
+
+        final String physicalName = getRequiredValue(this.matrixValues, DtoItem.PHYSICAL_NAME);
+        final String logicalName = getValue(this.matrixValues, DtoItem.LOGICAL_NAME);
+
+        final DtoMeta dtoMeta = DtoMeta.of(getValue(this.matrixValues, DtoItem.VERSION),
+                getValue(this.matrixValues, DtoItem.PROJECT_NAME), getValue(this.matrixValues, DtoItem.PACKAGE_NAME),
+                physicalName, logicalName, logicalName);
+        final DtoCreator dtoCreator = DtoCreator.of(getValue(this.matrixValues, DtoItem.CREATOR),
+                getValue(this.matrixValues, DtoItem.CREATION_TIME), getValue(this.matrixValues, DtoItem.UPDTATE_TIME));
+        final DtoDefinition dtoDefinition = this.dtoDefinitionAssembler.complete(physicalName, logicalName);
+
+        logger.atFinest().log("読み込んだDTOフィールド件数 = (%s)", this.dtoDefinitionAssembler.getFieldCount());
+        return DtoMatrix.of(dtoMeta, dtoCreator, DtoDefinitionGroup.of().add(dtoDefinition));
+    }
+
+    /**
+     * 引数として渡された見出しに対応する {@link DtoItem} を返却します。
+     *
+     * @param header 見出し
+     * @return 見出しに対応する {@link DtoItem} 。対応する項目が存在しない場合は {@code null}
+     */
+    private static DtoItem toDtoItem(String header) {
+
+        final String name = header.trim();
+
+        for (DtoItem dtoItem : DtoItem.values()) {
+            if (name.equals(String.valueOf(dtoItem.getCode())) || name.equalsIgnoreCase(dtoItem.name())) {
+                return dtoItem;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 引数として渡された行の値が全て空か判定します。
+     *
+     * @param rowValues 行の値
+     * @return 全ての値が空の場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isBlankRow(String[] rowValues) {
+
+        for (String value : rowValues) {
+            if (!isBlank(value)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 引数として渡された値が {@code null} または空白のみか判定します。
+     *
+     * @param value 値
+     * @return 値が {@code null} または空白のみの場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 引数として渡された値が有効を表すか判定します。
+     *
+     * @param value 値
+     * @return 値が有効を表す場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isTrue(String value) {
+
+        if (value == null) {
+            return false;
+        }
+
+        final String trimmedValue = value.trim();
+
+        for (String trueValue : TRUE_VALUES) {
+            if (trueValue.equalsIgnoreCase(trimmedValue)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 引数として渡された項目の値を返却します。値が存在しない場合は空文字列を返却します。
+     *
+     * @param values  値
+     * @param dtoItem 項目
+     * @return 項目の値
+     */
+    private static String getValue(String[] values, DtoItem dtoItem) {
+        final String value = values[dtoItem.getCode()];
+        return value == null ? "" : value;
+    }
+
+    /**
+     * 引数として渡された必須の項目の値を返却します。
+     *
+     * @param values  値
+     * @param dtoItem 項目
+     * @return 項目の値
+     *
+     * @exception IllegalArgumentException 値が空の場合
+     */
+    private static String getRequiredValue(String[] values, DtoItem dtoItem) {
+
+        final String value = values[dtoItem.getCode()];
+
+        if (isBlank(value)) {
+            throw new IllegalArgumentException(String.format("必須の項目が設定されていません。項目 = (%s)", dtoItem));
+        }
+
+        return value;
+    }
+}
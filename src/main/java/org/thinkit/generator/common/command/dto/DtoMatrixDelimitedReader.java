@@ -0,0 +1,486 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.catalog.dto.DelimitedFormat;
+import org.thinkit.generator.common.catalog.dto.DtoItem;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * CSVまたはTSV形式のDTO定義ファイルを読み込み、DTOマトリクスを生成するコマンドクラスです。
+ * <p>
+ * DTO定義ファイルはメモリマップドファイルとして読み込まれ、ファイルの先頭から1回の走査でDTOマトリクスを組み立てます。
+ * 各セルは {@link DtoItem} に対応付けられた列のみ文字列へ復号されるため、未使用の列の読み込みに伴うメモリ確保は発生しません。
+ * <p>
+ * DTO定義ファイルの形式は以下の通りです。
+ * <ul>
+ * <li>文字コードはUTF-8です。先頭のBOMは無視されます。</li>
+ * <li>1行目は見出し行です。各列の見出しには {@link DtoItem#getCode()} のコード値または {@link DtoItem} の定数名を指定します。
+ * 対応する項目が存在しない列は無視されます。{@link DtoItem#LAYER} 、 {@link DtoItem#VARIABLE_NAME} 、
+ * {@link DtoItem#DATA_TYPE} の列は必須です。</li>
+ * <li>2行目以降の各行は1件のDTOフィールドを表します。引用符で囲まれたセルには区切り文字、改行および二重の引用符を含めることができます。</li>
+ * <li>{@link DtoItem#LAYER} はDTOフィールドの階層です。階層 {@code n} の行の直後に階層 {@code n + 1} の行が続く場合、
+ * 階層 {@code n} のDTOフィールドのデータ型をクラス名とする子DTO定義が生成されます。</li>
+ * <li>{@link DtoItem#INVARIANT} と {@link DtoItem#LOGICAL_DELETE} は {@code true} 、 {@code 1} または {@code ○}
+ * の場合に有効と判定されます。論理削除された行とその子孫の行、および空行は無視されます。</li>
+ * <li>物理名、論理名、パッケージ名、プロジェクト名、バージョン、作成者、作成日付、更新日付は、値が設定された最初の行の値が使用されます。
+ * ルートのDTO定義のクラス名には物理名が、説明には論理名が使用されます。</li>
+ * </ul>
+ * <p>
+ * メモリマップドファイルの制約により、読み込み可能なファイルサイズは2GB未満です。
+ * 読み込みに失敗した場合やファイルの形式が不正な場合は {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoMatrixDelimitedReader implements Command<DtoMatrix> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * TSV形式のファイルの拡張子
+     */
+    private static final String TSV_EXTENSION = ".tsv";
+
+    /**
+     * DTO定義ファイル
+     */
+    private Path definitionFile;
+
+    /**
+     * 区切り形式
+     */
+    private DelimitedFormat delimitedFormat;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoMatrixDelimitedReader() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param definitionFile  DTO定義ファイル
+     * @param delimitedFormat 区切り形式
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoMatrixDelimitedReader(@NonNull Path definitionFile, @NonNull DelimitedFormat delimitedFormat) {
+        this.definitionFile = definitionFile;
+        this.delimitedFormat = delimitedFormat;
+    }
+
+    /**
+     * 引数として渡された {@code definitionFile} を基に {@link DtoMatrixDelimitedReader} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 拡張子が {@code .tsv} の場合は {@link DelimitedFormat#TSV} 、それ以外の場合は {@link DelimitedFormat#CSV}
+     * が区切り形式として使用されます。
+     *
+     * @param definitionFile DTO定義ファイル
+     * @return {@link DtoMatrixDelimitedReader} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoMatrix> of(@NonNull Path definitionFile) {
+
+        final Path fileName = definitionFile.getFileName();
+        final boolean tsv = fileName != null
+                && fileName.toString().toLowerCase(Locale.ROOT).endsWith(TSV_EXTENSION);
+
+        return new DtoMatrixDelimitedReader(definitionFile, tsv ? DelimitedFormat.TSV : DelimitedFormat.CSV);
+    }
+
+    /**
+     * 引数として渡された {@code definitionFile} と {@code delimitedFormat} を基に {@link DtoMatrixDelimitedReader}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param definitionFile  DTO定義ファイル
+     * @param delimitedFormat 区切り形式
+     * @return {@link DtoMatrixDelimitedReader} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoMatrix> of(@NonNull Path definitionFile, @NonNull DelimitedFormat delimitedFormat) {
+        return new DtoMatrixDelimitedReader(definitionFile, delimitedFormat);
+    }
+
+    @Override
+    public DtoMatrix execute() {
+
+        final byte delimiter = switch (this.delimitedFormat) {
+            case TSV -> '\t';
+            default -> ',';
+        };
+
+        try (FileChannel channel = FileChannel.open(this.definitionFile, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            if (size > Integer.MAX_VALUE) {
+                logger.atSevere().log("DTO定義ファイルのサイズが上限を超えています。ファイル = (%s)、サイズ = (%s)", this.definitionFile,
+                        size);
+                return null;
+            }
+
+            final DtoMatrix dtoMatrix = readDtoMatrix(
+                    new DelimitedRecordReader(channel.map(MapMode.READ_ONLY, 0, size), delimiter));
+
+            logger.atFinest().log("DTO定義ファイルを読み込みました。ファイル = (%s)", this.definitionFile);
+            return dtoMatrix;
+
+        } catch (IOException e) {
+            logger.atSevere().withCause(e).log("DTO定義ファイルの読み込みに失敗しました。ファイル = (%s)", this.definitionFile);
+            return null;
+        } catch (IllegalArgumentException e) {
+            logger.atSevere().withCause(e).log("DTO定義ファイルの形式が不正です。ファイル = (%s)", this.definitionFile);
+            return null;
+        }
+    }
+
+    /**
+     * 引数として渡されたレコード読み込みオブジェクトから全ての行を読み込み、DTOマトリクスを生成します。
+     *
+     * @param recordReader レコード読み込みオブジェクト
+     * @return DTOマトリクス
+     *
+     * @exception IllegalArgumentException ファイルの形式が不正な場合
+     */
+    private static DtoMatrix readDtoMatrix(DelimitedRecordReader recordReader) {
+
+        final List<String> headers = recordReader.readCells();
+
+        if (headers == null) {
+            throw new IllegalArgumentException("見出し行が存在しません。");
+        }
+
+        final DtoItem[] columnItems = DtoMatrixAssembler.toColumnItems(headers);
+        final String[] rowValues = DtoMatrixAssembler.createRowValues();
+        final DtoMatrixAssembler dtoMatrixAssembler = new DtoMatrixAssembler(DtoSymbolTable.of());
+
+        while (recordReader.readRecord(columnItems, rowValues)) {
+            dtoMatrixAssembler.add(rowValues, recordReader.getRecordLineNumber());
+        }
+
+        return dtoMatrixAssembler.complete();
+    }
+
+    /**
+     * メモリマップドファイルから区切り形式のレコードを読み込むクラスです。
+     * <p>
+     * 区切り文字、引用符および改行はASCII文字であり、UTF-8の複数バイト文字を構成するバイトと一致することはないため、
+     * 復号前のバイト列のまま走査します。
+     */
+    private static final class DelimitedRecordReader {
+
+        /**
+         * 引用符
+         */
+        private static final byte QUOTE = '"';
+
+        /**
+         * 復帰
+         */
+        private static final byte CR = '\r';
+
+        /**
+         * 改行
+         */
+        private static final byte LF = '\n';
+
+        /**
+         * UTF-8のBOM
+         */
+        private static final byte[] UTF8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+        /**
+         * 作業用バッファの初期サイズ
+         */
+        private static final int INITIAL_SCRATCH_SIZE = 256;
+
+        /**
+         * 読み込み対象のバッファ
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * 読み込み対象の終端位置
+         */
+        private final int limit;
+
+        /**
+         * 区切り文字
+         */
+        private final byte delimiter;
+
+        /**
+         * セルの復号に使用する作業用バッファ
+         */
+        private byte[] scratch = new byte[INITIAL_SCRATCH_SIZE];
+
+        /**
+         * 読み込み位置
+         */
+        private int position;
+
+        /**
+         * 読み込み位置の行番号
+         */
+        private int lineNumber = 1;
+
+        /**
+         * 最後に読み込んだレコードの開始行番号
+         */
+        private int recordLineNumber;
+
+        /**
+         * 最後に読み込んだセルの値
+         */
+        private String cellValue;
+
+        /**
+         * 最後に読み込んだセルがレコードの終端か
+         */
+        private boolean endOfRecord;
+
+        /**
+         * コンストラクタ
+         *
+         * @param buffer    読み込み対象のバッファ
+         * @param delimiter 区切り文字
+         */
+        private DelimitedRecordReader(ByteBuffer buffer, byte delimiter) {
+            this.buffer = buffer;
+            this.limit = buffer.limit();
+            this.delimiter = delimiter;
+            this.position = this.hasBom() ? UTF8_BOM.length : 0;
+        }
+
+        /**
+         * 1件のレコードを読み込み、全てのセルの値を返却します。
+         *
+         * @return セルの値のリスト。読み込むレコードが存在しない場合は {@code null}
+         *
+         * @exception IllegalArgumentException レコードの形式が不正な場合
+         */
+        private List<String> readCells() {
+
+            if (this.position >= this.limit) {
+                return null;
+            }
+
+            final List<String> cells = new ArrayList<>();
+            this.recordLineNumber = this.lineNumber;
+
+            do {
+                this.readCell(true);
+                cells.add(this.cellValue);
+            } while (!this.endOfRecord);
+
+            return cells;
+        }
+
+        /**
+         * 1件のレコードを読み込み、項目に対応付けられた列の値をコード値の位置へ格納します。対応付けられていない列は復号せずに読み飛ばします。
+         *
+         * @param columnItems 各列に対応する {@link DtoItem} の配列
+         * @param values      値の格納先
+         * @return レコードを読み込んだ場合は {@code true} 、読み込むレコードが存在しない場合は {@code false}
+         *
+         * @exception IllegalArgumentException レコードの形式が不正な場合
+         */
+        private boolean readRecord(DtoItem[] columnItems, String[] values) {
+
+            if (this.position >= this.limit) {
+                return false;
+            }
+
+            Arrays.fill(values, null);
+            this.recordLineNumber = this.lineNumber;
+            int column = 0;
+
+            do {
+                final DtoItem dtoItem = column < columnItems.length ? columnItems[column] : null;
+                this.readCell(dtoItem != null);
+
+                if (dtoItem != null) {
+                    values[dtoItem.getCode()] = this.cellValue;
+                }
+
+                column++;
+            } while (!this.endOfRecord);
+
+            return true;
+        }
+
+        /**
+         * 最後に読み込んだレコードの開始行番号を返却します。
+         *
+         * @return 最後に読み込んだレコードの開始行番号
+         */
+        private int getRecordLineNumber() {
+            return this.recordLineNumber;
+        }
+
+        /**
+         * 1件のセルを読み込みます。
+         *
+         * @param decode セルの値を復号する場合は {@code true}
+         *
+         * @exception IllegalArgumentException セルの形式が不正な場合
+         */
+        private void readCell(boolean decode) {
+
+            int length = 0;
+
+            if (this.position < this.limit && this.buffer.get(this.position) == QUOTE) {
+                this.position++;
+
+                while (true) {
+                    if (this.position >= this.limit) {
+                        throw new IllegalArgumentException(
+                                String.format("%s行目の引用符が閉じられていません。", this.recordLineNumber));
+                    }
+
+                    final byte current = this.buffer.get(this.position++);
+
+                    if (current == QUOTE) {
+                        if (this.position >= this.limit || this.buffer.get(this.position) != QUOTE) {
+                            break;
+                        }
+
+                        this.position++;
+                    } else if (current == LF) {
+                        this.lineNumber++;
+                    }
+
+                    if (decode) {
+                        this.ensureScratchCapacity(length + 1);
+                        this.scratch[length++] = current;
+                    }
+                }
+            } else {
+                final int start = this.position;
+
+                while (this.position < this.limit) {
+                    final byte current = this.buffer.get(this.position);
+
+                    if (current == this.delimiter || current == CR || current == LF) {
+                        break;
+                    }
+
+                    this.position++;
+                }
+
+                length = this.position - start;
+
+                if (decode) {
+                    this.ensureScratchCapacity(length);
+                    this.buffer.get(start, this.scratch, 0, length);
+                }
+            }
+
+            this.cellValue = decode ? new String(this.scratch, 0, length, StandardCharsets.UTF_8) : null;
+            this.readTerminator();
+        }
+
+        /**
+         * セルの終端の区切り文字または改行を読み込みます。
+         *
+         * @exception IllegalArgumentException セルの終端に区切り文字または改行以外の文字が存在する場合
+         */
+        private void readTerminator() {
+
+            if (this.position >= this.limit) {
+                this.endOfRecord = true;
+                return;
+            }
+
+            final byte current = this.buffer.get(this.position++);
+
+            if (current == this.delimiter) {
+                this.endOfRecord = false;
+                return;
+            }
+
+            if (current != CR && current != LF) {
+                throw new IllegalArgumentException(
+                        String.format("%s行目の引用符の後に不正な文字が存在します。", this.recordLineNumber));
+            }
+
+            if (current == CR && this.position < this.limit && this.buffer.get(this.position) == LF) {
+                this.position++;
+            }
+
+            this.lineNumber++;
+            this.endOfRecord = true;
+        }
+
+        /**
+         * 作業用バッファの容量が指定されたサイズ以上であることを保証します。
+         *
+         * @param capacity 必要な容量
+         */
+        private void ensureScratchCapacity(int capacity) {
+            if (this.scratch.length < capacity) {
+                this.scratch = Arrays.copyOf(this.scratch, Math.max(capacity, this.scratch.length * 2));
+            }
+        }
+
+        /**
+         * 読み込み対象のバッファがUTF-8のBOMで始まるか判定します。
+         *
+         * @return UTF-8のBOMで始まる場合は {@code true} 、それ以外は {@code false}
+         */
+        private boolean hasBom() {
+
+            if (this.limit < UTF8_BOM.length) {
+                return false;
+            }
+
+            for (int i = 0; i < UTF8_BOM.length; i++) {
+                if (this.buffer.get(i) != UTF8_BOM[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
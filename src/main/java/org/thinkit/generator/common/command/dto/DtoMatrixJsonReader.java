@@ -0,0 +1,839 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * JSON形式のDTO定義を読み込み、DTOマトリクスを生成するコマンドクラスです。
+ * <p>
+ * JSONは {@link DtoJsonParser} でバイトストリームから逐次読み込まれ、中間的なツリー構造やリフレクションを介さずに
+ * {@link DtoMatrix} 、 {@link DtoMeta} 、 {@link DtoCreator} および各グループへ直接設定されます。
+ * ネストされたDTO定義グループは明示的なスタックで読み込まれるため、ネストの深さに関わらず {@link StackOverflowError} は発生しません。
+ * 文字列は {@link DtoSymbolTable} で集約されます。
+ * <p>
+ * JSONのプロパティ名は各データクラスのフィールド名と同一です。DTO定義グループとDTOフィールドグループは要素の配列、
+ * またはグループ名と同名のプロパティに要素の配列を持つオブジェクトのいずれの形式でも指定できます。
+ * 未知のプロパティは無視され、存在しない文字列のプロパティは空文字列として扱われます。
+ *
+ * <pre>
+ * {
+ *   "dtoMeta": { "version": "1.0", "projectName": "", "packageName": "", "physicalName": "", "logicalName": "",
+ *     "description": "" },
+ *   "dtoCreator": { "creator": "", "creationDate": "", "updateDate": "" },
+ *   "dtoDefinitionGroup": [
+ *     { "className": "", "description": "", "dtoFieldGroup": [
+ *       { "variableName": "", "dataType": "", "initialValue": "", "invariant": false, "description": "",
+ *         "childDtoDefinitionGroup": [] }
+ *     ] }
+ *   ]
+ * }
+ * </pre>
+ * <p>
+ * 読み込みに失敗した場合やJSONの形式が不正な場合は {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoMatrixJsonReader implements Command<DtoMatrix> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * プロパティ名
+     */
+    private static final byte[][] PROPERTY_NAMES = DtoJsonParser.encodeNames("dtoMeta", "dtoCreator",
+            "dtoDefinitionGroup", "version", "projectName", "packageName", "physicalName", "logicalName", "description",
+            "creator", "creationDate", "updateDate", "className", "dtoFieldGroup", "variableName", "dataType",
+            "initialValue", "invariant", "childDtoDefinitionGroup");
+
+    /**
+     * DTOメタ
+     */
+    private static final int DTO_META = 0;
+
+    /**
+     * DTO作成者
+     */
+    private static final int DTO_CREATOR = 1;
+
+    /**
+     * DTO定義グループ
+     */
+    private static final int DTO_DEFINITION_GROUP = 2;
+
+    /**
+     * バージョン
+     */
+    private static final int VERSION = 3;
+
+    /**
+     * プロジェクト名
+     */
+    private static final int PROJECT_NAME = 4;
+
+    /**
+     * パッケージ名
+     */
+    private static final int PACKAGE_NAME = 5;
+
+    /**
+     * 物理名
+     */
+    private static final int PHYSICAL_NAME = 6;
+
+    /**
+     * 論理名
+     */
+    private static final int LOGICAL_NAME = 7;
+
+    /**
+     * 説明
+     */
+    private static final int DESCRIPTION = 8;
+
+    /**
+     * 作成者
+     */
+    private static final int CREATOR = 9;
+
+    /**
+     * 作成日
+     */
+    private static final int CREATION_DATE = 10;
+
+    /**
+     * 更新日
+     */
+    private static final int UPDATE_DATE = 11;
+
+    /**
+     * クラス名
+     */
+    private static final int CLASS_NAME = 12;
+
+    /**
+     * DTOフィールドグループ
+     */
+    private static final int DTO_FIELD_GROUP = 13;
+
+    /**
+     * 変数名
+     */
+    private static final int VARIABLE_NAME = 14;
+
+    /**
+     * データ型
+     */
+    private static final int DATA_TYPE = 15;
+
+    /**
+     * 初期値
+     */
+    private static final int INITIAL_VALUE = 16;
+
+    /**
+     * 不変
+     */
+    private static final int INVARIANT = 17;
+
+    /**
+     * 子DTO定義グループ
+     */
+    private static final int CHILD_DTO_DEFINITION_GROUP = 18;
+
+    /**
+     * DTO定義ファイル
+     */
+    private Path definitionFile;
+
+    /**
+     * 入力ストリーム
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private InputStream inputStream;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoMatrixJsonReader() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param definitionFile DTO定義ファイル
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoMatrixJsonReader(@NonNull final Path definitionFile) {
+        this.definitionFile = definitionFile;
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param inputStream 入力ストリーム
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoMatrixJsonReader(@NonNull final InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * 引数として渡された {@code definitionFile} を基に {@link DtoMatrixJsonReader} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param definitionFile DTO定義ファイル
+     * @return {@link DtoMatrixJsonReader} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoMatrix> of(@NonNull final Path definitionFile) {
+        return new DtoMatrixJsonReader(definitionFile);
+    }
+
+    /**
+     * 引数として渡された {@code inputStream} を基に {@link DtoMatrixJsonReader} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 入力ストリームはUTF-8でエンコードされたJSONである必要があります。入力ストリームは {@link #execute()} で閉じられません。
+     *
+     * @param inputStream 入力ストリーム
+     * @return {@link DtoMatrixJsonReader} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoMatrix> of(@NonNull final InputStream inputStream) {
+        return new DtoMatrixJsonReader(inputStream);
+    }
+
+    @Override
+    public DtoMatrix execute() {
+
+        if (this.inputStream != null) {
+            return this.read(this.inputStream);
+        }
+
+        try (InputStream fileInputStream = Files.newInputStream(this.definitionFile)) {
+            return this.read(fileInputStream);
+        } catch (IOException e) {
+            logger.atSevere().withCause(e).log("DTO定義ファイルの読み込みに失敗しました。ファイル = (%s)", this.definitionFile);
+            return null;
+        }
+    }
+
+    /**
+     * 引数として渡された入力ストリームからDTOマトリクスを読み込みます。
+     *
+     * @param source 入力ストリーム
+     * @return DTOマトリクス。読み込みに失敗した場合は {@code null}
+     */
+    private DtoMatrix read(InputStream source) {
+        try {
+            final DtoMatrix dtoMatrix = readDtoMatrix(new DtoJsonParser(source));
+
+            logger.atFinest().log("JSON形式のDTO定義を読み込みました。ファイル = (%s)", this.definitionFile);
+            return dtoMatrix;
+
+        } catch (IOException e) {
+            logger.atSevere().withCause(e).log("JSON形式のDTO定義の読み込みに失敗しました。ファイル = (%s)", this.definitionFile);
+            return null;
+        } catch (IllegalArgumentException e) {
+            logger.atSevere().withCause(e).log("JSON形式のDTO定義が不正です。ファイル = (%s)", this.definitionFile);
+            return null;
+        }
+    }
+
+    /**
+     * DTOマトリクスを読み込みます。
+     *
+     * @param parser JSONパーサ
+     * @return DTOマトリクス
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合、またはDTOメタとDTO作成者が存在しない場合
+     */
+    private static DtoMatrix readDtoMatrix(DtoJsonParser parser) throws IOException {
+
+        final DtoSymbolTable dtoSymbolTable = DtoSymbolTable.of();
+        DtoMeta dtoMeta = null;
+        DtoCreator dtoCreator = null;
+        DtoDefinitionGroup dtoDefinitionGroup = DtoDefinitionGroup.of();
+
+        parser.beginObject();
+
+        while (parser.hasNext()) {
+            switch (parser.nextName(PROPERTY_NAMES)) {
+                case DTO_META -> dtoMeta = readDtoMeta(parser);
+                case DTO_CREATOR -> dtoCreator = readDtoCreator(parser);
+                case DTO_DEFINITION_GROUP -> dtoDefinitionGroup = readDtoDefinitionGroup(parser, dtoSymbolTable);
+                default -> parser.skipValue();
+            }
+        }
+
+        parser.endObject();
+        parser.endDocument();
+
+        if (dtoMeta == null || dtoCreator == null) {
+            throw new IllegalArgumentException("dtoMeta と dtoCreator は必須です。");
+        }
+
+        return DtoMatrix.of(dtoMeta, dtoCreator, dtoDefinitionGroup);
+    }
+
+    /**
+     * DTOメタを読み込みます。
+     *
+     * @param parser JSONパーサ
+     * @return DTOメタ。値が {@code null} の場合は {@code null}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合
+     */
+    private static DtoMeta readDtoMeta(DtoJsonParser parser) throws IOException {
+
+        if (parser.peek() == DtoJsonParser.Token.NULL) {
+            parser.skipValue();
+            return null;
+        }
+
+        String version = "";
+        String projectName = "";
+        String packageName = "";
+        String physicalName = "";
+        String logicalName = "";
+        String description = "";
+
+        parser.beginObject();
+
+        while (parser.hasNext()) {
+            switch (parser.nextName(PROPERTY_NAMES)) {
+                case VERSION -> version = nextString(parser);
+                case PROJECT_NAME -> projectName = nextString(parser);
+                case PACKAGE_NAME -> packageName = nextString(parser);
+                case PHYSICAL_NAME -> physicalName = nextString(parser);
+                case LOGICAL_NAME -> logicalName = nextString(parser);
+                case DESCRIPTION -> description = nextString(parser);
+                default -> parser.skipValue();
+            }
+        }
+
+        parser.endObject();
+        return DtoMeta.of(version, projectName, packageName, physicalName, logicalName, description);
+    }
+
+    /**
+     * DTO作成者を読み込みます。
+     *
+     * @param parser JSONパーサ
+     * @return DTO作成者。値が {@code null} の場合は {@code null}
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合
+     */
+    private static DtoCreator readDtoCreator(DtoJsonParser parser) throws IOException {
+
+        if (parser.peek() == DtoJsonParser.Token.NULL) {
+            parser.skipValue();
+            return null;
+        }
+
+        String creator = "";
+        String creationDate = "";
+        String updateDate = "";
+
+        parser.beginObject();
+
+        while (parser.hasNext()) {
+            switch (parser.nextName(PROPERTY_NAMES)) {
+                case CREATOR -> creator = nextString(parser);
+                case CREATION_DATE -> creationDate = nextString(parser);
+                case UPDATE_DATE -> updateDate = nextString(parser);
+                default -> parser.skipValue();
+            }
+        }
+
+        parser.endObject();
+        return DtoCreator.of(creator, creationDate, updateDate);
+    }
+
+    /**
+     * ネストされたDTO定義グループを明示的なスタックを使用して読み込みます。
+     *
+     * @param parser         JSONパーサ
+     * @param dtoSymbolTable DTOシンボルテーブル
+     * @return DTO定義グループ
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合
+     */
+    private static DtoDefinitionGroup readDtoDefinitionGroup(DtoJsonParser parser, DtoSymbolTable dtoSymbolTable)
+            throws IOException {
+
+        final DefinitionGroupFrame rootFrame = new DefinitionGroupFrame(dtoSymbolTable);
+
+        if (!rootFrame.begin(parser)) {
+            return rootFrame.dtoDefinitionGroup;
+        }
+
+        final Deque<ReadingFrame> frames = new ArrayDeque<>();
+        frames.push(rootFrame);
+
+        while (!frames.isEmpty()) {
+            final ReadingFrame frame = frames.peek();
+            final ReadingFrame childFrame = frame.read(parser);
+
+            if (childFrame != null) {
+                frames.push(childFrame);
+            } else if (frame.completed) {
+                frames.pop();
+
+                if (!frames.isEmpty()) {
+                    frames.peek().accept(frame);
+                }
+            }
+        }
+
+        return rootFrame.dtoDefinitionGroup;
+    }
+
+    /**
+     * 文字列を読み込みます。値が {@code null} の場合は空文字列を返却します。
+     *
+     * @param parser JSONパーサ
+     * @return 文字列
+     *
+     * @throws IOException 入力ストリームの読み込みに失敗した場合
+     *
+     * @exception IllegalArgumentException JSONの形式が不正な場合
+     */
+    private static String nextString(DtoJsonParser parser) throws IOException {
+        final String value = parser.nextString();
+        return value == null ? "" : value;
+    }
+
+    /**
+     * 読み込み中の1件のオブジェクトまたは配列を管理する抽象クラスです。
+     */
+    private abstract static class ReadingFrame {
+
+        /**
+         * 読み込みが完了したか
+         */
+        private boolean completed;
+
+        /**
+         * 次の要素を1件読み込みます。
+         *
+         * @param parser JSONパーサ
+         * @return 入れ子の読み込みを開始する場合は入れ子のフレーム、それ以外は {@code null}
+         *
+         * @throws IOException 入力ストリームの読み込みに失敗した場合
+         */
+        abstract ReadingFrame read(DtoJsonParser parser) throws IOException;
+
+        /**
+         * 読み込みが完了した入れ子のフレームを受け取ります。
+         *
+         * @param childFrame 入れ子のフレーム
+         */
+        abstract void accept(ReadingFrame childFrame);
+
+        /**
+         * 読み込みを完了します。
+         */
+        final void complete() {
+            this.completed = true;
+        }
+    }
+
+    /**
+     * 要素の配列、またはグループ名と同名のプロパティに要素の配列を持つオブジェクトを読み込む抽象クラスです。
+     */
+    private abstract static class ListFrame extends ReadingFrame {
+
+        /**
+         * 要素の配列を持つプロパティ名
+         */
+        private final int listName;
+
+        /**
+         * オブジェクト形式か
+         */
+        private boolean wrapped;
+
+        /**
+         * コンストラクタ
+         *
+         * @param listName 要素の配列を持つプロパティ名
+         */
+        ListFrame(int listName) {
+            this.listName = listName;
+        }
+
+        /**
+         * 要素の配列の開始を読み込みます。
+         *
+         * @param parser JSONパーサ
+         * @return 要素の配列の読み込みを開始した場合は {@code true} 、値が {@code null} または要素の配列を持たないオブジェクトの場合は
+         *         {@code false}
+         *
+         * @throws IOException 入力ストリームの読み込みに失敗した場合
+         *
+         * @exception IllegalArgumentException 値が配列、オブジェクトまたは {@code null} ではない場合
+         */
+        final boolean begin(DtoJsonParser parser) throws IOException {
+
+            final DtoJsonParser.Token token = parser.peek();
+
+            switch (token) {
+                case NULL -> {
+                    parser.skipValue();
+                    return false;
+                }
+                case BEGIN_ARRAY -> {
+                    parser.beginArray();
+                    return true;
+                }
+                case BEGIN_OBJECT -> {
+                    parser.beginObject();
+
+                    while (parser.hasNext()) {
+                        if (parser.nextName(PROPERTY_NAMES) == this.listName
+                                && parser.peek() == DtoJsonParser.Token.BEGIN_ARRAY) {
+                            parser.beginArray();
+                            this.wrapped = true;
+                            return true;
+                        }
+
+                        parser.skipValue();
+                    }
+
+                    parser.endObject();
+                    return false;
+                }
+                default -> throw new IllegalArgumentException(String.format("配列が必要ですが %s が存在します。", token));
+            }
+        }
+
+        @Override
+        final ReadingFrame read(DtoJsonParser parser) throws IOException {
+
+            if (parser.hasNext()) {
+                parser.beginObject();
+                return this.createElementFrame();
+            }
+
+            parser.endArray();
+
+            if (this.wrapped) {
+                while (parser.hasNext()) {
+                    parser.nextName(PROPERTY_NAMES);
+                    parser.skipValue();
+                }
+
+                parser.endObject();
+            }
+
+            this.complete();
+            return null;
+        }
+
+        /**
+         * 要素のフレームを生成します。
+         *
+         * @return 要素のフレーム
+         */
+        abstract ReadingFrame createElementFrame();
+    }
+
+    /**
+     * DTO定義グループを読み込むフレームです。
+     */
+    private static final class DefinitionGroupFrame extends ListFrame {
+
+        /**
+         * DTOシンボルテーブル
+         */
+        private final DtoSymbolTable dtoSymbolTable;
+
+        /**
+         * DTO定義グループ
+         */
+        private final DtoDefinitionGroup dtoDefinitionGroup = DtoDefinitionGroup.of();
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoSymbolTable DTOシンボルテーブル
+         */
+        private DefinitionGroupFrame(DtoSymbolTable dtoSymbolTable) {
+            super(DTO_DEFINITION_GROUP);
+            this.dtoSymbolTable = dtoSymbolTable;
+        }
+
+        @Override
+        ReadingFrame createElementFrame() {
+            return new DefinitionFrame(this.dtoSymbolTable);
+        }
+
+        @Override
+        void accept(ReadingFrame childFrame) {
+            this.dtoDefinitionGroup.add(((DefinitionFrame) childFrame).toDtoDefinition());
+        }
+    }
+
+    /**
+     * DTO定義を読み込むフレームです。
+     */
+    private static final class DefinitionFrame extends ReadingFrame {
+
+        /**
+         * DTOシンボルテーブル
+         */
+        private final DtoSymbolTable dtoSymbolTable;
+
+        /**
+         * クラス名
+         */
+        private String className = "";
+
+        /**
+         * 説明
+         */
+        private String description = "";
+
+        /**
+         * DTOフィールドグループ
+         */
+        private DtoFieldGroup dtoFieldGroup = DtoFieldGroup.of();
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoSymbolTable DTOシンボルテーブル
+         */
+        private DefinitionFrame(DtoSymbolTable dtoSymbolTable) {
+            this.dtoSymbolTable = dtoSymbolTable;
+        }
+
+        @Override
+        ReadingFrame read(DtoJsonParser parser) throws IOException {
+
+            if (!parser.hasNext()) {
+                parser.endObject();
+                this.complete();
+                return null;
+            }
+
+            switch (parser.nextName(PROPERTY_NAMES)) {
+                case CLASS_NAME -> this.className = nextString(parser);
+                case DESCRIPTION -> this.description = nextString(parser);
+                case DTO_FIELD_GROUP -> {
+                    final FieldGroupFrame fieldGroupFrame = new FieldGroupFrame(this.dtoSymbolTable);
+
+                    if (fieldGroupFrame.begin(parser)) {
+                        return fieldGroupFrame;
+                    }
+                }
+                default -> parser.skipValue();
+            }
+
+            return null;
+        }
+
+        @Override
+        void accept(ReadingFrame childFrame) {
+            this.dtoFieldGroup = DtoDefinitionAssembler
+                    .toCompactDtoFieldGroup(((FieldGroupFrame) childFrame).dtoFieldGroup);
+        }
+
+        /**
+         * 読み込んだDTO定義を返却します。
+         *
+         * @return DTO定義
+         */
+        private DtoDefinition toDtoDefinition() {
+            return this.dtoSymbolTable.createDtoDefinition(this.className, this.description, this.dtoFieldGroup);
+        }
+    }
+
+    /**
+     * DTOフィールドグループを読み込むフレームです。
+     */
+    private static final class FieldGroupFrame extends ListFrame {
+
+        /**
+         * DTOシンボルテーブル
+         */
+        private final DtoSymbolTable dtoSymbolTable;
+
+        /**
+         * DTOフィールドグループ
+         */
+        private final DtoFieldGroup dtoFieldGroup = DtoFieldGroup.of();
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoSymbolTable DTOシンボルテーブル
+         */
+        private FieldGroupFrame(DtoSymbolTable dtoSymbolTable) {
+            super(DTO_FIELD_GROUP);
+            this.dtoSymbolTable = dtoSymbolTable;
+        }
+
+        @Override
+        ReadingFrame createElementFrame() {
+            return new FieldFrame(this.dtoSymbolTable);
+        }
+
+        @Override
+        void accept(ReadingFrame childFrame) {
+            this.dtoFieldGroup.add(((FieldFrame) childFrame).toDtoField());
+        }
+    }
+
+    /**
+     * DTOフィールドを読み込むフレームです。
+     */
+    private static final class FieldFrame extends ReadingFrame {
+
+        /**
+         * DTOシンボルテーブル
+         */
+        private final DtoSymbolTable dtoSymbolTable;
+
+        /**
+         * 変数名
+         */
+        private String variableName = "";
+
+        /**
+         * データ型
+         */
+        private String dataType = "";
+
+        /**
+         * 初期値
+         */
+        private String initialValue = "";
+
+        /**
+         * 不変
+         */
+        private boolean invariant;
+
+        /**
+         * 説明
+         */
+        private String description = "";
+
+        /**
+         * 子DTO定義グループ
+         */
+        private DtoDefinitionGroup childDtoDefinitionGroup;
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoSymbolTable DTOシンボルテーブル
+         */
+        private FieldFrame(DtoSymbolTable dtoSymbolTable) {
+            this.dtoSymbolTable = dtoSymbolTable;
+        }
+
+        @Override
+        ReadingFrame read(DtoJsonParser parser) throws IOException {
+
+            if (!parser.hasNext()) {
+                parser.endObject();
+                this.complete();
+                return null;
+            }
+
+            switch (parser.nextName(PROPERTY_NAMES)) {
+                case VARIABLE_NAME -> this.variableName = nextString(parser);
+                case DATA_TYPE -> this.dataType = nextString(parser);
+                case INITIAL_VALUE -> this.initialValue = nextString(parser);
+                case INVARIANT -> this.invariant = parser.nextBoolean();
+                case DESCRIPTION -> this.description = nextString(parser);
+                case CHILD_DTO_DEFINITION_GROUP -> {
+                    final DefinitionGroupFrame definitionGroupFrame = new DefinitionGroupFrame(this.dtoSymbolTable);
+
+                    if (definitionGroupFrame.begin(parser)) {
+                        return definitionGroupFrame;
+                    }
+                }
+                default -> parser.skipValue();
+            }
+
+            return null;
+        }
+
+        @Override
+        void accept(ReadingFrame childFrame) {
+            this.childDtoDefinitionGroup = ((DefinitionGroupFrame) childFrame).dtoDefinitionGroup;
+        }
+
+        /**
+         * 読み込んだDTOフィールドを返却します。
+         *
+         * @return DTOフィールド
+         */
+        private DtoField toDtoField() {
+
+            final DtoField dtoField = this.dtoSymbolTable.createDtoField(this.variableName, this.dataType,
+                    this.initialValue, this.invariant, this.description);
+
+            if (this.childDtoDefinitionGroup != null) {
+                dtoField.setChildDtoDefinitionGroup(this.childDtoDefinitionGroup);
+            }
+
+            return dtoField;
+        }
+    }
+}
@@ -0,0 +1,668 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.catalog.dto.DtoItem;
+import org.thinkit.generator.common.catalog.dto.ExecutionMode;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * XLSX形式のDTO定義ファイルを読み込み、シートごとにDTOマトリクスを生成するコマンドクラスです。
+ * <p>
+ * ワークブック全体をメモリへ展開せず、ZIPアーカイブ内の各シートのXMLをStAXで先頭から1回走査してDTOマトリクスを組み立てます。
+ * 行の値は1行分のみ保持され、 {@link DtoItem} に対応付けられていない列のセルは値を取り出さずに読み飛ばします。
+ * 共有文字列テーブルは共有文字列を参照するセルを最初に読み込んだ時点で1度だけ読み込まれ、
+ * 1つの文字列として連結した状態で保持されます。各セルの値は参照された時点で取り出されます。ふりがなは無視されます。
+ * <p>
+ * 各シートの形式は {@link DtoMatrixDelimitedReader} と同一です。空でない最初の行を見出し行とし、以降の行を1件のDTOフィールドとして読み込みます。
+ * 行を1件も含まないシートは無視されます。
+ * <p>
+ * {@link ExecutionMode#PARALLEL} が指定された場合は各シートを並列に読み込みます。
+ * 並列実行時も返却されるDTOマトリクスの順序はワークブック内のシートの順序と同一です。
+ * <p>
+ * 読み込みに失敗した場合やファイルの形式が不正な場合は {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoMatrixWorkbookReader implements Command<List<DtoMatrix>> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * ワークブックのディレクトリ
+     */
+    private static final String WORKBOOK_DIRECTORY = "xl/";
+
+    /**
+     * ワークブックのエントリ名
+     */
+    private static final String WORKBOOK_ENTRY = WORKBOOK_DIRECTORY + "workbook.xml";
+
+    /**
+     * ワークブックのリレーションシップのエントリ名
+     */
+    private static final String WORKBOOK_RELATIONSHIPS_ENTRY = WORKBOOK_DIRECTORY + "_rels/workbook.xml.rels";
+
+    /**
+     * 共有文字列テーブルのエントリ名
+     */
+    private static final String SHARED_STRINGS_ENTRY = WORKBOOK_DIRECTORY + "sharedStrings.xml";
+
+    /**
+     * リレーションシップの名前空間
+     */
+    private static final String RELATIONSHIPS_NAMESPACE =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    /**
+     * 共有文字列を表すセルの型
+     */
+    private static final String SHARED_STRING_TYPE = "s";
+
+    /**
+     * インライン文字列を表すセルの型
+     */
+    private static final String INLINE_STRING_TYPE = "inlineStr";
+
+    /**
+     * DTO定義ファイル
+     */
+    private Path workbookFile;
+
+    /**
+     * 実行モード
+     */
+    private ExecutionMode executionMode;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoMatrixWorkbookReader() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param workbookFile  DTO定義ファイル
+     * @param executionMode 実行モード
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoMatrixWorkbookReader(@NonNull final Path workbookFile, @NonNull final ExecutionMode executionMode) {
+        this.workbookFile = workbookFile;
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * 引数として渡された {@code workbookFile} を基に {@link DtoMatrixWorkbookReader} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 各シートは {@link ExecutionMode#PARALLEL} で並列に読み込まれます。
+     *
+     * @param workbookFile DTO定義ファイル
+     * @return {@link DtoMatrixWorkbookReader} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<List<DtoMatrix>> of(@NonNull final Path workbookFile) {
+        return new DtoMatrixWorkbookReader(workbookFile, ExecutionMode.PARALLEL);
+    }
+
+    /**
+     * 引数として渡された {@code workbookFile} と {@code executionMode} を基に {@link DtoMatrixWorkbookReader}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param workbookFile  DTO定義ファイル
+     * @param executionMode 実行モード
+     * @return {@link DtoMatrixWorkbookReader} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<List<DtoMatrix>> of(@NonNull final Path workbookFile,
+            @NonNull final ExecutionMode executionMode) {
+        return new DtoMatrixWorkbookReader(workbookFile, executionMode);
+    }
+
+    @Override
+    public List<DtoMatrix> execute() {
+
+        try (ZipFile zipFile = new ZipFile(this.workbookFile.toFile(), StandardCharsets.UTF_8)) {
+            final List<Worksheet> worksheets = readWorksheets(zipFile);
+            final SharedStrings sharedStrings = new SharedStrings(zipFile);
+            final DtoSymbolTable dtoSymbolTable = DtoSymbolTable.of();
+            final DtoMatrix[] dtoMatrices = new DtoMatrix[worksheets.size()];
+
+            IntStream indexes = IntStream.range(0, dtoMatrices.length);
+
+            if (this.executionMode == ExecutionMode.PARALLEL) {
+                indexes = indexes.parallel();
+            }
+
+            indexes.forEach(index -> dtoMatrices[index] = readDtoMatrix(zipFile, worksheets.get(index), sharedStrings,
+                    dtoSymbolTable));
+
+            logger.atFinest().log("DTO定義ファイルを読み込みました。ファイル = (%s)、シート数 = (%s)", this.workbookFile,
+                    dtoMatrices.length);
+            return Arrays.stream(dtoMatrices).filter(Objects::nonNull).collect(Collectors.toUnmodifiableList());
+
+        } catch (IOException | UncheckedIOException e) {
+            logger.atSevere().withCause(e).log("DTO定義ファイルの読み込みに失敗しました。ファイル = (%s)", this.workbookFile);
+            return null;
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            logger.atSevere().withCause(e).log("DTO定義ファイルの形式が不正です。ファイル = (%s)", this.workbookFile);
+            return null;
+        }
+    }
+
+    /**
+     * ワークブックとリレーションシップを読み込み、ワークブック内の順序でシートのリストを返却します。
+     *
+     * @param zipFile ZIPアーカイブ
+     * @return シートのリスト
+     *
+     * @throws IOException        ZIPアーカイブの読み込みに失敗した場合
+     * @throws XMLStreamException XMLの形式が不正な場合
+     *
+     * @exception IllegalArgumentException ワークブックまたはリレーションシップが存在しない場合、またはシートの参照先が存在しない場合
+     */
+    private static List<Worksheet> readWorksheets(ZipFile zipFile) throws IOException, XMLStreamException {
+
+        final Map<String, String> relationshipTargets = parseEntry(zipFile, WORKBOOK_RELATIONSHIPS_ENTRY, reader -> {
+            final Map<String, String> targets = new HashMap<>();
+
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && "Relationship".equals(reader.getLocalName())) {
+                    targets.put(reader.getAttributeValue(null, "Id"), reader.getAttributeValue(null, "Target"));
+                }
+            }
+
+            return targets;
+        });
+
+        final List<Worksheet> worksheets = parseEntry(zipFile, WORKBOOK_ENTRY, reader -> {
+            final List<Worksheet> sheets = new ArrayList<>();
+
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(reader.getLocalName())) {
+                    final String sheetName = reader.getAttributeValue(null, "name");
+                    final String target = relationshipTargets == null ? null
+                            : relationshipTargets.get(reader.getAttributeValue(RELATIONSHIPS_NAMESPACE, "id"));
+
+                    if (target == null) {
+                        throw new IllegalArgumentException(String.format("シートの参照先が存在しません。シート = (%s)", sheetName));
+                    }
+
+                    sheets.add(new Worksheet(sheetName, toEntryName(target)));
+                }
+            }
+
+            return sheets;
+        });
+
+        if (worksheets == null) {
+            throw new IllegalArgumentException("ワークブックが存在しません。");
+        }
+
+        return worksheets;
+    }
+
+    /**
+     * 引数として渡されたシートを読み込み、DTOマトリクスを生成します。
+     *
+     * @param zipFile        ZIPアーカイブ
+     * @param worksheet      シート
+     * @param sharedStrings  共有文字列テーブル
+     * @param dtoSymbolTable DTOシンボルテーブル
+     * @return DTOマトリクス。シートが行を1件も含まない場合は {@code null}
+     *
+     * @exception UncheckedIOException     ZIPアーカイブの読み込みに失敗した場合
+     * @exception IllegalArgumentException シートの形式が不正な場合
+     */
+    private static DtoMatrix readDtoMatrix(ZipFile zipFile, Worksheet worksheet, SharedStrings sharedStrings,
+            DtoSymbolTable dtoSymbolTable) {
+        try {
+            final DtoMatrix dtoMatrix = parseEntry(zipFile, worksheet.entryName,
+                    reader -> readDtoMatrix(reader, sharedStrings, dtoSymbolTable));
+
+            if (dtoMatrix == null) {
+                logger.atFine().log("行が存在しないためシートを無視します。シート = (%s)", worksheet.sheetName);
+            }
+
+            return dtoMatrix;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    String.format("シートの形式が不正です。シート = (%s)、%s", worksheet.sheetName, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * 引数として渡されたシートのXMLを先頭から走査し、DTOマトリクスを生成します。
+     *
+     * @param reader         シートのXML
+     * @param sharedStrings  共有文字列テーブル
+     * @param dtoSymbolTable DTOシンボルテーブル
+     * @return DTOマトリクス。シートが行を1件も含まない場合は {@code null}
+     *
+     * @throws IOException        共有文字列テーブルの読み込みに失敗した場合
+     * @throws XMLStreamException XMLの形式が不正な場合
+     *
+     * @exception IllegalArgumentException シートの定義が不正な場合
+     */
+    private static DtoMatrix readDtoMatrix(XMLStreamReader reader, SharedStrings sharedStrings,
+            DtoSymbolTable dtoSymbolTable) throws IOException, XMLStreamException {
+
+        final List<String> headers = new ArrayList<>();
+        final String[] rowValues = DtoMatrixAssembler.createRowValues();
+        DtoItem[] columnItems = null;
+        DtoMatrixAssembler dtoMatrixAssembler = null;
+        int rowNumber = 0;
+        int nextColumn = 0;
+
+        while (reader.hasNext()) {
+            final int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String localName = reader.getLocalName();
+
+                if ("row".equals(localName)) {
+                    final String reference = reader.getAttributeValue(null, "r");
+                    rowNumber = reference == null ? rowNumber + 1 : Integer.parseInt(reference);
+                    nextColumn = 0;
+                    headers.clear();
+                    Arrays.fill(rowValues, null);
+
+                } else if ("c".equals(localName)) {
+                    final String reference = reader.getAttributeValue(null, "r");
+                    final int column = reference == null ? nextColumn : toColumnIndex(reference);
+                    nextColumn = column + 1;
+
+                    if (columnItems == null) {
+                        while (headers.size() <= column) {
+                            headers.add(null);
+                        }
+
+                        headers.set(column, readCellValue(reader, sharedStrings));
+
+                    } else if (column < columnItems.length && columnItems[column] != null) {
+                        rowValues[columnItems[column].getCode()] = readCellValue(reader, sharedStrings);
+                    }
+                }
+
+            } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+                if (columnItems != null) {
+                    dtoMatrixAssembler.add(rowValues, rowNumber);
+                } else if (headers.stream().anyMatch(header -> header != null && !header.isBlank())) {
+                    columnItems = DtoMatrixAssembler.toColumnItems(headers);
+                    dtoMatrixAssembler = new DtoMatrixAssembler(dtoSymbolTable);
+                }
+            }
+        }
+
+        return dtoMatrixAssembler == null ? null : dtoMatrixAssembler.complete();
+    }
+
+    /**
+     * 読み込み位置のセルの値を返却します。読み込み位置はセルの終了要素へ移動します。
+     *
+     * @param reader        シートのXML
+     * @param sharedStrings 共有文字列テーブル
+     * @return セルの値。値が存在しない場合は {@code null}
+     *
+     * @throws IOException        共有文字列テーブルの読み込みに失敗した場合
+     * @throws XMLStreamException XMLの形式が不正な場合
+     *
+     * @exception IllegalArgumentException 共有文字列の参照が不正な場合
+     */
+    private static String readCellValue(XMLStreamReader reader, SharedStrings sharedStrings)
+            throws IOException, XMLStreamException {
+
+        final String cellType = reader.getAttributeValue(null, "t");
+        String value = null;
+        StringBuilder inlineString = null;
+        int phoneticDepth = 0;
+
+        while (reader.hasNext()) {
+            final int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String localName = reader.getLocalName();
+
+                if ("rPh".equals(localName)) {
+                    phoneticDepth++;
+                } else if ("v".equals(localName)) {
+                    value = reader.getElementText();
+                } else if ("t".equals(localName) && phoneticDepth == 0) {
+                    if (inlineString == null) {
+                        inlineString = new StringBuilder();
+                    }
+
+                    inlineString.append(reader.getElementText());
+                }
+
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                final String localName = reader.getLocalName();
+
+                if ("rPh".equals(localName)) {
+                    phoneticDepth--;
+                } else if ("c".equals(localName)) {
+                    break;
+                }
+            }
+        }
+
+        if (INLINE_STRING_TYPE.equals(cellType)) {
+            return inlineString == null ? null : inlineString.toString();
+        }
+
+        if (SHARED_STRING_TYPE.equals(cellType) && value != null) {
+            return sharedStrings.get(Integer.parseInt(value.trim()));
+        }
+
+        return value;
+    }
+
+    /**
+     * 引数として渡されたセル参照の列番号を返却します。列番号は {@code 0} から始まります。
+     *
+     * @param reference {@code AB12} 形式のセル参照
+     * @return 列番号
+     *
+     * @exception IllegalArgumentException セル参照が列を含まない場合
+     */
+    private static int toColumnIndex(String reference) {
+
+        int column = 0;
+        int index = 0;
+
+        for (; index < reference.length(); index++) {
+            final char character = reference.charAt(index);
+
+            if (character < 'A' || character > 'Z') {
+                break;
+            }
+
+            column = column * 26 + (character - 'A' + 1);
+        }
+
+        if (index == 0) {
+            throw new IllegalArgumentException(String.format("セル参照が不正です。セル参照 = (%s)", reference));
+        }
+
+        return column - 1;
+    }
+
+    /**
+     * 引数として渡されたリレーションシップの参照先をZIPアーカイブのエントリ名へ変換します。
+     *
+     * @param target リレーションシップの参照先
+     * @return ZIPアーカイブのエントリ名
+     */
+    private static String toEntryName(String target) {
+        return target.startsWith("/") ? target.substring(1) : WORKBOOK_DIRECTORY + target;
+    }
+
+    /**
+     * 引数として渡されたエントリのXMLを解析します。
+     * <p>
+     * 外部エンティティとDTDは無効化されます。
+     *
+     * @param <T>         解析結果の型
+     * @param zipFile     ZIPアーカイブ
+     * @param entryName   エントリ名
+     * @param entryParser 解析処理
+     * @return 解析結果。エントリが存在しない場合は {@code null}
+     *
+     * @throws IOException        ZIPアーカイブの読み込みに失敗した場合
+     * @throws XMLStreamException XMLの形式が不正な場合
+     */
+    private static <T> T parseEntry(ZipFile zipFile, String entryName, EntryParser<T> entryParser)
+            throws IOException, XMLStreamException {
+
+        final ZipEntry zipEntry = zipFile.getEntry(entryName);
+
+        if (zipEntry == null) {
+            return null;
+        }
+
+        final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+            final XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+
+            try {
+                return entryParser.parse(reader);
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * エントリのXMLの解析処理を定義したインターフェースです。
+     *
+     * @param <T> 解析結果の型
+     */
+    @FunctionalInterface
+    private interface EntryParser<T> {
+
+        /**
+         * 引数として渡されたXMLを解析します。
+         *
+         * @param reader XML
+         * @return 解析結果
+         *
+         * @throws IOException        読み込みに失敗した場合
+         * @throws XMLStreamException XMLの形式が不正な場合
+         */
+        T parse(XMLStreamReader reader) throws IOException, XMLStreamException;
+    }
+
+    /**
+     * ワークブック内のシートを表すクラスです。
+     */
+    private static final class Worksheet {
+
+        /**
+         * シート名
+         */
+        private final String sheetName;
+
+        /**
+         * ZIPアーカイブのエントリ名
+         */
+        private final String entryName;
+
+        /**
+         * コンストラクタ
+         *
+         * @param sheetName シート名
+         * @param entryName ZIPアーカイブのエントリ名
+         */
+        private Worksheet(String sheetName, String entryName) {
+            this.sheetName = sheetName;
+            this.entryName = entryName;
+        }
+    }
+
+    /**
+     * 共有文字列テーブルを遅延して読み込むクラスです。
+     * <p>
+     * 共有文字列は1つの文字列として連結され、各共有文字列の開始位置と共に保持されます。
+     * 複数のシートから並列に参照された場合も共有文字列テーブルは1度だけ読み込まれます。
+     */
+    private static final class SharedStrings {
+
+        /**
+         * ZIPアーカイブ
+         */
+        private final ZipFile zipFile;
+
+        /**
+         * 連結された共有文字列
+         */
+        private volatile String text;
+
+        /**
+         * 各共有文字列の開始位置。末尾の要素は連結された共有文字列の長さです。
+         */
+        private int[] offsets;
+
+        /**
+         * コンストラクタ
+         *
+         * @param zipFile ZIPアーカイブ
+         */
+        private SharedStrings(ZipFile zipFile) {
+            this.zipFile = zipFile;
+        }
+
+        /**
+         * 引数として渡されたインデックスの共有文字列を返却します。
+         *
+         * @param index インデックス
+         * @return 共有文字列
+         *
+         * @throws IOException        共有文字列テーブルの読み込みに失敗した場合
+         * @throws XMLStreamException XMLの形式が不正な場合
+         *
+         * @exception IllegalArgumentException インデックスが範囲外の場合
+         */
+        private String get(int index) throws IOException, XMLStreamException {
+
+            String loadedText = this.text;
+
+            if (loadedText == null) {
+                loadedText = this.load();
+            }
+
+            if (index < 0 || index >= this.offsets.length - 1) {
+                throw new IllegalArgumentException(String.format("共有文字列の参照が不正です。インデックス = (%s)", index));
+            }
+
+            return loadedText.substring(this.offsets[index], this.offsets[index + 1]);
+        }
+
+        /**
+         * 共有文字列テーブルを読み込みます。既に読み込まれている場合は読み込み済みの値を返却します。
+         *
+         * @return 連結された共有文字列
+         *
+         * @throws IOException        共有文字列テーブルの読み込みに失敗した場合
+         * @throws XMLStreamException XMLの形式が不正な場合
+         */
+        private synchronized String load() throws IOException, XMLStreamException {
+
+            if (this.text != null) {
+                return this.text;
+            }
+
+            final StringBuilder builder = new StringBuilder();
+            final int[] loadedOffsets = parseEntry(this.zipFile, SHARED_STRINGS_ENTRY,
+                    reader -> parseSharedStrings(reader, builder));
+
+            this.offsets = loadedOffsets == null ? new int[] { 0 } : loadedOffsets;
+            this.text = builder.toString();
+
+            logger.atFinest().log("共有文字列テーブルを読み込みました。件数 = (%s)", this.offsets.length - 1);
+            return this.text;
+        }
+
+        /**
+         * 共有文字列テーブルのXMLを走査し、各共有文字列を連結して引数として渡された {@code builder} へ追加します。
+         *
+         * @param reader  共有文字列テーブルのXML
+         * @param builder 連結された共有文字列の格納先
+         * @return 各共有文字列の開始位置。末尾の要素は連結された共有文字列の長さです。
+         *
+         * @throws XMLStreamException XMLの形式が不正な場合
+         */
+        private static int[] parseSharedStrings(XMLStreamReader reader, StringBuilder builder)
+                throws XMLStreamException {
+
+            int[] parsedOffsets = new int[] { 0 };
+            int size = 0;
+            int phoneticDepth = 0;
+
+            while (reader.hasNext()) {
+                final int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String localName = reader.getLocalName();
+
+                    if ("rPh".equals(localName)) {
+                        phoneticDepth++;
+                    } else if ("t".equals(localName) && phoneticDepth == 0) {
+                        builder.append(reader.getElementText());
+                    }
+
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    final String localName = reader.getLocalName();
+
+                    if ("rPh".equals(localName)) {
+                        phoneticDepth--;
+                    } else if ("si".equals(localName)) {
+                        if (++size >= parsedOffsets.length) {
+                            parsedOffsets = Arrays.copyOf(parsedOffsets, parsedOffsets.length * 2);
+                        }
+
+                        parsedOffsets[size] = builder.length();
+                    }
+                }
+            }
+
+            return Arrays.copyOf(parsedOffsets, size + 1);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.Locale;
+import java.util.Random;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.catalog.dto.WorkloadProfile;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 性能測定や負荷試験で使用する合成DTOマトリクスを生成するコマンドクラスです。
+ * <p>
+ * 生成されるDTOマトリクスの規模は {@link WorkloadProfile} によって決定されます。各プロファイルの構成は以下の通りです。
+ * <ul>
+ * <li>{@link WorkloadProfile#SMALL} : ルートクラス10件、フィールド3〜8件、ネストの深さ最大1</li>
+ * <li>{@link WorkloadProfile#WIDE} : ルートクラス50件、フィールド150〜300件、ネストの深さ最大1</li>
+ * <li>{@link WorkloadProfile#DEEP} : ルートクラス5件、フィールド3〜6件、各クラスが子クラスを必ず持つネストの深さ12</li>
+ * <li>{@link WorkloadProfile#ENTERPRISE} : ルートクラス2000件、フィールド5〜40件、ネストの深さ最大4</li>
+ * </ul>
+ * <p>
+ * フィールドのデータ型はプリミティブ型と参照型が混在します。生成処理は指定されたシード値のみに依存するため、
+ * 同一のプロファイルとシード値からは常に同一のDTOマトリクスが生成されます。
+ * <p>
+ * 変数名やデータ型などの文字列は {@link DtoSymbolTable} で集約されるため、同一内容の文字列は1つのインスタンスを共有します。
+ * フィールド数が100件以上のクラスには列指向のDTOフィールドグループを使用します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoMatrixWorkloadGenerator implements Command<DtoMatrix> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * 既定のシード値
+     */
+    private static final long DEFAULT_SEED = 20200901L;
+
+    /**
+     * 生成されるクラス名の接頭辞
+     */
+    private static final String CLASS_NAME_PREFIX = "WorkloadDto";
+
+    /**
+     * 変数名に使用する単語
+     */
+    private static final String[] VARIABLE_NAME_WORDS = { "customer", "order", "item", "amount", "status", "code",
+            "name", "address", "account", "payment", "price", "quantity", "created", "updated", "owner", "category" };
+
+    /**
+     * 生成されるフィールドのデータ型
+     */
+    private static final String[] DATA_TYPES = { "int", "long", "boolean", "double", "String", "String", "String",
+            "Integer", "Long", "Boolean", "Date", "List<String>", "Map<String, Integer>" };
+
+    /**
+     * 生成されるフィールドの初期値。 {@link #DATA_TYPES} と同一の順序で定義されます。
+     */
+    private static final String[] INITIAL_VALUES = { "0", "0L", "false", "0.0", "\"\"", "\"\"", "\"\"", "0", "0L",
+            "false", "new Date()", "new ArrayList<>(0)", "new HashMap<>(0)" };
+
+    /**
+     * 不変フィールドとして生成される割合（百分率）
+     */
+    private static final int INVARIANT_RATE = 30;
+
+    /**
+     * 列指向のDTOフィールドグループを使用するフィールド数の下限
+     */
+    private static final int COLUMNAR_FIELD_COUNT = 100;
+
+    /**
+     * プロファイル
+     */
+    private WorkloadProfile workloadProfile;
+
+    /**
+     * シード値
+     */
+    private long seed;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoMatrixWorkloadGenerator() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param workloadProfile プロファイル
+     * @param seed            シード値
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoMatrixWorkloadGenerator(@NonNull WorkloadProfile workloadProfile, long seed) {
+        this.workloadProfile = workloadProfile;
+        this.seed = seed;
+    }
+
+    /**
+     * 引数として渡された {@code workloadProfile} と既定のシード値を基に {@link DtoMatrixWorkloadGenerator}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param workloadProfile プロファイル
+     * @return {@link DtoMatrixWorkloadGenerator} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoMatrix> of(@NonNull WorkloadProfile workloadProfile) {
+        return new DtoMatrixWorkloadGenerator(workloadProfile, DEFAULT_SEED);
+    }
+
+    /**
+     * 引数として渡された {@code workloadProfile} と {@code seed} を基に {@link DtoMatrixWorkloadGenerator}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param workloadProfile プロファイル
+     * @param seed            シード値
+     * @return {@link DtoMatrixWorkloadGenerator} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoMatrix> of(@NonNull WorkloadProfile workloadProfile, long seed) {
+        return new DtoMatrixWorkloadGenerator(workloadProfile, seed);
+    }
+
+    @Override
+    public DtoMatrix execute() {
+
+        final WorkloadShape workloadShape = WorkloadShape.of(this.workloadProfile);
+        final WorkloadContext workloadContext = new WorkloadContext(new Random(this.seed), workloadShape,
+                DtoSymbolTable.of());
+        final DtoDefinitionGroup dtoDefinitionGroup = DtoDefinitionGroup.of();
+
+        for (int i = 0; i < workloadShape.rootClassCount; i++) {
+            dtoDefinitionGroup.add(this.createDtoDefinition(workloadContext, 0));
+        }
+
+        final String profileName = this.workloadProfile.name().toLowerCase(Locale.ROOT);
+        final DtoMeta dtoMeta = DtoMeta.of("1.0.0", "workload-" + profileName, "org.thinkit.workload." + profileName,
+                CLASS_NAME_PREFIX, "負荷試験用DTO", "負荷試験用に生成されたDTOクラスです。");
+        final DtoCreator dtoCreator = DtoCreator.of("Kato Shinya", "2020/09/01", "2020/09/01");
+
+        logger.atFinest().log("DTOシンボルテーブル = (%s)", workloadContext.dtoSymbolTable);
+
+        return DtoMatrix.of(dtoMeta, dtoCreator, dtoDefinitionGroup);
+    }
+
+    /**
+     * 引数として渡されたネストの深さに位置するDTO定義を生成します。子クラスを持つフィールドの子DTO定義も再帰的に生成されます。
+     *
+     * @param workloadContext 生成処理のコンテキスト
+     * @param depth           ネストの深さ
+     * @return DTO定義
+     */
+    private DtoDefinition createDtoDefinition(WorkloadContext workloadContext, int depth) {
+
+        final Random random = workloadContext.random;
+        final DtoSymbolTable dtoSymbolTable = workloadContext.dtoSymbolTable;
+        final WorkloadShape workloadShape = workloadContext.workloadShape;
+        final String className = CLASS_NAME_PREFIX + workloadContext.classCount++;
+
+        final int fieldCount = workloadShape.minFieldCount
+                + random.nextInt(workloadShape.maxFieldCount - workloadShape.minFieldCount + 1);
+        final boolean canNest = depth < workloadShape.maxDepth;
+        final int requiredChildIndex = canNest && workloadShape.requiresChild ? random.nextInt(fieldCount) : -1;
+        final DtoFieldGroup dtoFieldGroup = fieldCount >= COLUMNAR_FIELD_COUNT ? DtoFieldGroup.ofColumnar(fieldCount)
+                : DtoFieldGroup.of();
+
+        for (int i = 0; i < fieldCount; i++) {
+            final String variableName = VARIABLE_NAME_WORDS[random.nextInt(VARIABLE_NAME_WORDS.length)] + i;
+            final boolean invariant = random.nextInt(100) < INVARIANT_RATE;
+            final String description = variableName + "の項目";
+
+            if (i == requiredChildIndex || canNest && random.nextInt(100) < workloadShape.childFieldRate) {
+                final DtoDefinition childDtoDefinition = this.createDtoDefinition(workloadContext, depth + 1);
+                final DtoField dtoField = dtoSymbolTable.createDtoField(variableName,
+                        childDtoDefinition.getClassName(), "null", invariant, description);
+                dtoField.setChildDtoDefinitionGroup(DtoDefinitionGroup.of().add(childDtoDefinition));
+                dtoFieldGroup.add(dtoField);
+                continue;
+            }
+
+            final int dataTypeIndex = random.nextInt(DATA_TYPES.length);
+            dtoFieldGroup.add(dtoSymbolTable.createDtoField(variableName, DATA_TYPES[dataTypeIndex],
+                    INITIAL_VALUES[dataTypeIndex], invariant, description));
+        }
+
+        return dtoSymbolTable.createDtoDefinition(className, className + "の説明", dtoFieldGroup);
+    }
+
+    /**
+     * プロファイルごとのDTOマトリクスの構成を管理するクラスです。
+     */
+    private static final class WorkloadShape {
+
+        /**
+         * ルートクラス数
+         */
+        private final int rootClassCount;
+
+        /**
+         * クラスごとの最小フィールド数
+         */
+        private final int minFieldCount;
+
+        /**
+         * クラスごとの最大フィールド数
+         */
+        private final int maxFieldCount;
+
+        /**
+         * ネストの最大の深さ
+         */
+        private final int maxDepth;
+
+        /**
+         * 子クラスを持つフィールドとして生成される割合（百分率）
+         */
+        private final int childFieldRate;
+
+        /**
+         * ネストの最大の深さに達するまで各クラスが子クラスを必ず持つか
+         */
+        private final boolean requiresChild;
+
+        /**
+         * コンストラクタ
+         *
+         * @param rootClassCount ルートクラス数
+         * @param minFieldCount  クラスごとの最小フィールド数
+         * @param maxFieldCount  クラスごとの最大フィールド数
+         * @param maxDepth       ネストの最大の深さ
+         * @param childFieldRate 子クラスを持つフィールドとして生成される割合（百分率）
+         * @param requiresChild  ネストの最大の深さに達するまで各クラスが子クラスを必ず持つか
+         */
+        private WorkloadShape(int rootClassCount, int minFieldCount, int maxFieldCount, int maxDepth,
+                int childFieldRate, boolean requiresChild) {
+            this.rootClassCount = rootClassCount;
+            this.minFieldCount = minFieldCount;
+            this.maxFieldCount = maxFieldCount;
+            this.maxDepth = maxDepth;
+            this.childFieldRate = childFieldRate;
+            this.requiresChild = requiresChild;
+        }
+
+        /**
+         * 引数として渡されたプロファイルに対応する構成を返却します。
+         *
+         * @param workloadProfile プロファイル
+         * @return プロファイルに対応する構成
+         */
+        private static WorkloadShape of(WorkloadProfile workloadProfile) {
+            return switch (workloadProfile) {
+                case WIDE -> new WorkloadShape(50, 150, 300, 1, 2, false);
+                case DEEP -> new WorkloadShape(5, 3, 6, 12, 5, true);
+                case ENTERPRISE -> new WorkloadShape(2000, 5, 40, 4, 3, false);
+                default -> new WorkloadShape(10, 3, 8, 1, 10, false);
+            };
+        }
+    }
+
+    /**
+     * DTOマトリクスの生成処理中の状態を管理するクラスです。
+     */
+    private static final class WorkloadContext {
+
+        /**
+         * 乱数生成器
+         */
+        private final Random random;
+
+        /**
+         * 構成
+         */
+        private final WorkloadShape workloadShape;
+
+        /**
+         * シンボルテーブル
+         */
+        private final DtoSymbolTable dtoSymbolTable;
+
+        /**
+         * 生成済みのクラス数
+         */
+        private int classCount;
+
+        /**
+         * コンストラクタ
+         *
+         * @param random         乱数生成器
+         * @param workloadShape  構成
+         * @param dtoSymbolTable シンボルテーブル
+         */
+        private WorkloadContext(Random random, WorkloadShape workloadShape, DtoSymbolTable dtoSymbolTable) {
+            this.random = random;
+            this.workloadShape = workloadShape;
+            this.dtoSymbolTable = dtoSymbolTable;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.catalog.dto.ExecutionMode;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoResource;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOマトリクス情報を基にJavaのDTOリソースを生成し、描画済みで未消費のDTOリソースのバイト数を上限内に抑えながらシンクへ引き渡すコマンドクラスです。
+ * <p>
+ * DTOリソースの描画は専用のフォーク/ジョインプールで {@link DtoResourceStreamingFormatter} により行われ、
+ * 描画されたDTOリソースはバイト数上限付きのバッファを経由して呼び出し元のスレッドからシンクへ引き渡されます。
+ * シンクの処理が描画に追いつかずバッファ内のDTOリソースの合計バイト数が上限に達した場合、描画処理はシンクがDTOリソースを消費するまで待機します。
+ * そのため巨大なDTOマトリクスを処理する場合でも、使用するメモリ量は指定された上限とワーカースレッドが描画中のDTOリソースの合計に制限されます。
+ * <p>
+ * バッファが空の場合は上限を超えるDTOリソースであっても受け入れるため、単一のDTOリソースが上限を超える場合でも処理は停止しません。
+ * DTOリソースのバイト数はDTOリソースが保持している表現を基に見積もります。符号化済みのバイト列を保持している場合はその長さを、
+ * 生成済みの文字列を保持している場合は文字列の長さをUTF-16で換算した値を計上し、両方を保持している場合は合計します。
+ * <p>
+ * シンクは常に呼び出し元のスレッドから呼び出されるため、スレッドセーフである必要はありません。 {@link ExecutionMode#SEQUENTIAL}
+ * が指定された場合は {@link DtoResourceFormatter} と同一の順序で、 {@link ExecutionMode#PARALLEL}
+ * が指定された場合は描画が完了した順にシンクが呼び出されます。
+ * <p>
+ * 実行結果としてシンクへ引き渡したDTOリソースの件数を返却します。シンクが例外を送出した場合を含め、処理が異常終了した場合は描画処理を中止し
+ * {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceBoundedFormatter implements Command<Integer> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * 既定のバイト数の上限
+     */
+    private static final long DEFAULT_BYTE_BUDGET = 16L * 1024 * 1024;
+
+    /**
+     * DTOマトリクス
+     */
+    private DtoMatrix dtoMatrix;
+
+    /**
+     * 実行モード
+     */
+    private ExecutionMode executionMode;
+
+    /**
+     * 描画モード
+     */
+    private RenderingMode renderingMode;
+
+    /**
+     * 描画済みで未消費のDTOリソースのバイト数の上限
+     */
+    private long byteBudget;
+
+    /**
+     * DTOリソースシンク
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Consumer<DtoResource> dtoResourceSink;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceBoundedFormatter() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param executionMode   実行モード
+     * @param renderingMode   描画モード
+     * @param byteBudget      描画済みで未消費のDTOリソースのバイト数の上限
+     * @param dtoResourceSink DTOリソースシンク
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException {@code byteBudget} が1未満の場合
+     */
+    private DtoResourceBoundedFormatter(@NonNull final DtoMatrix dtoMatrix,
+            @NonNull final ExecutionMode executionMode, @NonNull final RenderingMode renderingMode,
+            final long byteBudget, @NonNull final Consumer<DtoResource> dtoResourceSink) {
+
+        if (byteBudget < 1) {
+            throw new IllegalArgumentException(
+                    String.format("バイト数の上限には1以上の値を指定してください。上限 = (%s)", byteBudget));
+        }
+
+        this.dtoMatrix = dtoMatrix;
+        this.executionMode = executionMode;
+        this.renderingMode = renderingMode;
+        this.byteBudget = byteBudget;
+        this.dtoResourceSink = dtoResourceSink;
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} と {@code dtoResourceSink} を基に
+     * {@link DtoResourceBoundedFormatter} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 実行モードには {@link ExecutionMode#SEQUENTIAL} 、描画モードには {@link RenderingMode#FORMATTER}
+     * 、バイト数の上限には16MBが使用されます。
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param dtoResourceSink DTOリソースシンク
+     * @return {@link DtoResourceBoundedFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<Integer> of(@NonNull final DtoMatrix dtoMatrix,
+            @NonNull final Consumer<DtoResource> dtoResourceSink) {
+        return new DtoResourceBoundedFormatter(dtoMatrix, ExecutionMode.SEQUENTIAL, RenderingMode.FORMATTER,
+                DEFAULT_BYTE_BUDGET, dtoResourceSink);
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} 、 {@code byteBudget} 、 {@code dtoResourceSink} を基に
+     * {@link DtoResourceBoundedFormatter} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 実行モードには {@link ExecutionMode#SEQUENTIAL} 、描画モードには {@link RenderingMode#FORMATTER} が使用されます。
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param byteBudget      描画済みで未消費のDTOリソースのバイト数の上限
+     * @param dtoResourceSink DTOリソースシンク
+     * @return {@link DtoResourceBoundedFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException {@code byteBudget} が1未満の場合
+     */
+    public static Command<Integer> of(@NonNull final DtoMatrix dtoMatrix, final long byteBudget,
+            @NonNull final Consumer<DtoResource> dtoResourceSink) {
+        return new DtoResourceBoundedFormatter(dtoMatrix, ExecutionMode.SEQUENTIAL, RenderingMode.FORMATTER,
+                byteBudget, dtoResourceSink);
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} 、 {@code executionMode} 、 {@code renderingMode} 、
+     * {@code byteBudget} 、 {@code dtoResourceSink} を基に {@link DtoResourceBoundedFormatter}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param executionMode   実行モード
+     * @param renderingMode   描画モード
+     * @param byteBudget      描画済みで未消費のDTOリソースのバイト数の上限
+     * @param dtoResourceSink DTOリソースシンク
+     * @return {@link DtoResourceBoundedFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException {@code byteBudget} が1未満の場合
+     */
+    public static Command<Integer> of(@NonNull final DtoMatrix dtoMatrix, @NonNull final ExecutionMode executionMode,
+            @NonNull final RenderingMode renderingMode, final long byteBudget,
+            @NonNull final Consumer<DtoResource> dtoResourceSink) {
+        return new DtoResourceBoundedFormatter(dtoMatrix, executionMode, renderingMode, byteBudget, dtoResourceSink);
+    }
+
+    @Override
+    public Integer execute() {
+
+        final DtoResourceBuffer dtoResourceBuffer = new DtoResourceBuffer(this.byteBudget);
+        final Command<Integer> dtoResourceStreamingFormatter = DtoResourceStreamingFormatter.of(this.dtoMatrix,
+                this.executionMode, this.renderingMode, dtoResourceBuffer::put);
+        final ForkJoinPool renderingPool = new ForkJoinPool(switch (this.executionMode) {
+            case PARALLEL -> Runtime.getRuntime().availableProcessors();
+            default -> 1;
+        });
+
+        try {
+            final Future<Integer> renderedCount = renderingPool.submit(() -> {
+                try {
+                    return dtoResourceStreamingFormatter.execute();
+                } finally {
+                    dtoResourceBuffer.close();
+                }
+            });
+
+            int consumedCount = 0;
+            DtoResource dtoResource;
+
+            while ((dtoResource = dtoResourceBuffer.take()) != null) {
+                this.dtoResourceSink.accept(dtoResource);
+                consumedCount++;
+            }
+
+            if (renderedCount.get() == null) {
+                logger.atSevere().log("DTOリソースの描画処理が異常終了しました。");
+                return null;
+            }
+
+            logger.atFinest().log("シンクへ引き渡したDTOリソース件数 = (%s)、未消費のDTOリソースの最大バイト数 = (%s)", consumedCount,
+                    dtoResourceBuffer.getPeakBufferedBytes());
+            return consumedCount;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dtoResourceBuffer.cancel();
+            logger.atSevere().withCause(e).log("DTOリソースのシンクへの引き渡し処理が中断されました。");
+            return null;
+        } catch (ExecutionException | RuntimeException e) {
+            dtoResourceBuffer.cancel();
+            logger.atSevere().withCause(e).log("DTOリソースのシンクへの引き渡し処理が異常終了しました。");
+            return null;
+        } finally {
+            renderingPool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.thinkit.generator.common.vo.dto.DtoResource;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 描画済みで未消費のDTOリソースを保持するバイト数上限付きのバッファクラスです。
+ * <p>
+ * {@link #put(DtoResource)} はバッファ内のDTOリソースの合計バイト数が上限を超える場合、消費側が {@link #take()}
+ * でDTOリソースを取り出して空きが生じるまで待機します。バッファが空の場合は上限を超えるDTOリソースであっても受け入れるため、
+ * 単一のDTOリソースが上限を超える場合でも処理は停止しません。
+ * <p>
+ * DTOリソースのバイト数はDTOリソースが保持している表現を基に、符号化済みのバイト列の長さと生成済みの文字列をUTF-16で換算した値の合計で見積もります。
+ * 見積もりのためにリソースの生成や符号化は行いません。バッファから取り出す際は追加時に見積もったバイト数を差し引きます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+final class DtoResourceBuffer {
+
+    /**
+     * バイト数の上限
+     */
+    private final long byteBudget;
+
+    /**
+     * 未消費のDTOリソース
+     */
+    @ToString.Exclude
+    private final Deque<DtoResource> dtoResources = new ArrayDeque<>();
+
+    /**
+     * 未消費のDTOリソースごとの追加時に見積もったバイト数
+     */
+    @ToString.Exclude
+    private final Deque<Long> dtoResourceSizes = new ArrayDeque<>();
+
+    /**
+     * バッファ内のDTOリソースの合計バイト数
+     */
+    private long bufferedBytes;
+
+    /**
+     * バッファ内のDTOリソースの合計バイト数の最大値
+     */
+    private long peakBufferedBytes;
+
+    /**
+     * 生産側の処理が完了したか
+     */
+    private boolean closed;
+
+    /**
+     * 消費側の処理が中止されたか
+     */
+    private boolean cancelled;
+
+    /**
+     * 排他制御オブジェクト
+     */
+    @ToString.Exclude
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * バッファに空きが生じたことを通知する条件
+     */
+    @ToString.Exclude
+    private final Condition notFull = this.lock.newCondition();
+
+    /**
+     * バッファにDTOリソースが追加されたことを通知する条件
+     */
+    @ToString.Exclude
+    private final Condition notEmpty = this.lock.newCondition();
+
+    /**
+     * コンストラクタ
+     *
+     * @param byteBudget バイト数の上限
+     *
+     * @exception IllegalArgumentException {@code byteBudget} が1未満の場合
+     */
+    DtoResourceBuffer(long byteBudget) {
+
+        if (byteBudget < 1) {
+            throw new IllegalArgumentException(
+                    String.format("バイト数の上限には1以上の値を指定してください。上限 = (%s)", byteBudget));
+        }
+
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * 引数として渡されたDTOリソースをバッファへ追加します。バッファに空きがない場合は空きが生じるまで待機します。
+     *
+     * @param dtoResource DTOリソース
+     *
+     * @exception NullPointerException  引数として {@code null} が渡された場合
+     * @exception CancellationException 消費側の処理が中止された場合、または待機中に割り込みが発生した場合
+     */
+    void put(@NonNull DtoResource dtoResource) {
+
+        final long bytes = sizeOf(dtoResource);
+
+        this.lock.lock();
+        try {
+            while (!this.cancelled && this.bufferedBytes > 0 && this.bufferedBytes + bytes > this.byteBudget) {
+                this.notFull.await();
+            }
+
+            if (this.cancelled) {
+                throw new CancellationException("DTOリソースの消費処理が中止されました。");
+            }
+
+            this.dtoResources.addLast(dtoResource);
+            this.dtoResourceSizes.addLast(bytes);
+            this.bufferedBytes += bytes;
+            this.peakBufferedBytes = Math.max(this.peakBufferedBytes, this.bufferedBytes);
+            this.notEmpty.signal();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("DTOリソースのバッファへの追加待ち中に割り込みが発生しました。");
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * バッファからDTOリソースを取り出します。バッファが空の場合はDTOリソースが追加されるか生産側の処理が完了するまで待機します。
+     *
+     * @return DTOリソース。生産側の処理が完了しバッファが空の場合は {@code null}
+     *
+     * @throws InterruptedException 待機中に割り込みが発生した場合
+     */
+    DtoResource take() throws InterruptedException {
+
+        this.lock.lock();
+        try {
+            while (this.dtoResources.isEmpty() && !this.closed) {
+                this.notEmpty.await();
+            }
+
+            final DtoResource dtoResource = this.dtoResources.pollFirst();
+
+            if (dtoResource != null) {
+                this.bufferedBytes -= this.dtoResourceSizes.pollFirst();
+                this.notFull.signalAll();
+            }
+
+            return dtoResource;
+
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 生産側の処理が完了したことを通知します。
+     */
+    void close() {
+
+        this.lock.lock();
+        try {
+            this.closed = true;
+            this.notEmpty.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 消費側の処理を中止し、バッファ内のDTOリソースを破棄します。追加待ちの生産側の処理には
+     * {@link CancellationException} が送出されます。
+     */
+    void cancel() {
+
+        this.lock.lock();
+        try {
+            this.cancelled = true;
+            this.dtoResources.clear();
+            this.dtoResourceSizes.clear();
+            this.bufferedBytes = 0;
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * バッファ内のDTOリソースの合計バイト数の最大値を返却します。
+     *
+     * @return バッファ内のDTOリソースの合計バイト数の最大値
+     */
+    long getPeakBufferedBytes() {
+
+        this.lock.lock();
+        try {
+            return this.peakBufferedBytes;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 引数として渡されたDTOリソースが保持している表現のバイト数を見積もり返却します。
+     * <p>
+     * 符号化済みのバイト列と生成済みの文字列のうち、DTOリソースが保持しているものだけを計上します。
+     *
+     * @param dtoResource DTOリソース
+     * @return DTOリソースのバイト数
+     */
+    static long sizeOf(@NonNull DtoResource dtoResource) {
+
+        long bytes = 0;
+
+        if (dtoResource.isResourceEncoded()) {
+            bytes += dtoResource.getEncodedResource().remaining();
+        }
+
+        if (dtoResource.isResourceMaterialized()) {
+            bytes += (long) dtoResource.getResource().length() * Character.BYTES;
+        }
+
+        return bytes;
+    }
+}
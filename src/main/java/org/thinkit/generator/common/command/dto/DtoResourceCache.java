@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.thinkit.generator.common.vo.dto.DtoResource;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 整形済みのDTOリソースを保持するメモリキャッシュです。
+ * <p>
+ * キャッシュのキーにはDTO定義、DTOメタ、DTO作成者および描画モードから算出されるフィンガープリントを使用します。
+ * そのため同一の構造を持つDTO定義が繰り返し渡された場合、リソースの構築処理と整形処理を省略し保持しているDTOリソースを返却します。
+ * <p>
+ * 保持するDTOリソースの件数が上限を超えた場合は最も長く参照されていないDTOリソースから破棄されます。
+ * キャッシュのヒット数やミス数は {@link #stats()} から取得できます。
+ * <p>
+ * このクラスはスレッドセーフであるため、複数のコマンドや並列実行されるタスク間で同一のインスタンスを共有することができます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceCache {
+
+    /**
+     * キャッシュ
+     */
+    private final Cache<String, DtoResource> cache;
+
+    /**
+     * コンストラクタ
+     *
+     * @param maximumSize 保持するDTOリソースの上限件数
+     *
+     * @exception IllegalArgumentException {@code maximumSize} が負数の場合
+     */
+    private DtoResourceCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * 引数として渡された {@code maximumSize} を上限件数とする {@link DtoResourceCache} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param maximumSize 保持するDTOリソースの上限件数
+     * @return {@link DtoResourceCache} クラスの新しいインスタンス
+     *
+     * @exception IllegalArgumentException {@code maximumSize} が負数の場合
+     */
+    public static DtoResourceCache of(long maximumSize) {
+        return new DtoResourceCache(maximumSize);
+    }
+
+    /**
+     * キャッシュのヒット数やミス数、破棄された件数などの統計情報を返却します。
+     *
+     * @return キャッシュの統計情報
+     */
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * キャッシュが保持しているDTOリソースの概算件数を返却します。
+     *
+     * @return キャッシュが保持しているDTOリソースの概算件数
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * キャッシュが保持している全てのDTOリソースを破棄します。
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * 引数として渡されたキーに紐づくDTOリソースを返却します。
+     * <p>
+     * キャッシュにDTOリソースが存在しない場合は {@code renderer} からDTOリソースを取得し、キャッシュへ格納した上で返却します。
+     * {@code renderer} が {@code null} を返却した場合はキャッシュへ格納せず {@code null} を返却します。
+     * <p>
+     * 同一のキーに対して複数のスレッドから同時に呼び出された場合、 {@code renderer} は1つのスレッドでのみ実行され、
+     * 他のスレッドはその結果を待機して同一のDTOリソースを返却します。
+     *
+     * @param key      フィンガープリント
+     * @param renderer DTOリソースを生成する処理
+     * @return DTOリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoResource get(@NonNull String key, @NonNull Supplier<DtoResource> renderer) {
+        try {
+            return this.cache.get(key, renderer::get);
+        } catch (InvalidCacheLoadException e) {
+            return null;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -14,27 +14,16 @@
 
 package org.thinkit.generator.common.command.dto;
 
-import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
 
 import com.google.common.flogger.FluentLogger;
-import com.google.googlejavaformat.java.Formatter;
-import com.google.googlejavaformat.java.FormatterException;
-import com.google.googlejavaformat.java.JavaFormatterOptions;
-import com.google.googlejavaformat.java.JavaFormatterOptions.Style;
 
-import org.thinkit.common.catalog.Extension;
 import org.thinkit.common.command.Command;
-import org.thinkit.generator.common.factory.dtogenerator.DtoResourceFactory;
-import org.thinkit.generator.common.factory.resource.ClassDescription;
-import org.thinkit.generator.common.factory.resource.Constructor;
-import org.thinkit.generator.common.factory.resource.Copyright;
-import org.thinkit.generator.common.factory.resource.Resource;
-import org.thinkit.generator.common.factory.resource.ResourceFactory;
+import org.thinkit.generator.common.catalog.dto.ExecutionMode;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
 import org.thinkit.generator.common.vo.dto.DtoCreator;
-import org.thinkit.generator.common.vo.dto.DtoDefinition;
-import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
-import org.thinkit.generator.common.vo.dto.DtoField;
-import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionNode;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionPlan;
 import org.thinkit.generator.common.vo.dto.DtoMatrix;
 import org.thinkit.generator.common.vo.dto.DtoMeta;
 import org.thinkit.generator.common.vo.dto.DtoResource;
@@ -46,6 +35,25 @@ import lombok.ToString;
 
 /**
  * DTOマトリクス情報を基にJavaのDTOリソースを生成する処理を定義したコマンドクラスです。
+ * <p>
+ * ネストされたDTO定義グループは {@link DtoDefinitionPlan} へ平坦化した上で生成計画の順に整形されるため、ネストの深さに関わらず
+ * {@link StackOverflowError} は発生しません。 {@link ExecutionMode#PARALLEL}
+ * が指定された場合は生成計画に含まれる各DTO定義の整形処理を並列実行します。
+ * 並列実行時も生成されるDTOリソースグループの順序は逐次実行時と同一です。
+ * <p>
+ * ソースコードの整形にはエンジン全体で共有される {@link DtoSourceFormatter} を使用します。
+ * <p>
+ * {@link RenderingMode#PREFORMATTED} が指定された場合はフォーマッタを経由せず、各リソースが直接生成する整形済みのソースコードを使用します。
+ * {@link RenderingMode#VERIFIED_PREFORMATTED} が指定された場合は整形済みのソースコードがフォーマッタの出力と一致するか検証し、
+ * 一致しない場合はDTOリソースの生成に失敗したものとして扱います。
+ * <p>
+ * 1件でもDTOリソースの生成に失敗した場合は一部のDTOリソースのみを含むDTOリソースグループを返却せず、実行結果として {@code null} を返却します。
+ * <p>
+ * 実行モード、描画モード、DTOリソースキャッシュおよび計測結果のリスナーは {@link DtoResourceFormatterOptions} で指定します。
+ * <p>
+ * {@link DtoResourceCache} が指定された場合は、構造が同一のDTO定義に対してキャッシュに保持された整形済みのDTOリソースを再利用します。
+ * <p>
+ * {@link DtoResourceMetricsListener} が指定された場合は、DTOリソースを1件生成するごとに各処理の所要時間と出力サイズをリスナーへ通知します。
  *
  * @author Kato Shinya
  * @since 1.0
@@ -65,6 +73,28 @@ public final class DtoResourceFormatter implements Command<DtoResourceGroup> {
      */
     private DtoMatrix dtoMatrix;
 
+    /**
+     * 実行モード
+     */
+    private ExecutionMode executionMode;
+
+    /**
+     * 描画モード
+     */
+    private RenderingMode renderingMode;
+
+    /**
+     * DTOリソースキャッシュ。キャッシュを使用しない場合は {@code null}
+     */
+    private DtoResourceCache dtoResourceCache;
+
+    /**
+     * 計測結果のリスナー。計測しない場合は {@code null}
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private DtoResourceMetricsListener dtoResourceMetricsListener;
+
     /**
      * デフォルトコンストラクタ
      */
@@ -73,18 +103,28 @@ public final class DtoResourceFormatter implements Command<DtoResourceGroup> {
 
     /**
      * コンストラクタ
+     * <p>
+     * 実行オプションの値は生成時に複写されます。
      *
      * @param dtoMatrix DTOマトリクス
+     * @param options   実行オプション
      *
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
-    private DtoResourceFormatter(@NonNull final DtoMatrix dtoMatrix) {
+    private DtoResourceFormatter(@NonNull final DtoMatrix dtoMatrix,
+            @NonNull final DtoResourceFormatterOptions options) {
         this.dtoMatrix = dtoMatrix;
+        this.executionMode = options.getExecutionMode();
+        this.renderingMode = options.getRenderingMode();
+        this.dtoResourceCache = options.getDtoResourceCache();
+        this.dtoResourceMetricsListener = options.getDtoResourceMetricsListener();
     }
 
     /**
      * 引数として渡された {@code dtoMatrix} を基に {@link DtoResourceFormatter}
      * クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 実行オプションには {@link DtoResourceFormatterOptions#of()} の既定値が使用されます。
      *
      * @param dtoMatrix DTOマトリクス
      * @return {@link DtoResourceFormatter} クラスの新しいインスタンス
@@ -92,16 +132,36 @@ public final class DtoResourceFormatter implements Command<DtoResourceGroup> {
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     public static Command<DtoResourceGroup> of(@NonNull final DtoMatrix dtoMatrix) {
-        return new DtoResourceFormatter(dtoMatrix);
+        return new DtoResourceFormatter(dtoMatrix, DtoResourceFormatterOptions.of());
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} と {@code options} を基に {@link DtoResourceFormatter}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param dtoMatrix DTOマトリクス
+     * @param options   実行オプション
+     * @return {@link DtoResourceFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoResourceGroup> of(@NonNull final DtoMatrix dtoMatrix,
+            @NonNull final DtoResourceFormatterOptions options) {
+        return new DtoResourceFormatter(dtoMatrix, options);
     }
 
     @Override
     public DtoResourceGroup execute() {
 
-        final DtoResourceGroup dtoResourceGroup = DtoResourceGroup.of();
+        final DtoResourceRenderer dtoResourceRenderer = this.createDtoResourceRenderer();
+        final DtoDefinitionPlan dtoDefinitionPlan = DtoDefinitionPlan.of(this.dtoMatrix.getDtoDefinitionGroup());
 
-        if (!this.formatDtoResourceRecursively(this.dtoMatrix.getDtoMeta(), this.dtoMatrix.getDtoCreator(),
-                this.dtoMatrix.getDtoDefinitionGroup(), dtoResourceGroup)) {
+        final DtoResourceGroup dtoResourceGroup = switch (this.executionMode) {
+            case PARALLEL -> this.formatDtoResourceInParallel(dtoResourceRenderer, dtoDefinitionPlan);
+            default -> this.formatDtoResourceSequentially(dtoResourceRenderer, dtoDefinitionPlan);
+        };
+
+        if (dtoResourceGroup == null) {
             logger.atSevere().log("DTO定義情報の整形処理が異常終了しました。");
             return null;
         }
@@ -111,166 +171,76 @@ public final class DtoResourceFormatter implements Command<DtoResourceGroup> {
     }
 
     /**
-     * 再帰的にDTOリソースをjavaファイルへ出力する形式へ整形する処理を定義したメソッドです。整形されたDTOリソース情報は引数として渡された
-     * {@code dtoResourceGroup} オブジェクトに格納されます。
-     *
-     * @param dtoMeta            DTOメタ（入力）
-     * @param dtoCreator         DTO作成者（入力）
-     * @param dtoDefinitionGroup DTO定義グループ（入力）
-     * @param dtoResourceGroup   DTOリソースグループ（出力）
-     * @return 再帰処理が正常終了した場合は {@code true}、それ以外は {@code false}
+     * 設定された描画モード、DTOリソースキャッシュおよび計測結果のリスナーを基にDTOリソースレンダラーを生成し返却します。
      *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @return DTOリソースレンダラー
      */
-    private boolean formatDtoResourceRecursively(@NonNull final DtoMeta dtoMeta, @NonNull final DtoCreator dtoCreator,
-            @NonNull final DtoDefinitionGroup dtoDefinitionGroup, @NonNull final DtoResourceGroup dtoResourceGroup) {
-
-        JavaFormatterOptions options = JavaFormatterOptions.builder().style(Style.AOSP).build();
-        Formatter formatter = new Formatter(options);
-
-        for (DtoDefinition dtoDefinition : dtoDefinitionGroup) {
-            final String className = dtoDefinition.getClassName();
-            final Resource resource = this.formatResource(className, dtoDefinition.getDtoFieldGroup(), dtoMeta,
-                    dtoCreator, dtoResourceGroup);
-
-            if (resource == null) {
-                logger.atSevere().log("クラス項目定義情報の整形処理が異常終了しました。");
-                return false;
-            }
+    private DtoResourceRenderer createDtoResourceRenderer() {
 
-            try {
-                dtoResourceGroup.add(DtoResource.of(dtoMeta.getPackageName(), className,
-                        formatter.formatSource(resource.createResource())));
-            } catch (FormatterException e) {
-                e.printStackTrace();
-            }
-        }
+        final DtoMeta dtoMeta = this.dtoMatrix.getDtoMeta();
+        final DtoCreator dtoCreator = this.dtoMatrix.getDtoCreator();
 
-        return true;
+        return new DtoResourceRenderer(dtoMeta, dtoCreator, this.renderingMode, this.dtoResourceCache,
+                this.dtoResourceMetricsListener);
     }
 
     /**
-     * 引数として渡された情報を基にリソース情報を構築します。
-     * <p>
-     * 各項目に子クラスが存在する場合は再帰処理(
-     * {@link #formatDtoResourceRecursively(DtoMeta, DtoCreator, DtoDefinitionGroup, DtoResourceGroup)}
-     * )を行います。
-     * <p>
-     * 再帰処理中に想定外のエラーが発生した場合は必ず {@code null} を返却します。
+     * DTO定義の生成計画を逐次処理しDTOリソースグループを生成します。
      *
-     * @param className        クラス名
-     * @param dtoFieldGroup    DTOフィールドグループ
-     * @param dtoMeta          DTOメタ
-     * @param dtoCreator       DTO作成者
-     * @param dtoResourceGroup DTOリソースグループ
+     * @param dtoResourceRenderer DTOリソースレンダラー
+     * @param dtoDefinitionPlan   DTO定義の生成計画
+     * @return DTOリソースグループ。DTOリソースの生成に失敗した場合は {@code null}
      *
-     * @return DTOリソースオブジェクト
+     * @exception NullPointerException 引数として {@code null} が渡された場合
      */
-    private Resource formatResource(@NonNull final String className, @NonNull final DtoFieldGroup dtoFieldGroup,
-            @NonNull final DtoMeta dtoMeta, @NonNull final DtoCreator dtoCreator,
-            @NonNull final DtoResourceGroup dtoResourceGroup) {
-
-        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
-        final Resource resource = this.createResource(className, dtoMeta, dtoCreator);
-        final Constructor requiredConstructor = this.createConstructor(className, "Constructor");
-        final Constructor copyingConstructor = this.createConstructor(className, "Copying constructor");
+    private DtoResourceGroup formatDtoResourceSequentially(@NonNull final DtoResourceRenderer dtoResourceRenderer,
+            @NonNull final DtoDefinitionPlan dtoDefinitionPlan) {
 
-        copyingConstructor.add(resourceFactory.createParameter(className, this.toInitialLowerCase(className)));
-
-        for (DtoField dtoField : dtoFieldGroup) {
-            final String dataType = dtoField.getDataType();
-            final String variableName = dtoField.getVariableName();
+        final DtoResourceGroup dtoResourceGroup = DtoResourceGroup.of();
 
-            resourceFactory.createFieldDefinition(dataType, variableName, dtoField.getInitialValue());
+        for (DtoDefinitionNode dtoDefinitionNode : dtoDefinitionPlan) {
+            final DtoResource dtoResource = dtoResourceRenderer.render(dtoDefinitionNode.getDtoDefinition());
 
-            if (dtoField.isInvariant()) {
-                requiredConstructor.add(resourceFactory.createDescriptionTag(variableName, dtoField.getDescription()));
-                requiredConstructor.add(resourceFactory.createParameter(dataType, variableName));
-                requiredConstructor.add(resourceFactory.createConstructorProcess(variableName).toRequired());
+            if (dtoResource == null) {
+                return null;
             }
 
-            copyingConstructor.add(resourceFactory.createConstructorProcess(className, variableName).toCopying());
-
-            final DtoDefinitionGroup childDtoDefinitionGroup = dtoField.getChildDtoDefinitionGroup();
-
-            if (!childDtoDefinitionGroup.isEmpty()) {
-                logger.atFinest().log("子クラスが存在するため再帰処理を開始します。");
-
-                if (!this.formatDtoResourceRecursively(dtoMeta, dtoCreator, childDtoDefinitionGroup,
-                        dtoResourceGroup)) {
-                    logger.atSevere().log("子クラス定義情報を生成するための再起処理が異常終了しました。");
-                    return null;
-                }
-            }
+            dtoResourceGroup.add(dtoResource);
         }
 
-        resource.add(requiredConstructor);
-        resource.add(copyingConstructor);
-
-        return resource;
+        return dtoResourceGroup;
     }
 
     /**
-     * 引数として渡された情報を基に著作権定義オブジェクトを生成し返却します。
+     * DTO定義の生成計画を並列処理しDTOリソースグループを生成します。
+     * <p>
+     * 各DTO定義の整形結果は生成計画のインデックスに対応する位置へ格納され、生成計画の順に結合されるため、生成されるDTOリソースグループの順序は
+     * {@link #formatDtoResourceSequentially(DtoResourceRenderer, DtoDefinitionPlan)} と同一です。
      *
-     * @param className  クラス名
-     * @param dtoMeta    DTOメタ
-     * @param dtoCreator DTO作成者
-     * @return 著作権定義オブジェクト
+     * @param dtoResourceRenderer DTOリソースレンダラー
+     * @param dtoDefinitionPlan   DTO定義の生成計画
+     * @return DTOリソースグループ。DTOリソースの生成に失敗した場合は {@code null}
      *
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
-    private Copyright createCopyright(@NonNull String className, @NonNull DtoMeta dtoMeta,
-            @NonNull DtoCreator dtoCreator) {
-        return DtoResourceFactory.getInstance().createCopyright(dtoMeta.getProjectName(), className + Extension.java(),
-                StandardCharsets.UTF_8.name(), dtoCreator.getCreator(), dtoCreator.getCreationDate());
-    }
+    private DtoResourceGroup formatDtoResourceInParallel(@NonNull final DtoResourceRenderer dtoResourceRenderer,
+            @NonNull final DtoDefinitionPlan dtoDefinitionPlan) {
 
-    /**
-     * 引数として渡された情報を基にリソース定義オブジェクトを生成し返却します。
-     *
-     * @param className  クラス名
-     * @param dtoMeta    DTOメタ
-     * @param dtoCreator DTO作成者
-     * @return リソース定義オブジェクト
-     *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
-     */
-    private Resource createResource(@NonNull String className, @NonNull DtoMeta dtoMeta,
-            @NonNull DtoCreator dtoCreator) {
+        final DtoResource[] dtoResources = new DtoResource[dtoDefinitionPlan.size()];
 
-        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
-        final Copyright copyright = this.createCopyright(className, dtoMeta, dtoCreator);
-        final ClassDescription classDescription = resourceFactory.createClassDescription(dtoMeta.getDescription(),
-                dtoCreator.getCreator(), dtoMeta.getVersion());
+        IntStream.range(0, dtoResources.length).parallel().forEach(index -> dtoResources[index] = dtoResourceRenderer
+                .render(dtoDefinitionPlan.get(index).getDtoDefinition()));
 
-        return resourceFactory.createResource(copyright, resourceFactory.createPackage(dtoMeta.getPackageName()),
-                classDescription, className);
-    }
+        final DtoResourceGroup dtoResourceGroup = DtoResourceGroup.of();
 
-    /**
-     * 引数として渡された情報を基にコンストラクタ定義オブジェクトを生成し返却します。
-     *
-     * @param className   クラス名
-     * @param description 説明
-     * @return コンストラクタ定義オブジェクト
-     *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
-     */
-    private Constructor createConstructor(@NonNull String className, @NonNull String description) {
-        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
-        return resourceFactory.createConstructor(className, resourceFactory.createFunctionDescription(description));
-    }
+        for (DtoResource dtoResource : dtoResources) {
+            if (dtoResource == null) {
+                return null;
+            }
 
-    /**
-     * 文字列の上1桁目を小文字に変換して返却します。
-     *
-     * @param sequence 文字列
-     * @return 上1桁目が小文字に変換された文字列
-     *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
-     */
-    private String toInitialLowerCase(@NonNull String sequence) {
-        return sequence.substring(0, 1).toLowerCase() + sequence.substring(1);
+            dtoResourceGroup.add(dtoResource);
+        }
+
+        return dtoResourceGroup;
     }
 }
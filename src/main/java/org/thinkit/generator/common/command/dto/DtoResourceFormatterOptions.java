@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import org.thinkit.generator.common.catalog.dto.ExecutionMode;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * {@link DtoResourceFormatter} の実行オプションを管理するクラスです。
+ * <p>
+ * このクラスはFluentインターフェースの概念を応用し設計されています。<br>
+ * そのため、以下のようなメソッドチェーンでの操作が可能です。
+ *
+ * <pre>
+ * <code>
+ * DtoResourceFormatterOptions options = DtoResourceFormatterOptions.of()
+ *                                  .executionMode(ExecutionMode.PARALLEL)
+ *                                  .renderingMode(RenderingMode.PREFORMATTED)
+ *                                  .dtoResourceCache(dtoResourceCache);
+ * </code>
+ * </pre>
+ * <p>
+ * 指定されなかったオプションには {@link DtoResourceFormatter#of(org.thinkit.generator.common.vo.dto.DtoMatrix)}
+ * と同一の既定値が使用されます。実行モードの既定値は {@link ExecutionMode#SEQUENTIAL} 、描画モードの既定値は
+ * {@link RenderingMode#FORMATTER} であり、DTOリソースキャッシュと計測結果のリスナーは使用されません。
+ * <p>
+ * {@link DtoResourceFormatter} は生成時にオプションの値を複写するため、生成後にオプションを変更しても生成済みのコマンドには影響しません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceFormatterOptions {
+
+    /**
+     * 実行モード
+     */
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+
+    /**
+     * 描画モード
+     */
+    private RenderingMode renderingMode = RenderingMode.FORMATTER;
+
+    /**
+     * DTOリソースキャッシュ。キャッシュを使用しない場合は {@code null}
+     */
+    private DtoResourceCache dtoResourceCache;
+
+    /**
+     * 計測結果のリスナー。計測しない場合は {@code null}
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private DtoResourceMetricsListener dtoResourceMetricsListener;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceFormatterOptions() {
+    }
+
+    /**
+     * 既定値を持つ {@link DtoResourceFormatterOptions} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @return {@link DtoResourceFormatterOptions} クラスの新しいインスタンス
+     */
+    public static DtoResourceFormatterOptions of() {
+        return new DtoResourceFormatterOptions();
+    }
+
+    /**
+     * 実行モードを設定します。
+     *
+     * @param executionMode 実行モード
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoResourceFormatterOptions executionMode(@NonNull ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return this;
+    }
+
+    /**
+     * 描画モードを設定します。
+     *
+     * @param renderingMode 描画モード
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoResourceFormatterOptions renderingMode(@NonNull RenderingMode renderingMode) {
+        this.renderingMode = renderingMode;
+        return this;
+    }
+
+    /**
+     * DTOリソースキャッシュを設定します。
+     *
+     * @param dtoResourceCache DTOリソースキャッシュ
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoResourceFormatterOptions dtoResourceCache(@NonNull DtoResourceCache dtoResourceCache) {
+        this.dtoResourceCache = dtoResourceCache;
+        return this;
+    }
+
+    /**
+     * 計測結果のリスナーを設定します。
+     *
+     * @param dtoResourceMetricsListener 計測結果のリスナー
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoResourceFormatterOptions dtoResourceMetricsListener(
+            @NonNull DtoResourceMetricsListener dtoResourceMetricsListener) {
+        this.dtoResourceMetricsListener = dtoResourceMetricsListener;
+        return this;
+    }
+}
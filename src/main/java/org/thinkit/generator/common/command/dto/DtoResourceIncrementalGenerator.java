@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionNode;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionPlan;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+import org.thinkit.generator.common.vo.dto.DtoResource;
+import org.thinkit.generator.common.vo.dto.DtoResourceGroup;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOマトリクス情報を基に変更されたDTO定義のみを再生成し、javaファイルとして出力するコマンドクラスです。
+ * <p>
+ * 各DTO定義のフィンガープリントを {@link DtoDefinitionFingerprint} で算出し、出力先ディレクトリに保存された
+ * {@link DtoResourceManifest} の値と比較します。フィンガープリントが一致し、かつ出力済みのjavaファイルが存在するDTO定義は
+ * 整形処理と出力処理の対象外となります。全ての出力が正常終了した場合のみマニフェストを更新します。
+ * <p>
+ * マニフェストが存在しない場合や読み込みに失敗した場合は全てのDTO定義を再生成します。DTOマトリクスから削除されたDTO定義は
+ * マニフェストから除外されますが、出力済みのjavaファイルは削除されません。
+ * <p>
+ * javaファイルとマニフェストは完全修飾クラス名で管理されるため、同一のクラス名を持つDTO定義が複数存在する場合は
+ * 出力処理を行わず異常終了します。
+ * <p>
+ * 実行結果として再生成したDTOリソースの件数を返却します。処理が異常終了した場合は {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceIncrementalGenerator implements Command<Integer> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * DTOマトリクス
+     */
+    private DtoMatrix dtoMatrix;
+
+    /**
+     * 出力先ディレクトリ
+     */
+    private Path outputDirectory;
+
+    /**
+     * 描画モード
+     */
+    private RenderingMode renderingMode;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceIncrementalGenerator() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param outputDirectory 出力先ディレクトリ
+     * @param renderingMode   描画モード
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoResourceIncrementalGenerator(@NonNull DtoMatrix dtoMatrix, @NonNull Path outputDirectory,
+            @NonNull RenderingMode renderingMode) {
+        this.dtoMatrix = dtoMatrix;
+        this.outputDirectory = outputDirectory;
+        this.renderingMode = renderingMode;
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} と {@code outputDirectory} を基に
+     * {@link DtoResourceIncrementalGenerator} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 描画モードには {@link RenderingMode#FORMATTER} が使用されます。
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param outputDirectory 出力先ディレクトリ
+     * @return {@link DtoResourceIncrementalGenerator} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<Integer> of(@NonNull DtoMatrix dtoMatrix, @NonNull Path outputDirectory) {
+        return new DtoResourceIncrementalGenerator(dtoMatrix, outputDirectory, RenderingMode.FORMATTER);
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} 、 {@code outputDirectory} 、 {@code renderingMode} を基に
+     * {@link DtoResourceIncrementalGenerator} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param outputDirectory 出力先ディレクトリ
+     * @param renderingMode   描画モード
+     * @return {@link DtoResourceIncrementalGenerator} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<Integer> of(@NonNull DtoMatrix dtoMatrix, @NonNull Path outputDirectory,
+            @NonNull RenderingMode renderingMode) {
+        return new DtoResourceIncrementalGenerator(dtoMatrix, outputDirectory, renderingMode);
+    }
+
+    @Override
+    public Integer execute() {
+
+        final DtoMeta dtoMeta = this.dtoMatrix.getDtoMeta();
+        final DtoCreator dtoCreator = this.dtoMatrix.getDtoCreator();
+        final DtoResourceRenderer dtoResourceRenderer = new DtoResourceRenderer(dtoMeta, dtoCreator,
+                this.renderingMode);
+
+        final DtoResourceManifest previousManifest = this.loadManifest();
+        final DtoResourceManifest currentManifest = DtoResourceManifest.of();
+        final DtoResourceGroup dtoResourceGroup = DtoResourceGroup.of();
+
+        if (!this.formatChangedDtoResource(dtoResourceRenderer,
+                DtoDefinitionPlan.of(this.dtoMatrix.getDtoDefinitionGroup()), previousManifest, currentManifest,
+                dtoResourceGroup)) {
+            logger.atSevere().log("DTO定義情報の整形処理が異常終了しました。");
+            return null;
+        }
+
+        if (DtoResourceWriter.of(this.outputDirectory, dtoResourceGroup).execute() == null) {
+            logger.atSevere().log("DTOリソースの出力処理が異常終了しました。");
+            return null;
+        }
+
+        try {
+            currentManifest.store(this.outputDirectory);
+        } catch (IOException e) {
+            logger.atSevere().withCause(e).log("マニフェストの保存に失敗しました。");
+            return null;
+        }
+
+        logger.atFinest().log("再生成したDTOリソース件数 = (%s)", dtoResourceGroup.size());
+        return dtoResourceGroup.size();
+    }
+
+    /**
+     * 出力先ディレクトリに保存されたマニフェストを読み込みます。
+     * <p>
+     * 読み込みに失敗した場合は警告を出力し、全てのDTO定義を再生成するため空のマニフェストを返却します。
+     *
+     * @return 前回実行時のマニフェスト
+     */
+    private DtoResourceManifest loadManifest() {
+        try {
+            return DtoResourceManifest.load(this.outputDirectory);
+        } catch (IOException e) {
+            logger.atWarning().withCause(e).log("マニフェストの読み込みに失敗したため、全てのDTO定義を再生成します。");
+            return DtoResourceManifest.of();
+        }
+    }
+
+    /**
+     * DTO定義の生成計画の順にDTO定義のフィンガープリントを算出し、前回実行時から変更されたDTO定義のみをjavaファイルへ出力する形式へ整形します。
+     * 整形されたDTOリソース情報は引数として渡された {@code dtoResourceGroup} オブジェクトに格納されます。
+     *
+     * @param dtoResourceRenderer DTOリソースレンダラー（入力）
+     * @param dtoDefinitionPlan   DTO定義の生成計画（入力）
+     * @param previousManifest    前回実行時のマニフェスト（入力）
+     * @param currentManifest     今回実行時のマニフェスト（出力）
+     * @param dtoResourceGroup    DTOリソースグループ（出力）
+     * @return 整形処理が正常終了した場合は {@code true}、整形処理が異常終了した場合またはクラス名が重複している場合は {@code false}
+     */
+    private boolean formatChangedDtoResource(DtoResourceRenderer dtoResourceRenderer,
+            DtoDefinitionPlan dtoDefinitionPlan, DtoResourceManifest previousManifest,
+            DtoResourceManifest currentManifest, DtoResourceGroup dtoResourceGroup) {
+
+        final DtoMeta dtoMeta = this.dtoMatrix.getDtoMeta();
+        final DtoCreator dtoCreator = this.dtoMatrix.getDtoCreator();
+        final String packageName = dtoMeta.getPackageName();
+
+        for (DtoDefinitionNode dtoDefinitionNode : dtoDefinitionPlan) {
+            final DtoDefinition dtoDefinition = dtoDefinitionNode.getDtoDefinition();
+            final String className = dtoDefinition.getClassName();
+            final String key = packageName + "." + className;
+
+            if (currentManifest.get(key) != null) {
+                logger.atSevere().log("同一のクラス名を持つDTO定義が複数存在するため、出力先のjavaファイルが重複します。クラス名 = (%s)",
+                        key);
+                return false;
+            }
+
+            final String fingerprint = DtoDefinitionFingerprint.of(dtoMeta, dtoCreator, this.renderingMode,
+                    dtoDefinition);
+
+            final Path file;
+
+            try {
+                file = DtoResourceWriter.resolveFile(this.outputDirectory, packageName, className);
+            } catch (IllegalArgumentException e) {
+                logger.atSevere().withCause(e).log("DTO定義の出力先が不正です。クラス名 = (%s)", key);
+                return false;
+            }
+
+            if (fingerprint.equals(previousManifest.get(key)) && Files.exists(file)) {
+                logger.atFinest().log("DTO定義が変更されていないため整形処理を省略します。クラス名 = (%s)", className);
+                currentManifest.put(key, fingerprint);
+                continue;
+            }
+
+            final DtoResource dtoResource = dtoResourceRenderer.render(dtoDefinition);
+
+            if (dtoResource == null) {
+                return false;
+            }
+
+            dtoResourceGroup.add(dtoResource);
+            currentManifest.put(key, fingerprint);
+        }
+
+        return true;
+    }
+}
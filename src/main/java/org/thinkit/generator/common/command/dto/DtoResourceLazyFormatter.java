@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionNode;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionPlan;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoResourceGroup;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOマトリクス情報を基に、ソースコードを遅延生成するJavaのDTOリソースを生成するコマンドクラスです。
+ * <p>
+ * 生成されるDTOリソースグループの順序は {@link DtoResourceFormatter} と同一ですが、各DTOリソースはパッケージ名とリソース名のみを保持します。
+ * ソースコードは {@link org.thinkit.generator.common.vo.dto.DtoResource#getResource()} が初めて呼び出された時点で
+ * 生成、整形されキャッシュされます。そのためビルド計画の作成やクラス名の衝突確認などパッケージ名とリソース名のみを必要とする処理では、
+ * {@link DtoResourceGroup#streamQualifiedNames()} などを使用することでソースコードの生成処理を省略できます。
+ * <p>
+ * 遅延生成されるDTOリソースはソースコードが生成されるまで元のDTO定義を参照します。ソースコードの生成に失敗した場合、
+ * {@link org.thinkit.generator.common.vo.dto.DtoResource#getResource()} は {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceLazyFormatter implements Command<DtoResourceGroup> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * DTOマトリクス
+     */
+    private DtoMatrix dtoMatrix;
+
+    /**
+     * 描画モード
+     */
+    private RenderingMode renderingMode;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceLazyFormatter() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoMatrix     DTOマトリクス
+     * @param renderingMode 描画モード
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoResourceLazyFormatter(@NonNull final DtoMatrix dtoMatrix, @NonNull final RenderingMode renderingMode) {
+        this.dtoMatrix = dtoMatrix;
+        this.renderingMode = renderingMode;
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} を基に {@link DtoResourceLazyFormatter} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 描画モードには {@link RenderingMode#FORMATTER} が使用されます。
+     *
+     * @param dtoMatrix DTOマトリクス
+     * @return {@link DtoResourceLazyFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoResourceGroup> of(@NonNull final DtoMatrix dtoMatrix) {
+        return new DtoResourceLazyFormatter(dtoMatrix, RenderingMode.FORMATTER);
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} と {@code renderingMode} を基に {@link DtoResourceLazyFormatter}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param dtoMatrix     DTOマトリクス
+     * @param renderingMode 描画モード
+     * @return {@link DtoResourceLazyFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<DtoResourceGroup> of(@NonNull final DtoMatrix dtoMatrix,
+            @NonNull final RenderingMode renderingMode) {
+        return new DtoResourceLazyFormatter(dtoMatrix, renderingMode);
+    }
+
+    @Override
+    public DtoResourceGroup execute() {
+
+        final DtoResourceRenderer dtoResourceRenderer = new DtoResourceRenderer(this.dtoMatrix.getDtoMeta(),
+                this.dtoMatrix.getDtoCreator(), this.renderingMode);
+        final DtoResourceGroup dtoResourceGroup = DtoResourceGroup.of();
+
+        for (DtoDefinitionNode dtoDefinitionNode : DtoDefinitionPlan.of(this.dtoMatrix.getDtoDefinitionGroup())) {
+            dtoResourceGroup.add(dtoResourceRenderer.renderLazily(dtoDefinitionNode.getDtoDefinition()));
+        }
+
+        logger.atFinest().log("遅延生成するDTOリソース件数 = (%s)", dtoResourceGroup.size());
+        return dtoResourceGroup;
+    }
+}
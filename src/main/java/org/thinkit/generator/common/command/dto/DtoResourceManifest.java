@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 出力済みのDTOリソースのフィンガープリントを管理するマニフェストクラスです。
+ * <p>
+ * マニフェストは出力先ディレクトリ直下の {@link #FILE_NAME} ファイルへ {@code 完全修飾クラス名=フィンガープリント}
+ * の形式で1行ずつ保存されます。各行は完全修飾クラス名の昇順で出力されるため、同一の内容からは常に同一のファイルが生成されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+final class DtoResourceManifest {
+
+    /**
+     * マニフェストのファイル名
+     */
+    static final String FILE_NAME = ".dto-resource.manifest";
+
+    /**
+     * 一時ファイルの拡張子
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * コメント行の接頭辞
+     */
+    private static final String COMMENT_PREFIX = "#";
+
+    /**
+     * キーと値の区切り文字
+     */
+    private static final char SEPARATOR = '=';
+
+    /**
+     * フィンガープリントのマップ
+     */
+    private final Map<String, String> fingerprints;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceManifest() {
+        this.fingerprints = new TreeMap<>();
+    }
+
+    /**
+     * 空の {@link DtoResourceManifest} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @return {@link DtoResourceManifest} クラスの新しいインスタンス
+     */
+    static DtoResourceManifest of() {
+        return new DtoResourceManifest();
+    }
+
+    /**
+     * 引数として渡された出力先ディレクトリに保存されたマニフェストを読み込み返却します。
+     * <p>
+     * マニフェストが存在しない場合は空のマニフェストを返却します。
+     *
+     * @param outputDirectory 出力先ディレクトリ
+     * @return 読み込まれたマニフェスト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws IOException マニフェストの読み込みに失敗した場合
+     */
+    static DtoResourceManifest load(@NonNull Path outputDirectory) throws IOException {
+
+        final DtoResourceManifest manifest = new DtoResourceManifest();
+        final Path file = outputDirectory.resolve(FILE_NAME);
+
+        if (!Files.exists(file)) {
+            return manifest;
+        }
+
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final int separatorIndex = line.lastIndexOf(SEPARATOR);
+
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX) || separatorIndex < 1) {
+                continue;
+            }
+
+            manifest.put(line.substring(0, separatorIndex), line.substring(separatorIndex + 1));
+        }
+
+        return manifest;
+    }
+
+    /**
+     * 引数として渡されたキーに紐づくフィンガープリントを返却します。
+     *
+     * @param key 完全修飾クラス名
+     * @return フィンガープリント。存在しない場合は {@code null}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    String get(@NonNull String key) {
+        return this.fingerprints.get(key);
+    }
+
+    /**
+     * 引数として渡されたキーとフィンガープリントをマニフェストへ格納します。
+     *
+     * @param key         完全修飾クラス名
+     * @param fingerprint フィンガープリント
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    void put(@NonNull String key, @NonNull String fingerprint) {
+        this.fingerprints.put(key, fingerprint);
+    }
+
+    /**
+     * マニフェストを引数として渡された出力先ディレクトリへ保存します。
+     * <p>
+     * マニフェストは一時ファイルへ書き込まれた後に置き換えられるため、保存処理が中断された場合も既存のマニフェストは破損しません。
+     *
+     * @param outputDirectory 出力先ディレクトリ
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws IOException マニフェストの保存に失敗した場合
+     */
+    void store(@NonNull Path outputDirectory) throws IOException {
+
+        final List<String> lines = new ArrayList<>(this.fingerprints.size());
+        this.fingerprints.forEach((key, fingerprint) -> lines.add(key + SEPARATOR + fingerprint));
+
+        Files.createDirectories(outputDirectory);
+
+        final Path file = outputDirectory.resolve(FILE_NAME);
+        final Path temporaryFile = outputDirectory.resolve(FILE_NAME + TEMPORARY_SUFFIX);
+
+        Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
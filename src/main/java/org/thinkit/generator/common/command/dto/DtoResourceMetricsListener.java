@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import org.thinkit.generator.common.vo.dto.DtoResourceMetrics;
+
+/**
+ * DTOリソースの生成処理の計測結果を受け取るリスナーです。
+ * <p>
+ * {@link DtoResourceFormatter} にリスナーが登録された場合、DTOリソースを1件生成するごとに
+ * {@link #onRendered(DtoResourceMetrics)} が呼び出されます。並列実行時は複数のワーカースレッドから呼び出されるため、
+ * 実装クラスはスレッドセーフである必要があります。キャッシュから取得されたDTOリソースは計測されません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface DtoResourceMetricsListener {
+
+    /**
+     * DTOリソースの生成が完了した際に呼び出されます。
+     *
+     * @param dtoResourceMetrics DTOリソースの生成処理の計測結果
+     */
+    void onRendered(DtoResourceMetrics dtoResourceMetrics);
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.flogger.FluentLogger;
+import com.google.googlejavaformat.java.FormatterException;
+
+import org.thinkit.common.catalog.Extension;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.factory.dtogenerator.DtoHeaderTemplate;
+import org.thinkit.generator.common.factory.dtogenerator.DtoResourceFactory;
+import org.thinkit.generator.common.factory.dtogenerator.FormattedResource;
+import org.thinkit.generator.common.factory.resource.ClassDescription;
+import org.thinkit.generator.common.factory.resource.Constructor;
+import org.thinkit.generator.common.factory.resource.Copyright;
+import org.thinkit.generator.common.factory.resource.Resource;
+import org.thinkit.generator.common.factory.resource.ResourceFactory;
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+import org.thinkit.generator.common.vo.dto.DtoResource;
+import org.thinkit.generator.common.vo.dto.DtoResourceMetrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 1件のDTO定義を基にjavaファイルへ出力する形式へ整形されたDTOリソースを生成する処理を定義したクラスです。
+ * <p>
+ * このクラスは子DTO定義グループを処理しません。DTO定義グループの走査は各コマンドクラスで行ってください。<br>
+ * このクラスは状態を変更しないため、複数のスレッドから同時に {@link #render(DtoDefinition)} を呼び出すことができます。
+ * <p>
+ * {@link DtoResourceCache} が指定された場合は、DTO定義のフィンガープリントをキーとしてキャッシュに保持されたDTOリソースを再利用します。
+ * <p>
+ * {@link DtoResourceMetricsListener} が指定された場合は、構築処理、連結処理、整形処理の所要時間と出力サイズを計測しリスナーへ通知します。
+ * リスナーが指定されていない場合は計測処理を一切行いません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+final class DtoResourceRenderer {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * DTOメタ
+     */
+    private final DtoMeta dtoMeta;
+
+    /**
+     * DTO作成者
+     */
+    private final DtoCreator dtoCreator;
+
+    /**
+     * 描画モード
+     */
+    private final RenderingMode renderingMode;
+
+    /**
+     * DTOリソースキャッシュ。キャッシュを使用しない場合は {@code null}
+     */
+    private final DtoResourceCache dtoResourceCache;
+
+    /**
+     * 計測結果のリスナー。計測しない場合は {@code null}
+     */
+    private final DtoResourceMetricsListener dtoResourceMetricsListener;
+
+    /**
+     * DTOメタとDTO作成者から事前に生成したヘッダーテンプレート
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final DtoHeaderTemplate dtoHeaderTemplate;
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoMeta       DTOメタ
+     * @param dtoCreator    DTO作成者
+     * @param renderingMode 描画モード
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoResourceRenderer(@NonNull DtoMeta dtoMeta, @NonNull DtoCreator dtoCreator,
+            @NonNull RenderingMode renderingMode) {
+        this.dtoMeta = dtoMeta;
+        this.dtoCreator = dtoCreator;
+        this.renderingMode = renderingMode;
+        this.dtoResourceCache = null;
+        this.dtoResourceMetricsListener = null;
+        this.dtoHeaderTemplate = createHeaderTemplate(dtoMeta, dtoCreator);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoMeta                    DTOメタ
+     * @param dtoCreator                 DTO作成者
+     * @param renderingMode              描画モード
+     * @param dtoResourceCache           DTOリソースキャッシュ。キャッシュを使用しない場合は {@code null}
+     * @param dtoResourceMetricsListener 計測結果のリスナー。計測しない場合は {@code null}
+     *
+     * @exception NullPointerException {@code dtoMeta} 、 {@code dtoCreator} 、
+     *                                 {@code renderingMode} として {@code null} が渡された場合
+     */
+    DtoResourceRenderer(@NonNull DtoMeta dtoMeta, @NonNull DtoCreator dtoCreator,
+            @NonNull RenderingMode renderingMode, DtoResourceCache dtoResourceCache,
+            DtoResourceMetricsListener dtoResourceMetricsListener) {
+        this.dtoMeta = dtoMeta;
+        this.dtoCreator = dtoCreator;
+        this.renderingMode = renderingMode;
+        this.dtoResourceCache = dtoResourceCache;
+        this.dtoResourceMetricsListener = dtoResourceMetricsListener;
+        this.dtoHeaderTemplate = createHeaderTemplate(dtoMeta, dtoCreator);
+    }
+
+    /**
+     * 引数として渡されたDTOメタとDTO作成者を基に、全てのクラスで共通する著作権とクラスの説明のヘッダーテンプレートを生成し返却します。
+     *
+     * @param dtoMeta    DTOメタ
+     * @param dtoCreator DTO作成者
+     * @return ヘッダーテンプレート
+     */
+    private static DtoHeaderTemplate createHeaderTemplate(DtoMeta dtoMeta, DtoCreator dtoCreator) {
+        return DtoHeaderTemplate.of(dtoMeta.getProjectName(), StandardCharsets.UTF_8.name(), dtoCreator.getCreator(),
+                dtoCreator.getCreationDate(), dtoMeta.getDescription(), dtoMeta.getVersion());
+    }
+
+    /**
+     * 引数として渡されたDTO定義を基にリソース情報を構築し、javaファイルへ出力する形式へ整形したDTOリソースを返却します。
+     * <p>
+     * 返却されるDTOリソースは整形済みのリソースをUTF-8で符号化したバイト列を保持します。整形処理中にエラーが発生した場合は {@code null}
+     * を返却します。
+     *
+     * @param dtoDefinition DTO定義
+     * @return DTOリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoResource render(@NonNull DtoDefinition dtoDefinition) {
+
+        if (this.dtoResourceCache == null) {
+            return this.renderDtoResource(dtoDefinition);
+        }
+
+        final String fingerprint = DtoDefinitionFingerprint.of(this.dtoMeta, this.dtoCreator, this.renderingMode,
+                dtoDefinition);
+
+        return this.dtoResourceCache.get(fingerprint, () -> this.renderDtoResource(dtoDefinition));
+    }
+
+    /**
+     * 引数として渡されたDTO定義を基に、リソースを遅延生成するDTOリソースを返却します。
+     * <p>
+     * リソースは返却したDTOリソースの {@link DtoResource#getResource()} が初めて呼び出された時点で
+     * {@link #render(DtoDefinition)} により生成されます。
+     *
+     * @param dtoDefinition DTO定義
+     * @return リソースを遅延生成するDTOリソース
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoResource renderLazily(@NonNull DtoDefinition dtoDefinition) {
+        return DtoResource.ofLazy(this.dtoMeta.getPackageName(), dtoDefinition.getClassName(), () -> {
+            final DtoResource dtoResource = this.render(dtoDefinition);
+            return dtoResource == null ? null : dtoResource.getResource();
+        });
+    }
+
+    /**
+     * 引数として渡されたDTO定義を基にリソース情報を構築し、javaファイルへ出力する形式へ整形したDTOリソースを返却します。
+     * <p>
+     * 整形処理中にエラーが発生した場合、または整形済みリソースの検証に失敗した場合は {@code null} を返却します。
+     *
+     * @param dtoDefinition DTO定義
+     * @return DTOリソース
+     */
+    private DtoResource renderDtoResource(DtoDefinition dtoDefinition) {
+
+        if (this.dtoResourceMetricsListener != null) {
+            return this.renderMeasuredDtoResource(dtoDefinition);
+        }
+
+        final String className = dtoDefinition.getClassName();
+        final Resource resource = this.formatResource(className, dtoDefinition.getDtoFieldGroup());
+
+        final String formattedSource;
+
+        try {
+            formattedSource = this.formatSource(className, resource, this.createSource(className, resource));
+        } catch (FormatterException e) {
+            logger.atSevere().withCause(e).log("DTOリソースの整形処理が異常終了しました。クラス名 = (%s)", className);
+            return null;
+        }
+
+        if (formattedSource == null) {
+            return null;
+        }
+
+        return DtoResource.ofEncoded(this.dtoMeta.getPackageName(), className, formattedSource);
+    }
+
+    /**
+     * 引数として渡されたDTO定義を基にDTOリソースを生成し、各処理の所要時間と出力サイズをリスナーへ通知します。
+     * <p>
+     * 整形処理中にエラーが発生した場合、または整形済みリソースの検証に失敗した場合はリスナーへ通知せず {@code null} を返却します。
+     *
+     * @param dtoDefinition DTO定義
+     * @return DTOリソース
+     */
+    private DtoResource renderMeasuredDtoResource(DtoDefinition dtoDefinition) {
+
+        final String className = dtoDefinition.getClassName();
+
+        final long buildStartTime = System.nanoTime();
+        final Resource resource = this.formatResource(className, dtoDefinition.getDtoFieldGroup());
+        final long concatenationStartTime = System.nanoTime();
+
+        final String source;
+        final long formattingStartTime;
+        final String formattedSource;
+
+        try {
+            source = this.createSource(className, resource);
+            formattingStartTime = System.nanoTime();
+            formattedSource = this.formatSource(className, resource, source);
+        } catch (FormatterException e) {
+            logger.atSevere().withCause(e).log("DTOリソースの整形処理が異常終了しました。クラス名 = (%s)", className);
+            return null;
+        }
+
+        if (formattedSource == null) {
+            return null;
+        }
+
+        final long endTime = System.nanoTime();
+
+        this.dtoResourceMetricsListener.onRendered(DtoResourceMetrics.of(className,
+                concatenationStartTime - buildStartTime, formattingStartTime - concatenationStartTime,
+                endTime - formattingStartTime, source.length(), formattedSource.length()));
+
+        return DtoResource.ofEncoded(this.dtoMeta.getPackageName(), className, formattedSource);
+    }
+
+    /**
+     * 設定された描画モードに従いリソース情報からソースコードを生成し返却します。
+     * <p>
+     * {@link RenderingMode#FORMATTER} の場合はフォーマッタへ渡す未整形のソースコードを、それ以外の場合は整形済みのソースコードを生成します。
+     * 整形済みのリソースでは再現できない記法が含まれる場合は、未整形のリソースをフォーマッタで整形したソースコードを返却します。
+     *
+     * @param className クラス名
+     * @param resource  リソース
+     * @return ソースコード
+     *
+     * @throws FormatterException フォーマッタによる整形処理に失敗した場合
+     */
+    private String createSource(String className, Resource resource) throws FormatterException {
+
+        if (this.renderingMode == RenderingMode.FORMATTER) {
+            return resource.createResource();
+        }
+
+        try {
+            return ((FormattedResource) resource).createFormattedResource();
+        } catch (UnsupportedOperationException e) {
+            logger.atInfo().log("整形済みリソースを生成できないためフォーマッタで整形します。クラス名 = (%s)", className);
+            return DtoSourceFormatter.getInstance().format(resource.createResource());
+        }
+    }
+
+    /**
+     * 設定された描画モードに従いソースコードを整形または検証し返却します。
+     * <p>
+     * {@link RenderingMode#VERIFIED_PREFORMATTED} の場合に検証が失敗した際は {@code null} を返却します。
+     *
+     * @param className クラス名
+     * @param resource  リソース
+     * @param source    ソースコード
+     * @return 整形済みのソースコード
+     *
+     * @throws FormatterException フォーマッタによる整形処理に失敗した場合
+     */
+    private String formatSource(String className, Resource resource, String source) throws FormatterException {
+        return switch (this.renderingMode) {
+            case PREFORMATTED -> source;
+            case VERIFIED_PREFORMATTED -> this.verifyFormattedResource(className, resource, source);
+            default -> DtoSourceFormatter.getInstance().format(source);
+        };
+    }
+
+    /**
+     * 引数として渡された整形済みのソースコードが、未整形のリソースをフォーマッタで整形した結果と一致するか検証します。
+     * <p>
+     * 一致しない場合はエラーを出力し {@code null} を返却します。
+     *
+     * @param className         クラス名
+     * @param resource          リソース
+     * @param formattedResource 整形済みのソースコード
+     * @return 検証済みのソースコード、検証に失敗した場合は {@code null}
+     *
+     * @throws FormatterException フォーマッタによる整形処理に失敗した場合
+     */
+    private String verifyFormattedResource(String className, Resource resource, String formattedResource)
+            throws FormatterException {
+
+        final String expectedResource = DtoSourceFormatter.getInstance().format(resource.createResource());
+
+        if (!expectedResource.equals(formattedResource)) {
+            logger.atSevere().log("整形済みリソースがフォーマッタの出力と一致しません。クラス名 = (%s)", className);
+            return null;
+        }
+
+        return formattedResource;
+    }
+
+    /**
+     * 引数として渡された情報を基にリソース情報を構築します。
+     * <p>
+     * 各項目の子クラスはこのメソッドでは処理されません。子クラスの整形は呼び出し元で行ってください。
+     *
+     * @param className     クラス名
+     * @param dtoFieldGroup DTOフィールドグループ
+     *
+     * @return DTOリソースオブジェクト
+     */
+    private Resource formatResource(@NonNull final String className, @NonNull final DtoFieldGroup dtoFieldGroup) {
+
+        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
+        final Resource resource = this.createResource(className);
+        final Constructor requiredConstructor = this.createConstructor(className, "Constructor");
+        final Constructor copyingConstructor = this.createConstructor(className, "Copying constructor");
+
+        copyingConstructor.add(resourceFactory.createParameter(className, this.toInitialLowerCase(className)));
+
+        for (DtoField dtoField : dtoFieldGroup) {
+            final String dataType = dtoField.getDataType();
+            final String variableName = dtoField.getVariableName();
+
+            resourceFactory.createFieldDefinition(dataType, variableName, dtoField.getInitialValue());
+
+            if (dtoField.isInvariant()) {
+                requiredConstructor.add(resourceFactory.createDescriptionTag(variableName, dtoField.getDescription()));
+                requiredConstructor.add(resourceFactory.createParameter(dataType, variableName));
+                requiredConstructor.add(resourceFactory.createConstructorProcess(variableName).toRequired());
+            }
+
+            copyingConstructor.add(resourceFactory.createConstructorProcess(className, variableName).toCopying());
+        }
+
+        resource.add(requiredConstructor);
+        resource.add(copyingConstructor);
+
+        return resource;
+    }
+
+    /**
+     * 引数として渡された情報を基に著作権定義オブジェクトを生成し返却します。
+     * <p>
+     * ファイル名以外の部分はヘッダーテンプレートで事前に生成されたリテラルを再利用します。
+     *
+     * @param className クラス名
+     * @return 著作権定義オブジェクト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private Copyright createCopyright(@NonNull String className) {
+        return this.dtoHeaderTemplate.createCopyright(className + Extension.java());
+    }
+
+    /**
+     * 引数として渡された情報を基にリソース定義オブジェクトを生成し返却します。
+     *
+     * @param className クラス名
+     * @return リソース定義オブジェクト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private Resource createResource(@NonNull String className) {
+
+        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
+        final Copyright copyright = this.createCopyright(className);
+        final ClassDescription classDescription = this.dtoHeaderTemplate.createClassDescription();
+
+        return resourceFactory.createResource(copyright, resourceFactory.createPackage(this.dtoMeta.getPackageName()),
+                classDescription, className);
+    }
+
+    /**
+     * 引数として渡された情報を基にコンストラクタ定義オブジェクトを生成し返却します。
+     *
+     * @param className   クラス名
+     * @param description 説明
+     * @return コンストラクタ定義オブジェクト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private Constructor createConstructor(@NonNull String className, @NonNull String description) {
+        final ResourceFactory resourceFactory = DtoResourceFactory.getInstance();
+        return resourceFactory.createConstructor(className, resourceFactory.createFunctionDescription(description));
+    }
+
+    /**
+     * 文字列の上1桁目を小文字に変換して返却します。
+     *
+     * @param sequence 文字列
+     * @return 上1桁目が小文字に変換された文字列
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private String toInitialLowerCase(@NonNull String sequence) {
+        return sequence.substring(0, 1).toLowerCase() + sequence.substring(1);
+    }
+}
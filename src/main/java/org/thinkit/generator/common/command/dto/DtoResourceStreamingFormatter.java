@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.catalog.dto.ExecutionMode;
+import org.thinkit.generator.common.catalog.dto.RenderingMode;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionNode;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionPlan;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoResource;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOマトリクス情報を基にJavaのDTOリソースを生成し、生成されたDTOリソースを逐次シンクへ引き渡すコマンドクラスです。
+ * <p>
+ * {@link DtoResourceFormatter} と異なり生成したDTOリソースをDTOリソースグループへ蓄積せず、各DTO定義の整形が完了した時点で
+ * 呼び出し元から渡されたシンクへ引き渡します。そのため使用するメモリ量は生成されるソースコードの総量に依存しません。
+ * <p>
+ * {@link ExecutionMode#SEQUENTIAL} が指定された場合、シンクは呼び出し元のスレッドから
+ * {@link DtoResourceFormatter} と同一の順序で呼び出されます。 {@link ExecutionMode#PARALLEL}
+ * が指定された場合、シンクは複数のワーカースレッドから整形が完了した順に呼び出されるため、スレッドセーフなシンクを指定してください。
+ * 並列処理は呼び出し元のスレッドがフォーク/ジョインプールのワーカースレッドの場合はそのプールで、それ以外の場合は共通プールで実行されます。
+ * <p>
+ * ネストされたDTO定義グループは {@link DtoDefinitionPlan} へ平坦化した上で整形されるため、ネストの深さに関わらず
+ * {@link StackOverflowError} は発生しません。
+ * <p>
+ * 実行結果としてシンクへ引き渡したDTOリソースの件数を返却します。DTOリソースの生成に失敗した場合を含め、処理が異常終了した場合は
+ * 以降のDTOリソースをシンクへ引き渡さずに {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceStreamingFormatter implements Command<Integer> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * DTOマトリクス
+     */
+    private DtoMatrix dtoMatrix;
+
+    /**
+     * 実行モード
+     */
+    private ExecutionMode executionMode;
+
+    /**
+     * 描画モード
+     */
+    private RenderingMode renderingMode;
+
+    /**
+     * DTOリソースシンク
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Consumer<DtoResource> dtoResourceSink;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceStreamingFormatter() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param executionMode   実行モード
+     * @param renderingMode   描画モード
+     * @param dtoResourceSink DTOリソースシンク
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoResourceStreamingFormatter(@NonNull final DtoMatrix dtoMatrix,
+            @NonNull final ExecutionMode executionMode, @NonNull final RenderingMode renderingMode,
+            @NonNull final Consumer<DtoResource> dtoResourceSink) {
+        this.dtoMatrix = dtoMatrix;
+        this.executionMode = executionMode;
+        this.renderingMode = renderingMode;
+        this.dtoResourceSink = dtoResourceSink;
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} と {@code dtoResourceSink} を基に
+     * {@link DtoResourceStreamingFormatter} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 実行モードには {@link ExecutionMode#SEQUENTIAL} 、描画モードには {@link RenderingMode#FORMATTER} が使用されます。
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param dtoResourceSink DTOリソースシンク
+     * @return {@link DtoResourceStreamingFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<Integer> of(@NonNull final DtoMatrix dtoMatrix,
+            @NonNull final Consumer<DtoResource> dtoResourceSink) {
+        return new DtoResourceStreamingFormatter(dtoMatrix, ExecutionMode.SEQUENTIAL, RenderingMode.FORMATTER,
+                dtoResourceSink);
+    }
+
+    /**
+     * 引数として渡された {@code dtoMatrix} 、 {@code executionMode} 、 {@code renderingMode} 、
+     * {@code dtoResourceSink} を基に {@link DtoResourceStreamingFormatter} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param dtoMatrix       DTOマトリクス
+     * @param executionMode   実行モード
+     * @param renderingMode   描画モード
+     * @param dtoResourceSink DTOリソースシンク
+     * @return {@link DtoResourceStreamingFormatter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<Integer> of(@NonNull final DtoMatrix dtoMatrix, @NonNull final ExecutionMode executionMode,
+            @NonNull final RenderingMode renderingMode, @NonNull final Consumer<DtoResource> dtoResourceSink) {
+        return new DtoResourceStreamingFormatter(dtoMatrix, executionMode, renderingMode, dtoResourceSink);
+    }
+
+    @Override
+    public Integer execute() {
+
+        final DtoResourceRenderer dtoResourceRenderer = new DtoResourceRenderer(this.dtoMatrix.getDtoMeta(),
+                this.dtoMatrix.getDtoCreator(), this.renderingMode);
+        final DtoDefinitionPlan dtoDefinitionPlan = DtoDefinitionPlan.of(this.dtoMatrix.getDtoDefinitionGroup());
+        final AtomicInteger emittedCount = new AtomicInteger();
+
+        final Stream<DtoDefinitionNode> dtoDefinitionNodes = switch (this.executionMode) {
+            case PARALLEL -> dtoDefinitionPlan.stream().parallel();
+            default -> dtoDefinitionPlan.stream();
+        };
+
+        try {
+            dtoDefinitionNodes.forEach(dtoDefinitionNode -> emitDtoResource(
+                    dtoResourceRenderer.render(dtoDefinitionNode.getDtoDefinition()), this.dtoResourceSink,
+                    emittedCount));
+        } catch (RuntimeException e) {
+            logger.atSevere().withCause(e).log("DTOリソースのシンクへの引き渡し処理が異常終了しました。");
+            return null;
+        }
+
+        logger.atFinest().log("シンクへ引き渡したDTOリソース件数 = (%s)", emittedCount);
+        return emittedCount.get();
+    }
+
+    /**
+     * 引数として渡されたDTOリソースをシンクへ引き渡します。
+     *
+     * @param dtoResource     DTOリソース。DTOリソースの生成に失敗した場合は {@code null}
+     * @param dtoResourceSink DTOリソースシンク
+     * @param emittedCount    シンクへ引き渡したDTOリソースの件数
+     *
+     * @exception IllegalStateException DTOリソースの生成に失敗していた場合
+     */
+    private static void emitDtoResource(DtoResource dtoResource, Consumer<DtoResource> dtoResourceSink,
+            AtomicInteger emittedCount) {
+
+        if (dtoResource == null) {
+            throw new IllegalStateException("DTOリソースの生成に失敗しました。");
+        }
+
+        dtoResourceSink.accept(dtoResource);
+        emittedCount.incrementAndGet();
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.flogger.FluentLogger;
+
+import org.thinkit.common.catalog.Extension;
+import org.thinkit.common.command.Command;
+import org.thinkit.generator.common.vo.dto.DtoResource;
+import org.thinkit.generator.common.vo.dto.DtoResourceGroup;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOリソースグループに含まれる各DTOリソースをjavaファイルとして出力するコマンドクラスです。
+ * <p>
+ * 各DTOリソースは出力先ディレクトリ配下のパッケージ名に対応するディレクトリへ {@code リソース名.java} として出力されます。
+ * 出力処理は {@link FileChannel} と事前に確保したダイレクトバッファのプールを使用して並列に実行されます。
+ * 各DTOリソースが保持するUTF-8で符号化されたバイト列をダイレクトバッファへ分割してコピーし書き込むため、出力時に文字列の再符号化は発生せず、
+ * JDKがヒープ上のバッファの書き込み時に確保する一時的なダイレクトバッファも使用されません。
+ * 同時に開かれるファイル数は {@code maxOpenFiles} で指定された値を超えません。
+ * <p>
+ * 出力処理の開始前に全てのDTOリソースの出力先ファイルを解決し、出力先ディレクトリの外部を指すファイルや
+ * 同一の出力先ファイルへ解決されるDTOリソースが存在する場合はファイルを出力せずに {@code null} を返却します。
+ * <p>
+ * 実行結果として出力したファイルの件数を返却します。1件でも出力に失敗した場合は {@code null} を返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceWriter implements Command<Integer> {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * 同時に開くファイル数の既定値
+     */
+    private static final int DEFAULT_MAX_OPEN_FILES = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * 書き込みバッファのサイズ
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * パッケージ名の区切り文字
+     */
+    private static final String PACKAGE_SEPARATOR = "\\.";
+
+    /**
+     * 出力先ディレクトリ
+     */
+    private Path outputDirectory;
+
+    /**
+     * DTOリソースグループ
+     */
+    private DtoResourceGroup dtoResourceGroup;
+
+    /**
+     * 同時に開くファイル数の上限
+     */
+    private int maxOpenFiles;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceWriter() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param outputDirectory  出力先ディレクトリ
+     * @param dtoResourceGroup DTOリソースグループ
+     * @param maxOpenFiles     同時に開くファイル数の上限
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException {@code maxOpenFiles} が1未満の場合
+     */
+    private DtoResourceWriter(@NonNull Path outputDirectory, @NonNull DtoResourceGroup dtoResourceGroup,
+            int maxOpenFiles) {
+
+        if (maxOpenFiles < 1) {
+            throw new IllegalArgumentException(
+                    String.format("同時に開くファイル数の上限には1以上の値を指定してください。上限 = (%s)", maxOpenFiles));
+        }
+
+        this.outputDirectory = outputDirectory;
+        this.dtoResourceGroup = dtoResourceGroup;
+        this.maxOpenFiles = maxOpenFiles;
+    }
+
+    /**
+     * 引数として渡された {@code outputDirectory} と {@code dtoResourceGroup} を基に
+     * {@link DtoResourceWriter} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 同時に開くファイル数の上限には利用可能なプロセッサ数の2倍が使用されます。
+     *
+     * @param outputDirectory  出力先ディレクトリ
+     * @param dtoResourceGroup DTOリソースグループ
+     * @return {@link DtoResourceWriter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Command<Integer> of(@NonNull Path outputDirectory, @NonNull DtoResourceGroup dtoResourceGroup) {
+        return new DtoResourceWriter(outputDirectory, dtoResourceGroup, DEFAULT_MAX_OPEN_FILES);
+    }
+
+    /**
+     * 引数として渡された {@code outputDirectory} 、 {@code dtoResourceGroup} 、 {@code maxOpenFiles}
+     * を基に {@link DtoResourceWriter} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param outputDirectory  出力先ディレクトリ
+     * @param dtoResourceGroup DTOリソースグループ
+     * @param maxOpenFiles     同時に開くファイル数の上限
+     * @return {@link DtoResourceWriter} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException {@code maxOpenFiles} が1未満の場合
+     */
+    public static Command<Integer> of(@NonNull Path outputDirectory, @NonNull DtoResourceGroup dtoResourceGroup,
+            int maxOpenFiles) {
+        return new DtoResourceWriter(outputDirectory, dtoResourceGroup, maxOpenFiles);
+    }
+
+    @Override
+    public Integer execute() {
+
+        if (this.dtoResourceGroup.isEmpty()) {
+            return 0;
+        }
+
+        final List<Path> files = this.resolveFiles();
+
+        if (files == null) {
+            return null;
+        }
+
+        final int poolSize = Math.min(this.maxOpenFiles, this.dtoResourceGroup.size());
+        final BlockingQueue<ByteBuffer> bufferPool = new ArrayBlockingQueue<>(poolSize);
+
+        for (int i = 0; i < poolSize; i++) {
+            bufferPool.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+        }
+
+        final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(poolSize);
+
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>(this.dtoResourceGroup.size());
+
+            for (int i = 0, size = this.dtoResourceGroup.size(); i < size; i++) {
+                final DtoResource dtoResource = this.dtoResourceGroup.get(i);
+                final Path file = files.get(i);
+
+                futures.add(executorService
+                        .submit(() -> this.writeDtoResource(dtoResource, file, bufferPool, createdDirectories)));
+            }
+
+            int writtenCount = 0;
+
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    writtenCount++;
+                }
+            }
+
+            if (writtenCount != futures.size()) {
+                logger.atSevere().log("DTOリソースの出力に失敗したファイルが存在します。成功件数 = (%s)、対象件数 = (%s)", writtenCount,
+                        futures.size());
+                return null;
+            }
+
+            logger.atFinest().log("出力したDTOリソース件数 = (%s)", writtenCount);
+            return writtenCount;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.atSevere().withCause(e).log("DTOリソースの出力処理が中断されました。");
+            return null;
+        } catch (ExecutionException e) {
+            logger.atSevere().withCause(e).log("DTOリソースの出力処理が異常終了しました。");
+            return null;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * DTOリソースグループに含まれる各DTOリソースの出力先ファイルを、DTOリソースグループと同一の順序で解決し返却します。
+     * <p>
+     * 出力先ディレクトリの外部を指すファイルや、複数のDTOリソースが同一の出力先ファイルへ解決される場合は {@code null} を返却します。
+     * 同一のファイルへの書き込みが並列に実行されると出力結果が不定になるため、出力処理の開始前に検出します。
+     *
+     * @return 出力先ファイルのリスト。解決に失敗した場合は {@code null}
+     */
+    private List<Path> resolveFiles() {
+
+        final List<Path> files = new ArrayList<>(this.dtoResourceGroup.size());
+        final Set<Path> resolvedFiles = new HashSet<>(this.dtoResourceGroup.size() * 2);
+
+        for (DtoResource dtoResource : this.dtoResourceGroup) {
+            final Path file;
+
+            try {
+                file = resolveFile(this.outputDirectory, dtoResource.getPackageName(), dtoResource.getResourceName());
+            } catch (IllegalArgumentException e) {
+                logger.atSevere().withCause(e).log("DTOリソースの出力先ファイルの解決に失敗しました。リソース名 = (%s)",
+                        dtoResource.getResourceName());
+                return null;
+            }
+
+            if (!resolvedFiles.add(file)) {
+                logger.atSevere().log("同一の出力先ファイルへ解決されるDTOリソースが複数存在します。出力先ファイル = (%s)", file);
+                return null;
+            }
+
+            files.add(file);
+        }
+
+        return files;
+    }
+
+    /**
+     * 引数として渡されたDTOリソースを出力先ファイルへ出力します。
+     * <p>
+     * 書き込みにはバッファプールから取得したダイレクトバッファを使用し、書き込み完了後にプールへ返却します。
+     *
+     * @param dtoResource        DTOリソース
+     * @param file               出力先ファイル
+     * @param bufferPool         バッファプール
+     * @param createdDirectories 作成済みディレクトリ
+     * @return 出力処理が正常終了した場合は {@code true} 、それ以外は {@code false}
+     *
+     * @throws InterruptedException バッファの取得待ち中に割り込みが発生した場合
+     */
+    private boolean writeDtoResource(DtoResource dtoResource, Path file, BlockingQueue<ByteBuffer> bufferPool,
+            Set<Path> createdDirectories) throws InterruptedException {
+
+        final ByteBuffer encodedResource = dtoResource.getEncodedResource();
+
+        if (encodedResource == null) {
+            logger.atSevere().log("DTOリソースのリソースが存在しません。リソース名 = (%s)", dtoResource.getResourceName());
+            return false;
+        }
+
+        final ByteBuffer buffer = bufferPool.take();
+
+        try {
+            final Path directory = file.getParent();
+
+            if (!createdDirectories.contains(directory)) {
+                Files.createDirectories(directory);
+                createdDirectories.add(directory);
+            }
+
+            this.writeResource(file, encodedResource, buffer);
+            return true;
+
+        } catch (IOException e) {
+            logger.atSevere().withCause(e).log("DTOリソースの出力に失敗しました。リソース名 = (%s)", dtoResource.getResourceName());
+            return false;
+        } finally {
+            buffer.clear();
+            bufferPool.put(buffer);
+        }
+    }
+
+    /**
+     * 引数として渡されたUTF-8で符号化済みのリソースを指定されたファイルへ書き込みます。
+     * <p>
+     * リソースはバッファのサイズ単位でバッファへコピーされるため、バッファより大きいリソースも追加のメモリを確保せずに書き込まれます。
+     *
+     * @param file            出力先ファイル
+     * @param encodedResource UTF-8で符号化済みのリソース
+     * @param buffer          書き込みバッファ
+     *
+     * @throws IOException ファイルの書き込みに失敗した場合
+     */
+    private void writeResource(Path file, ByteBuffer encodedResource, ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            final int limit = encodedResource.limit();
+
+            while (encodedResource.hasRemaining()) {
+                encodedResource.limit(Math.min(limit, encodedResource.position() + buffer.remaining()));
+                buffer.put(encodedResource);
+                encodedResource.limit(limit);
+                this.drain(channel, buffer);
+            }
+        }
+    }
+
+    /**
+     * バッファに格納されたデータを全てチャネルへ書き込み、バッファを空の状態へ戻します。
+     *
+     * @param channel 書き込み先チャネル
+     * @param buffer  書き込みバッファ
+     *
+     * @throws IOException チャネルへの書き込みに失敗した場合
+     */
+    private void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * 引数として渡されたパッケージ名とリソース名を基に出力先ディレクトリ配下の出力ファイルを返却します。
+     * <p>
+     * 出力ファイルは正規化した上で返却されます。パッケージ名やリソース名に {@code ..} や絶対パスが含まれ、
+     * 正規化した出力ファイルが出力先ディレクトリ配下に存在しない場合は例外が送出されます。
+     *
+     * @param outputDirectory 出力先ディレクトリ
+     * @param packageName     パッケージ名
+     * @param resourceName    リソース名
+     * @return 出力ファイル
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 出力ファイルが出力先ディレクトリ配下に存在しない場合
+     */
+    static Path resolveFile(@NonNull Path outputDirectory, @NonNull String packageName,
+            @NonNull String resourceName) {
+
+        final Path baseDirectory = outputDirectory.toAbsolutePath().normalize();
+        Path directory = baseDirectory;
+
+        for (String segment : packageName.split(PACKAGE_SEPARATOR)) {
+            if (!segment.isEmpty()) {
+                directory = directory.resolve(segment);
+            }
+        }
+
+        final Path file = directory.resolve(resourceName + Extension.java()).normalize();
+
+        if (!file.startsWith(baseDirectory) || file.equals(baseDirectory)) {
+            throw new IllegalArgumentException(String.format(
+                    "出力ファイルが出力先ディレクトリの外部を指しています。パッケージ名 = (%s), リソース名 = (%s)", packageName, resourceName));
+        }
+
+        return file;
+    }
+}
@@ -0,0 +1,784 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.thinkit.generator.common.vo.dto.DtoCreator;
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+import org.thinkit.generator.common.vo.dto.DtoMeta;
+import org.thinkit.generator.common.vo.dto.DtoResource;
+import org.thinkit.generator.common.vo.dto.DtoResourceGroup;
+
+import lombok.NonNull;
+
+/**
+ * DTOマトリクスとDTOリソースグループをバージョン付きのバイナリ形式で保存および復元するコーデッククラスです。
+ * <p>
+ * リフレクションを使用せず、各データクラスの値を定義順に直接読み書きします。整数は可変長で符号化され、
+ * 文字列は最初の出現時のみ本体を書き込み、2回目以降は文字列テーブルのインデックスで参照します。
+ * 復元時は同一内容の文字列が1つのインスタンスへ集約されます。
+ * ネストされたDTO定義グループは明示的なスタックで読み書きされるため、ネストの深さに関わらず {@link StackOverflowError} は発生しません。
+ * <p>
+ * DTOリソースは {@link DtoResource#getEncodedResource()} のバイト列をそのまま保存し、
+ * 復元時は {@link DtoResource#ofEncoded(String, String, byte[])} でバイト列を保持したまま復元します。
+ * リソースの文字列は最初に参照された時点で復号されます。
+ * <p>
+ * バイナリ形式は以下の通りです。
+ *
+ * <pre>
+ * snapshot   := magic("DTOS") version(varint) kind(byte) body
+ * matrix     := dtoMeta(string * 6) dtoCreator(string * 3) definitionGroup
+ * definitionGroup := count(varint) definition*
+ * definition := className(string) description(string) count(varint) field*
+ * field      := variableName(string) dataType(string) initialValue(string) description(string) flags(byte)
+ *               childDefinitionGroup
+ * resources  := count(varint) (packageName(string) resourceName(string) length(varint) bytes)*
+ * string     := 0 (null) | 1 length(varint) bytes | index + 2 (string table reference)
+ * </pre>
+ * <p>
+ * 入出力ストリームはこのクラスでは閉じられません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public final class DtoSnapshotCodec {
+
+    /**
+     * マジックナンバー
+     */
+    private static final byte[] MAGIC = { 'D', 'T', 'O', 'S' };
+
+    /**
+     * バイナリ形式のバージョン
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * DTOマトリクスを表す種別
+     */
+    private static final byte MATRIX_KIND = 'M';
+
+    /**
+     * DTOリソースグループを表す種別
+     */
+    private static final byte RESOURCE_GROUP_KIND = 'R';
+
+    /**
+     * 不変を表すフラグ
+     */
+    private static final int INVARIANT_FLAG = 0x01;
+
+    /**
+     * {@code null} の文字列を表す参照
+     */
+    private static final int NULL_STRING = 0;
+
+    /**
+     * 新しい文字列を表す参照
+     */
+    private static final int NEW_STRING = 1;
+
+    /**
+     * 文字列テーブルの参照のオフセット
+     */
+    private static final int STRING_REFERENCE_OFFSET = 2;
+
+    /**
+     * バッファサイズ
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoSnapshotCodec() {
+    }
+
+    /**
+     * 引数として渡されたDTOマトリクスを出力ストリームへ書き込みます。
+     *
+     * @param dtoMatrix    DTOマトリクス
+     * @param outputStream 出力ストリーム
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public static void write(@NonNull DtoMatrix dtoMatrix, @NonNull OutputStream outputStream) throws IOException {
+
+        final SnapshotWriter writer = new SnapshotWriter(outputStream, MATRIX_KIND);
+        final DtoMeta dtoMeta = dtoMatrix.getDtoMeta();
+        final DtoCreator dtoCreator = dtoMatrix.getDtoCreator();
+
+        writer.writeString(dtoMeta.getVersion());
+        writer.writeString(dtoMeta.getProjectName());
+        writer.writeString(dtoMeta.getPackageName());
+        writer.writeString(dtoMeta.getPhysicalName());
+        writer.writeString(dtoMeta.getLogicalName());
+        writer.writeString(dtoMeta.getDescription());
+        writer.writeString(dtoCreator.getCreator());
+        writer.writeString(dtoCreator.getCreationDate());
+        writer.writeString(dtoCreator.getUpdateDate());
+        writeDtoDefinitionGroup(writer, dtoMatrix.getDtoDefinitionGroup());
+
+        writer.flush();
+    }
+
+    /**
+     * 引数として渡されたDTOリソースグループを出力ストリームへ書き込みます。
+     *
+     * @param dtoResourceGroup DTOリソースグループ
+     * @param outputStream     出力ストリーム
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws IOException 書き込みに失敗した場合、またはリソースの生成に失敗した場合
+     */
+    public static void write(@NonNull DtoResourceGroup dtoResourceGroup, @NonNull OutputStream outputStream)
+            throws IOException {
+
+        final SnapshotWriter writer = new SnapshotWriter(outputStream, RESOURCE_GROUP_KIND);
+        writer.writeVarint(dtoResourceGroup.size());
+
+        for (DtoResource dtoResource : dtoResourceGroup) {
+            final ByteBuffer encodedResource = dtoResource.getEncodedResource();
+
+            if (encodedResource == null) {
+                throw new IOException(String.format("リソースの生成に失敗しました。リソース = (%s.%s)",
+                        dtoResource.getPackageName(), dtoResource.getResourceName()));
+            }
+
+            writer.writeString(dtoResource.getPackageName());
+            writer.writeString(dtoResource.getResourceName());
+            writer.writeVarint(encodedResource.remaining());
+            writer.writeBytes(encodedResource);
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * 入力ストリームからDTOマトリクスを読み込みます。
+     *
+     * @param inputStream 入力ストリーム
+     * @return DTOマトリクス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws IOException 読み込みに失敗した場合、またはバイナリ形式が不正な場合
+     */
+    public static DtoMatrix readDtoMatrix(@NonNull InputStream inputStream) throws IOException {
+
+        final SnapshotReader reader = new SnapshotReader(inputStream, MATRIX_KIND);
+
+        final DtoMeta dtoMeta = DtoMeta.of(reader.readRequiredString(), reader.readRequiredString(),
+                reader.readRequiredString(), reader.readRequiredString(), reader.readRequiredString(),
+                reader.readRequiredString());
+        final DtoCreator dtoCreator = DtoCreator.of(reader.readRequiredString(), reader.readRequiredString(),
+                reader.readRequiredString());
+
+        return DtoMatrix.of(dtoMeta, dtoCreator, readDtoDefinitionGroup(reader));
+    }
+
+    /**
+     * 入力ストリームからDTOリソースグループを読み込みます。
+     *
+     * @param inputStream 入力ストリーム
+     * @return DTOリソースグループ
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws IOException 読み込みに失敗した場合、またはバイナリ形式が不正な場合
+     */
+    public static DtoResourceGroup readDtoResourceGroup(@NonNull InputStream inputStream) throws IOException {
+
+        final SnapshotReader reader = new SnapshotReader(inputStream, RESOURCE_GROUP_KIND);
+        final int count = reader.readVarint();
+        final DtoResourceGroup dtoResourceGroup = DtoResourceGroup.of();
+
+        for (int i = 0; i < count; i++) {
+            final String packageName = reader.readRequiredString();
+            final String resourceName = reader.readRequiredString();
+            final byte[] encodedResource = reader.readBytes(reader.readVarint());
+            dtoResourceGroup.add(DtoResource.ofEncoded(packageName, resourceName, encodedResource));
+        }
+
+        return dtoResourceGroup;
+    }
+
+    /**
+     * ネストされたDTO定義グループを明示的なスタックを使用して書き込みます。
+     *
+     * @param writer             書き込みオブジェクト
+     * @param dtoDefinitionGroup DTO定義グループ
+     *
+     * @throws IOException 書き込みに失敗した場合
+     */
+    private static void writeDtoDefinitionGroup(SnapshotWriter writer, DtoDefinitionGroup dtoDefinitionGroup)
+            throws IOException {
+
+        final Deque<WritingFrame> frames = new ArrayDeque<>();
+        frames.push(new WritingFrame(writer.writeDefinitionCount(dtoDefinitionGroup)));
+
+        while (!frames.isEmpty()) {
+            final WritingFrame frame = frames.peek();
+
+            if (frame.dtoFields != null && frame.dtoFields.hasNext()) {
+                final DtoField dtoField = frame.dtoFields.next();
+
+                writer.writeString(dtoField.getVariableName());
+                writer.writeString(dtoField.getDataType());
+                writer.writeString(dtoField.getInitialValue());
+                writer.writeString(dtoField.getDescription());
+                writer.writeByte(dtoField.isInvariant() ? INVARIANT_FLAG : 0);
+
+                final Iterator<DtoDefinition> childDtoDefinitions = writer
+                        .writeDefinitionCount(dtoField.getChildDtoDefinitionGroup());
+
+                if (childDtoDefinitions.hasNext()) {
+                    frames.push(new WritingFrame(childDtoDefinitions));
+                }
+
+            } else if (frame.dtoDefinitions.hasNext()) {
+                final DtoDefinition dtoDefinition = frame.dtoDefinitions.next();
+                final DtoFieldGroup dtoFieldGroup = dtoDefinition.getDtoFieldGroup();
+
+                writer.writeString(dtoDefinition.getClassName());
+                writer.writeString(dtoDefinition.getDescription());
+                writer.writeVarint(dtoFieldGroup == null ? 0 : dtoFieldGroup.size());
+                frame.dtoFields = dtoFieldGroup == null ? null : dtoFieldGroup.iterator();
+
+            } else {
+                frames.pop();
+            }
+        }
+    }
+
+    /**
+     * ネストされたDTO定義グループを明示的なスタックを使用して読み込みます。
+     * <p>
+     * 各DTO定義のフィールド数が多い場合は列指向のDTOフィールドグループへ変換します。
+     *
+     * @param reader 読み込みオブジェクト
+     * @return DTO定義グループ
+     *
+     * @throws IOException 読み込みに失敗した場合、またはバイナリ形式が不正な場合
+     */
+    private static DtoDefinitionGroup readDtoDefinitionGroup(SnapshotReader reader) throws IOException {
+
+        final ReadingFrame rootFrame = new ReadingFrame(reader.readVarint(), null);
+        final Deque<ReadingFrame> frames = new ArrayDeque<>();
+        frames.push(rootFrame);
+
+        while (!frames.isEmpty()) {
+            final ReadingFrame frame = frames.peek();
+
+            if (frame.remainingFields > 0) {
+                final String variableName = reader.readRequiredString();
+                final String dataType = reader.readRequiredString();
+                final String initialValue = reader.readRequiredString();
+                final String description = reader.readRequiredString();
+                final boolean invariant = (reader.readByte() & INVARIANT_FLAG) != 0;
+
+                final DtoField dtoField = DtoField.of(variableName, dataType, initialValue, invariant, description);
+                frame.dtoFieldGroup.add(dtoField);
+                frame.remainingFields--;
+
+                final int childCount = reader.readVarint();
+
+                if (childCount > 0) {
+                    frames.push(new ReadingFrame(childCount, dtoField));
+                }
+
+            } else if (frame.dtoFieldGroup != null) {
+                frame.dtoDefinition
+                        .setDtoFieldGroup(DtoDefinitionAssembler.toCompactDtoFieldGroup(frame.dtoFieldGroup));
+                frame.dtoDefinitionGroup.add(frame.dtoDefinition);
+                frame.dtoDefinition = null;
+                frame.dtoFieldGroup = null;
+
+            } else if (frame.remainingDefinitions > 0) {
+                frame.dtoDefinition = new DtoDefinition();
+                frame.dtoDefinition.setClassName(reader.readString());
+                frame.dtoDefinition.setDescription(reader.readString());
+                frame.dtoFieldGroup = DtoFieldGroup.of();
+                frame.remainingFields = reader.readVarint();
+                frame.remainingDefinitions--;
+
+            } else {
+                frames.pop();
+
+                if (frame.ownerDtoField != null) {
+                    frame.ownerDtoField.setChildDtoDefinitionGroup(frame.dtoDefinitionGroup);
+                }
+            }
+        }
+
+        return rootFrame.dtoDefinitionGroup;
+    }
+
+    /**
+     * 書き込み中の1件のDTO定義グループを管理するクラスです。
+     */
+    private static final class WritingFrame {
+
+        /**
+         * 未書き込みのDTO定義
+         */
+        private final Iterator<DtoDefinition> dtoDefinitions;
+
+        /**
+         * 書き込み中のDTO定義の未書き込みのDTOフィールド
+         */
+        private Iterator<DtoField> dtoFields;
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoDefinitions 未書き込みのDTO定義
+         */
+        private WritingFrame(Iterator<DtoDefinition> dtoDefinitions) {
+            this.dtoDefinitions = dtoDefinitions;
+        }
+    }
+
+    /**
+     * 読み込み中の1件のDTO定義グループを管理するクラスです。
+     */
+    private static final class ReadingFrame {
+
+        /**
+         * DTO定義グループ
+         */
+        private final DtoDefinitionGroup dtoDefinitionGroup = DtoDefinitionGroup.of();
+
+        /**
+         * DTO定義グループを子DTO定義グループとして所有するDTOフィールド。ルートの場合は {@code null}
+         */
+        private final DtoField ownerDtoField;
+
+        /**
+         * 未読み込みのDTO定義の件数
+         */
+        private int remainingDefinitions;
+
+        /**
+         * 読み込み中のDTO定義
+         */
+        private DtoDefinition dtoDefinition;
+
+        /**
+         * 読み込み中のDTO定義のDTOフィールドグループ
+         */
+        private DtoFieldGroup dtoFieldGroup;
+
+        /**
+         * 読み込み中のDTO定義の未読み込みのDTOフィールドの件数
+         */
+        private int remainingFields;
+
+        /**
+         * コンストラクタ
+         *
+         * @param remainingDefinitions 未読み込みのDTO定義の件数
+         * @param ownerDtoField        DTO定義グループを子DTO定義グループとして所有するDTOフィールド。ルートの場合は {@code null}
+         */
+        private ReadingFrame(int remainingDefinitions, DtoField ownerDtoField) {
+            this.remainingDefinitions = remainingDefinitions;
+            this.ownerDtoField = ownerDtoField;
+        }
+    }
+
+    /**
+     * バイナリ形式で出力ストリームへ書き込むクラスです。
+     */
+    private static final class SnapshotWriter {
+
+        /**
+         * 出力ストリーム
+         */
+        private final OutputStream outputStream;
+
+        /**
+         * 書き込みバッファ
+         */
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        /**
+         * 書き込みバッファ内の書き込み位置
+         */
+        private int position;
+
+        /**
+         * 書き込み済みの文字列と文字列テーブルのインデックス
+         */
+        private final Map<String, Integer> stringTable = new HashMap<>();
+
+        /**
+         * コンストラクタ。ヘッダを書き込みます。
+         *
+         * @param outputStream 出力ストリーム
+         * @param kind         種別
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private SnapshotWriter(OutputStream outputStream, byte kind) throws IOException {
+            this.outputStream = outputStream;
+            this.writeBytes(ByteBuffer.wrap(MAGIC));
+            this.writeVarint(VERSION);
+            this.writeByte(kind);
+        }
+
+        /**
+         * 引数として渡されたDTO定義グループの件数を書き込み、DTO定義のイテレータを返却します。
+         *
+         * @param dtoDefinitionGroup DTO定義グループ
+         * @return DTO定義のイテレータ。DTO定義グループが {@code null} の場合は空のイテレータ
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private Iterator<DtoDefinition> writeDefinitionCount(DtoDefinitionGroup dtoDefinitionGroup)
+                throws IOException {
+
+            if (dtoDefinitionGroup == null) {
+                this.writeVarint(0);
+                return Collections.emptyIterator();
+            }
+
+            this.writeVarint(dtoDefinitionGroup.size());
+            return dtoDefinitionGroup.iterator();
+        }
+
+        /**
+         * 文字列を書き込みます。書き込み済みの文字列の場合は文字列テーブルのインデックスを書き込みます。
+         *
+         * @param value 文字列
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private void writeString(String value) throws IOException {
+
+            if (value == null) {
+                this.writeVarint(NULL_STRING);
+                return;
+            }
+
+            final Integer index = this.stringTable.putIfAbsent(value, this.stringTable.size());
+
+            if (index != null) {
+                this.writeVarint(index + STRING_REFERENCE_OFFSET);
+                return;
+            }
+
+            final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+
+            this.writeVarint(NEW_STRING);
+            this.writeVarint(encoded.length);
+            this.writeBytes(ByteBuffer.wrap(encoded));
+        }
+
+        /**
+         * 0以上の整数を可変長で書き込みます。
+         *
+         * @param value 0以上の整数
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private void writeVarint(int value) throws IOException {
+
+            int remaining = value;
+
+            while ((remaining & ~0x7F) != 0) {
+                this.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+
+            this.writeByte(remaining);
+        }
+
+        /**
+         * 1バイトを書き込みます。
+         *
+         * @param value バイト
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private void writeByte(int value) throws IOException {
+
+            if (this.position == this.buffer.length) {
+                this.flushBuffer();
+            }
+
+            this.buffer[this.position++] = (byte) value;
+        }
+
+        /**
+         * 引数として渡されたバッファの残りのバイト列を書き込みます。
+         *
+         * @param source バッファ
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private void writeBytes(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                if (this.position == this.buffer.length) {
+                    this.flushBuffer();
+                }
+
+                final int length = Math.min(source.remaining(), this.buffer.length - this.position);
+                source.get(this.buffer, this.position, length);
+                this.position += length;
+            }
+        }
+
+        /**
+         * 書き込みバッファの内容を出力ストリームへ書き込み、出力ストリームをフラッシュします。
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private void flush() throws IOException {
+            this.flushBuffer();
+            this.outputStream.flush();
+        }
+
+        /**
+         * 書き込みバッファの内容を出力ストリームへ書き込みます。
+         *
+         * @throws IOException 書き込みに失敗した場合
+         */
+        private void flushBuffer() throws IOException {
+            this.outputStream.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    /**
+     * バイナリ形式で入力ストリームから読み込むクラスです。
+     */
+    private static final class SnapshotReader {
+
+        /**
+         * 入力ストリーム
+         */
+        private final InputStream inputStream;
+
+        /**
+         * 読み込みバッファ
+         */
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        /**
+         * 読み込みバッファ内の読み込み位置
+         */
+        private int position;
+
+        /**
+         * 読み込みバッファ内の有効なバイト数
+         */
+        private int limit;
+
+        /**
+         * 読み込み済みの文字列テーブル
+         */
+        private final List<String> stringTable = new ArrayList<>();
+
+        /**
+         * コンストラクタ。ヘッダを読み込み、マジックナンバー、バージョンおよび種別を検証します。
+         *
+         * @param inputStream 入力ストリーム
+         * @param kind        期待する種別
+         *
+         * @throws IOException 読み込みに失敗した場合、またはヘッダが不正な場合
+         */
+        private SnapshotReader(InputStream inputStream, byte kind) throws IOException {
+
+            this.inputStream = inputStream;
+
+            if (!Arrays.equals(this.readBytes(MAGIC.length), MAGIC)) {
+                throw new IOException("スナップショットの形式が不正です。");
+            }
+
+            final int version = this.readVarint();
+
+            if (version != VERSION) {
+                throw new IOException(String.format("サポートされていないバージョンです。バージョン = (%s)", version));
+            }
+
+            final byte actualKind = this.readByte();
+
+            if (actualKind != kind) {
+                throw new IOException(
+                        String.format("スナップショットの種別が不正です。期待値 = (%s)、実際 = (%s)", (char) kind, (char) actualKind));
+            }
+        }
+
+        /**
+         * 文字列を読み込みます。
+         *
+         * @return 文字列。 {@code null} が書き込まれていた場合は {@code null}
+         *
+         * @throws IOException 読み込みに失敗した場合、または文字列テーブルの参照が不正な場合
+         */
+        private String readString() throws IOException {
+
+            final int reference = this.readVarint();
+
+            if (reference == NULL_STRING) {
+                return null;
+            }
+
+            if (reference != NEW_STRING) {
+                final int index = reference - STRING_REFERENCE_OFFSET;
+
+                if (index >= this.stringTable.size()) {
+                    throw new IOException(String.format("文字列テーブルの参照が不正です。インデックス = (%s)", index));
+                }
+
+                return this.stringTable.get(index);
+            }
+
+            final int length = this.readVarint();
+            final String value;
+
+            if (length <= this.limit - this.position) {
+                value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+                this.position += length;
+            } else {
+                value = new String(this.readBytes(length), StandardCharsets.UTF_8);
+            }
+
+            this.stringTable.add(value);
+            return value;
+        }
+
+        /**
+         * {@code null} ではない文字列を読み込みます。
+         *
+         * @return 文字列
+         *
+         * @throws IOException 読み込みに失敗した場合、または {@code null} が書き込まれていた場合
+         */
+        private String readRequiredString() throws IOException {
+
+            final String value = this.readString();
+
+            if (value == null) {
+                throw new IOException("必須の文字列が存在しません。");
+            }
+
+            return value;
+        }
+
+        /**
+         * 可変長で書き込まれた0以上の整数を読み込みます。
+         *
+         * @return 0以上の整数
+         *
+         * @throws IOException 読み込みに失敗した場合、または整数の形式が不正な場合
+         */
+        private int readVarint() throws IOException {
+
+            int value = 0;
+
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                final byte current = this.readByte();
+                value |= (current & 0x7F) << shift;
+
+                if ((current & 0x80) == 0) {
+                    if (value < 0) {
+                        break;
+                    }
+
+                    return value;
+                }
+            }
+
+            throw new IOException("整数の形式が不正です。");
+        }
+
+        /**
+         * 1バイトを読み込みます。
+         *
+         * @return 読み込んだバイト
+         *
+         * @throws IOException 読み込みに失敗した場合、または入力ストリームの終了に達した場合
+         */
+        private byte readByte() throws IOException {
+
+            if (this.position == this.limit) {
+                this.fill();
+            }
+
+            return this.buffer[this.position++];
+        }
+
+        /**
+         * 引数として渡された長さのバイト列を読み込みます。
+         *
+         * @param length 長さ
+         * @return 読み込んだバイト列
+         *
+         * @throws IOException 読み込みに失敗した場合、または入力ストリームの終了に達した場合
+         */
+        private byte[] readBytes(int length) throws IOException {
+
+            final byte[] bytes = new byte[length];
+            final int buffered = Math.min(length, this.limit - this.position);
+
+            System.arraycopy(this.buffer, this.position, bytes, 0, buffered);
+            this.position += buffered;
+
+            final int remaining = length - buffered;
+
+            if (remaining > 0 && this.inputStream.readNBytes(bytes, buffered, remaining) != remaining) {
+                throw new IOException("予期しないスナップショットの終了です。");
+            }
+
+            return bytes;
+        }
+
+        /**
+         * 読み込みバッファを入力ストリームから補充します。読み込みバッファの内容は全て消費済みである必要があります。
+         *
+         * @throws IOException 読み込みに失敗した場合、または入力ストリームの終了に達した場合
+         */
+        private void fill() throws IOException {
+
+            final int length = this.inputStream.read(this.buffer, 0, this.buffer.length);
+
+            if (length <= 0) {
+                throw new IOException("予期しないスナップショットの終了です。");
+            }
+
+            this.position = 0;
+            this.limit = length;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import com.google.common.flogger.FluentLogger;
+import com.google.googlejavaformat.java.Formatter;
+import com.google.googlejavaformat.java.FormatterException;
+import com.google.googlejavaformat.java.JavaFormatterOptions;
+import com.google.googlejavaformat.java.JavaFormatterOptions.Style;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOリソースのソースコードをAOSPスタイルへ整形するフォーマッタです。
+ * <p>
+ * このクラスはエンジン全体で共有されるシングルトンとして提供されます。内部で保持する
+ * {@link Formatter} は不変であるため、複数のスレッドから同時に {@link #format(String)} を呼び出すことができます。
+ * <p>
+ * インスタンスの生成時にウォームアップ用の整形処理を一度実行し、整形処理で使用されるクラスのロードを済ませます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoSourceFormatter {
+
+    /**
+     * ログ出力オブジェクト
+     */
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * ウォームアップ用のソースコード
+     */
+    private static final String WARMUP_SOURCE = "package warmup;import java.util.*;/** Warmup */"
+            + "public final class Warmup {/** Field */private String field = \"\";"
+            + "/** Constructor */public Warmup(String field) {this.field = field;}}";
+
+    /**
+     * フォーマッタ
+     */
+    private final Formatter formatter;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoSourceFormatter() {
+        this.formatter = new Formatter(JavaFormatterOptions.builder().style(Style.AOSP).build());
+        this.warmup();
+    }
+
+    /**
+     * {@link DtoSourceFormatter} のシングルトンインスタンスを返却します。
+     *
+     * @return {@link DtoSourceFormatter} のシングルトンインスタンス
+     */
+    public static DtoSourceFormatter getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * {@link DtoSourceFormatter} のシングルトンインスタンスを保持するインナークラスです。<br>
+     * {@link DtoSourceFormatter} シングルトンインスタンスは初回参照時にメモリに読み込まれます。
+     */
+    private static class InstanceHolder {
+
+        /**
+         * シングルトンインスタンス
+         */
+        private static final DtoSourceFormatter INSTANCE = new DtoSourceFormatter();
+    }
+
+    /**
+     * 引数として渡されたソースコードをAOSPスタイルへ整形し返却します。
+     *
+     * @param source ソースコード
+     * @return 整形されたソースコード
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws FormatterException ソースコードの解析に失敗した場合
+     */
+    public String format(@NonNull String source) throws FormatterException {
+        return this.formatter.formatSource(source);
+    }
+
+    /**
+     * ウォームアップ用のソースコードを整形し、整形処理で使用されるクラスを事前にロードします。
+     */
+    private void warmup() {
+        try {
+            this.formatter.formatSource(WARMUP_SOURCE);
+        } catch (FormatterException e) {
+            logger.atWarning().withCause(e).log("フォーマッタのウォームアップ処理に失敗しました。");
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.command.dto;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.thinkit.generator.common.vo.dto.DtoDefinition;
+import org.thinkit.generator.common.vo.dto.DtoDefinitionGroup;
+import org.thinkit.generator.common.vo.dto.DtoField;
+import org.thinkit.generator.common.vo.dto.DtoFieldGroup;
+import org.thinkit.generator.common.vo.dto.DtoMatrix;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOマトリクスを構築する際に同一内容の文字列を1つのインスタンスへ集約するシンボルテーブルクラスです。
+ * <p>
+ * 大規模なDTOマトリクスではデータ型や変数名などの同一内容の文字列が、DTOフィールドごとに別々のインスタンスとして保持されます。
+ * DTOマトリクスを構築する処理は {@link #createDtoField(String, String, String, boolean, String)} と
+ * {@link #createDtoDefinition(String, String, DtoFieldGroup)} を使用することで、同一内容の文字列を
+ * このテーブルに登録された1つのインスタンスで共有できます。構築済みのDTOマトリクスは {@link #compact(DtoMatrix)} で集約できます。
+ * <p>
+ * 集約によって不要になった文字列の件数と文字数は {@link #getSavedCount()} と {@link #getSavedLength()} で取得できます。<br>
+ * このクラスはスレッドセーフです。テーブルは {@link String#intern()} とは異なりインスタンスの破棄と共に解放されるため、
+ * DTOマトリクスの構築処理ごとに生成して使用してください。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+public final class DtoSymbolTable {
+
+    /**
+     * 登録された文字列
+     */
+    @ToString.Exclude
+    private final ConcurrentMap<String, String> symbols;
+
+    /**
+     * 集約を要求された文字列の件数
+     */
+    private final LongAdder requestCount;
+
+    /**
+     * 集約によって不要になった文字列の件数
+     */
+    private final LongAdder savedCount;
+
+    /**
+     * 集約によって不要になった文字列の文字数
+     */
+    private final LongAdder savedLength;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoSymbolTable() {
+        this.symbols = new ConcurrentHashMap<>();
+        this.requestCount = new LongAdder();
+        this.savedCount = new LongAdder();
+        this.savedLength = new LongAdder();
+    }
+
+    /**
+     * 空の {@link DtoSymbolTable} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @return {@link DtoSymbolTable} クラスの新しいインスタンス
+     */
+    public static DtoSymbolTable of() {
+        return new DtoSymbolTable();
+    }
+
+    /**
+     * 引数として渡された文字列と同一内容の登録済みの文字列を返却します。登録されていない場合は引数として渡された文字列を登録し返却します。
+     *
+     * @param symbol 文字列
+     * @return 登録済みの文字列
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public String intern(@NonNull String symbol) {
+
+        this.requestCount.increment();
+        final String registeredSymbol = this.symbols.putIfAbsent(symbol, symbol);
+
+        if (registeredSymbol == null) {
+            return symbol;
+        }
+
+        if (registeredSymbol != symbol) {
+            this.savedCount.increment();
+            this.savedLength.add(symbol.length());
+        }
+
+        return registeredSymbol;
+    }
+
+    /**
+     * 引数として渡された情報の文字列を集約し、 {@link DtoField} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param variableName 変数名
+     * @param dataType     データ型
+     * @param initialValue 初期値
+     * @param invariant    不変
+     * @param description  説明
+     * @return {@link DtoField} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoField createDtoField(@NonNull String variableName, @NonNull String dataType,
+            @NonNull String initialValue, boolean invariant, @NonNull String description) {
+        return DtoField.of(this.intern(variableName), this.intern(dataType), this.intern(initialValue), invariant,
+                this.intern(description));
+    }
+
+    /**
+     * 引数として渡された情報の文字列を集約し、 {@link DtoDefinition} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param className     クラス名
+     * @param description   説明
+     * @param dtoFieldGroup DTOフィールドグループ
+     * @return {@link DtoDefinition} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoDefinition createDtoDefinition(@NonNull String className, @NonNull String description,
+            @NonNull DtoFieldGroup dtoFieldGroup) {
+
+        final DtoDefinition dtoDefinition = new DtoDefinition();
+        dtoDefinition.setClassName(this.intern(className));
+        dtoDefinition.setDescription(this.intern(description));
+        dtoDefinition.setDtoFieldGroup(dtoFieldGroup);
+
+        return dtoDefinition;
+    }
+
+    /**
+     * 引数として渡されたDTOマトリクスの全てのDTO定義とDTOフィールドの文字列を集約した、新しいDTOマトリクスを返却します。
+     * <p>
+     * 引数として渡されたDTOマトリクスは変更されません。DTOメタとDTO作成者は1件のみのため集約の対象外です。
+     *
+     * @param dtoMatrix DTOマトリクス
+     * @return 文字列を集約したDTOマトリクス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoMatrix compact(@NonNull DtoMatrix dtoMatrix) {
+        return DtoMatrix.of(dtoMatrix.getDtoMeta(), dtoMatrix.getDtoCreator(),
+                this.compact(dtoMatrix.getDtoDefinitionGroup()));
+    }
+
+    /**
+     * 集約を要求された文字列の件数を返却します。
+     *
+     * @return 集約を要求された文字列の件数
+     */
+    public long getRequestCount() {
+        return this.requestCount.sum();
+    }
+
+    /**
+     * 集約によって不要になった文字列の件数を返却します。
+     *
+     * @return 集約によって不要になった文字列の件数
+     */
+    public long getSavedCount() {
+        return this.savedCount.sum();
+    }
+
+    /**
+     * 集約によって不要になった文字列の文字数の合計を返却します。
+     *
+     * @return 集約によって不要になった文字列の文字数の合計
+     */
+    public long getSavedLength() {
+        return this.savedLength.sum();
+    }
+
+    /**
+     * 登録されている文字列の件数を返却します。
+     *
+     * @return 登録されている文字列の件数
+     */
+    public int size() {
+        return this.symbols.size();
+    }
+
+    /**
+     * 引数として渡されたDTO定義グループと子孫のDTO定義グループの文字列を集約した、新しいDTO定義グループを返却します。
+     * <p>
+     * ネストの深いDTO定義でもスタックオーバーフローが発生しないよう、未処理のDTO定義グループを明示的なスタックで管理して走査します。
+     * 子DTO定義グループは内容を集約した後に親のDTOフィールドへ設定されます。
+     *
+     * @param dtoDefinitionGroup DTO定義グループ
+     * @return 文字列を集約したDTO定義グループ
+     */
+    private DtoDefinitionGroup compact(DtoDefinitionGroup dtoDefinitionGroup) {
+
+        final DtoDefinitionGroup compactedDtoDefinitionGroup = DtoDefinitionGroup.of();
+        final Deque<CompactionFrame> pendingFrames = new ArrayDeque<>();
+        pendingFrames.push(new CompactionFrame(dtoDefinitionGroup, compactedDtoDefinitionGroup, null, 0));
+
+        while (!pendingFrames.isEmpty()) {
+            final CompactionFrame frame = pendingFrames.pop();
+
+            for (DtoDefinition dtoDefinition : frame.dtoDefinitionGroup) {
+                final DtoFieldGroup sourceDtoFieldGroup = dtoDefinition.getDtoFieldGroup();
+                final DtoFieldGroup dtoFieldGroup = sourceDtoFieldGroup.isColumnar()
+                        ? DtoFieldGroup.ofColumnar(sourceDtoFieldGroup.size())
+                        : DtoFieldGroup.of();
+
+                for (DtoField dtoField : sourceDtoFieldGroup) {
+                    dtoFieldGroup.add(this.createDtoField(dtoField.getVariableName(), dtoField.getDataType(),
+                            dtoField.getInitialValue(), dtoField.isInvariant(), dtoField.getDescription()));
+
+                    final DtoDefinitionGroup childDtoDefinitionGroup = dtoField.getChildDtoDefinitionGroup();
+
+                    if (!childDtoDefinitionGroup.isEmpty()) {
+                        pendingFrames.push(new CompactionFrame(childDtoDefinitionGroup, DtoDefinitionGroup.of(),
+                                dtoFieldGroup, dtoFieldGroup.size() - 1));
+                    }
+                }
+
+                final DtoDefinition compactedDtoDefinition = new DtoDefinition();
+                compactedDtoDefinition.setClassName(this.internIfPresent(dtoDefinition.getClassName()));
+                compactedDtoDefinition.setDescription(this.internIfPresent(dtoDefinition.getDescription()));
+                compactedDtoDefinition.setDtoFieldGroup(dtoFieldGroup);
+                frame.compactedDtoDefinitionGroup.add(compactedDtoDefinition);
+            }
+
+            if (frame.parentDtoFieldGroup != null) {
+                frame.parentDtoFieldGroup.setChildDtoDefinitionGroup(frame.fieldIndex,
+                        frame.compactedDtoDefinitionGroup);
+            }
+        }
+
+        return compactedDtoDefinitionGroup;
+    }
+
+    /**
+     * 引数として渡された文字列が {@code null} ではない場合に集約し返却します。
+     *
+     * @param symbol 文字列
+     * @return 登録済みの文字列。引数として {@code null} が渡された場合は {@code null}
+     */
+    private String internIfPresent(String symbol) {
+        return symbol == null ? null : this.intern(symbol);
+    }
+
+    /**
+     * 文字列の集約を待つ1件のDTO定義グループと、集約結果の設定先を管理するクラスです。
+     */
+    private static final class CompactionFrame {
+
+        /**
+         * 集約元のDTO定義グループ
+         */
+        private final DtoDefinitionGroup dtoDefinitionGroup;
+
+        /**
+         * 集約後のDTO定義グループ
+         */
+        private final DtoDefinitionGroup compactedDtoDefinitionGroup;
+
+        /**
+         * 集約後のDTO定義グループを設定する親のDTOフィールドグループ
+         */
+        private final DtoFieldGroup parentDtoFieldGroup;
+
+        /**
+         * 親のDTOフィールドグループ内のDTOフィールドのインデックス
+         */
+        private final int fieldIndex;
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoDefinitionGroup          集約元のDTO定義グループ
+         * @param compactedDtoDefinitionGroup 集約後のDTO定義グループ
+         * @param parentDtoFieldGroup         親のDTOフィールドグループ。ルートのDTO定義グループの場合は {@code null}
+         * @param fieldIndex                  親のDTOフィールドグループ内のDTOフィールドのインデックス
+         */
+        private CompactionFrame(DtoDefinitionGroup dtoDefinitionGroup, DtoDefinitionGroup compactedDtoDefinitionGroup,
+                DtoFieldGroup parentDtoFieldGroup, int fieldIndex) {
+            this.dtoDefinitionGroup = dtoDefinitionGroup;
+            this.compactedDtoDefinitionGroup = compactedDtoDefinitionGroup;
+            this.parentDtoFieldGroup = parentDtoFieldGroup;
+            this.fieldIndex = fieldIndex;
+        }
+    }
+}
@@ -0,0 +1,627 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.factory.dtogenerator;
+
+import org.thinkit.common.catalog.HtmlTag;
+
+import lombok.NonNull;
+
+/**
+ * AOSPスタイルのレイアウト規則を定義し、整形済みのJavadocコメントを生成するユーティリティクラスです。
+ * <p>
+ * インデントは1レベルあたり4桁、折り返し時のインデントは8桁です。整形済みのリソースの改行コードは {@link #LINE_SEPARATOR} です。
+ * <p>
+ * Javadocコメントは未整形のリソースと同一のコメントを入力とし、 {@code google-java-format} のJavadoc整形規則を再現して出力します。<br>
+ * 空白で区切られた各単語は {@link #MAX_LINE_LENGTH} 桁で貪欲に折り返し、改行タグの後で改行し、段落タグの前に空行を挿入します。
+ * 空白に続く {@code @} で始まる単語は直前の単語と連結し、その間では折り返しません。
+ * 内容が1行に収まる場合は1行形式で出力します。<br>
+ * 改行文字、インラインタグ、改行タグと段落タグ以外のHTMLタグ、コメント先頭のブロックタグは再現できないため、
+ * これらを含むコメントを整形する場合は {@link UnsupportedOperationException} を送出します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class AospStyle {
+
+    /**
+     * 1行の最大桁数
+     */
+    static final int MAX_LINE_LENGTH = 100;
+
+    /**
+     * 整形済みのリソースの改行コード
+     */
+    static final String LINE_SEPARATOR = "\n";
+
+    /**
+     * 1インデントレベルあたりの空白
+     */
+    private static final String INDENT = "    ";
+
+    /**
+     * 折り返し時のインデント
+     */
+    static final String CONTINUATION_INDENT = INDENT + INDENT;
+
+    /**
+     * 改行タグ
+     */
+    private static final String BREAK_TAG = HtmlTag.br();
+
+    /**
+     * 段落タグ
+     */
+    private static final String PARAGRAPH_TAG = HtmlTag.p();
+
+    /**
+     * Javadocコメントの開始
+     */
+    private static final String JAVADOC_START = "/**";
+
+    /**
+     * Javadocコメントの終了
+     */
+    private static final String JAVADOC_END = "*/";
+
+    /**
+     * 整形済みのJavadocコメントの終了行
+     */
+    private static final String JAVADOC_END_LINE = " */";
+
+    /**
+     * Javadocコメントの行の接頭辞
+     */
+    private static final String JAVADOC_LINE_PREFIX = " * ";
+
+    /**
+     * Javadocコメントの空行
+     */
+    private static final String JAVADOC_BLANK_LINE = " *";
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private AospStyle() {
+    }
+
+    /**
+     * 引数として渡されたインデントレベルに対応する桁数を返却します。
+     *
+     * @param indentLevel インデントレベル
+     * @return インデントレベルに対応する桁数
+     */
+    static int indentWidth(int indentLevel) {
+        return INDENT.length() * indentLevel;
+    }
+
+    /**
+     * 引数として渡されたインデントレベルに対応する空白をバッファへ追加します。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     */
+    static void appendIndent(StringBuilder output, int indentLevel) {
+        for (int i = 0; i < indentLevel; i++) {
+            output.append(INDENT);
+        }
+    }
+
+    /**
+     * 引数として渡されたインデントレベルに対応する空白と、指定された回数分の折り返し時のインデントをバッファへ追加します。
+     *
+     * @param output            出力先のバッファ
+     * @param indentLevel       インデントレベル
+     * @param continuationDepth 折り返し時のインデントを追加する回数
+     */
+    static void appendContinuationIndent(StringBuilder output, int indentLevel, int continuationDepth) {
+
+        appendIndent(output, indentLevel);
+
+        for (int i = 0; i < continuationDepth; i++) {
+            output.append(CONTINUATION_INDENT);
+        }
+    }
+
+    /**
+     * 引数として渡された未整形のJavadocコメントを整形しバッファへ追加します。終了行の後に改行は追加されません。
+     * <p>
+     * 内容が1行に収まる場合は1行形式で出力します。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     * @param comment     {@code /**} で開始し {@code *}{@code /} で終了する未整形のJavadocコメント
+     *
+     * @exception NullPointerException          引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException      Javadocコメントの形式ではない文字列が渡された場合
+     * @exception UnsupportedOperationException 再現できない記法がコメントに含まれる場合
+     */
+    static void appendJavadoc(@NonNull StringBuilder output, int indentLevel, @NonNull CharSequence comment) {
+
+        final int length = comment.length();
+
+        if (length < JAVADOC_START.length() + JAVADOC_END.length() || !startsWith(comment, 0, length, JAVADOC_START)
+                || !startsWith(comment, length - JAVADOC_END.length(), length, JAVADOC_END)) {
+            throw new IllegalArgumentException(String.format("Javadocコメントの形式が不正です。コメント = (%s)", comment));
+        }
+
+        appendIndent(output, indentLevel);
+        output.append(JAVADOC_START);
+
+        final int startLineEnd = output.length();
+        final int lineCount = new JavadocLayout(output, indentLevel, false).layout(comment, JAVADOC_START.length(),
+                length - JAVADOC_END.length());
+
+        if (lineCount <= 1) {
+            final int contentStart = lineCount == 0 ? startLineEnd
+                    : startLineEnd + LINE_SEPARATOR.length() + indentWidth(indentLevel) + JAVADOC_LINE_PREFIX.length();
+            final int contentLength = output.length() - contentStart;
+            final int singleLineOverhead = JAVADOC_START.length() + JAVADOC_END_LINE.length() + 1;
+
+            if (contentLength <= MAX_LINE_LENGTH - singleLineOverhead - indentWidth(indentLevel)) {
+                output.replace(startLineEnd, contentStart, contentLength == 0 ? "" : " ");
+                output.append(JAVADOC_END_LINE);
+                return;
+            }
+        }
+
+        appendJavadocEnd(output, indentLevel);
+    }
+
+    /**
+     * 複数行形式のJavadocコメントの開始行と、それに続く未整形のコメントの一部を整形しバッファへ追加します。
+     * <p>
+     * 引数として渡されるコメントの一部は {@code /**} の直後から改行タグまでとし、後続の部分は
+     * {@link #appendJavadocContinuation(StringBuilder, int, CharSequence)} で追加します。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     * @param text        {@code /**} に続く未整形のコメントの一部
+     *
+     * @exception NullPointerException          引数として {@code null} が渡された場合
+     * @exception UnsupportedOperationException 再現できない記法がコメントに含まれる場合
+     */
+    static void appendJavadocStart(@NonNull StringBuilder output, int indentLevel, @NonNull CharSequence text) {
+        appendIndent(output, indentLevel);
+        output.append(JAVADOC_START);
+        new JavadocLayout(output, indentLevel, false).layout(text, 0, text.length());
+    }
+
+    /**
+     * 改行タグに続く未整形のコメントの一部を整形しバッファへ追加します。
+     * <p>
+     * 改行タグの後は常に改行されるため、改行タグで区切られた各部分は前後の部分と独立して整形されます。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     * @param text        改行タグに続く未整形のコメントの一部
+     *
+     * @exception NullPointerException          引数として {@code null} が渡された場合
+     * @exception UnsupportedOperationException 再現できない記法がコメントに含まれる場合
+     */
+    static void appendJavadocContinuation(@NonNull StringBuilder output, int indentLevel,
+            @NonNull CharSequence text) {
+        new JavadocLayout(output, indentLevel, true).layout(text, 0, text.length());
+    }
+
+    /**
+     * 複数行形式のJavadocコメントの終了行をバッファへ追加します。終了行の後に改行は追加されません。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     */
+    static void appendJavadocEnd(StringBuilder output, int indentLevel) {
+        output.append(LINE_SEPARATOR);
+        appendIndent(output, indentLevel);
+        output.append(JAVADOC_END_LINE);
+    }
+
+    /**
+     * 指定された位置から接頭辞が開始するか判定します。
+     *
+     * @param sequence 文字列
+     * @param index    開始位置
+     * @param end      判定する範囲の終了位置
+     * @param prefix   接頭辞
+     * @return 接頭辞が開始する場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean startsWith(CharSequence sequence, int index, int end, String prefix) {
+
+        if (end - index < prefix.length()) {
+            return false;
+        }
+
+        for (int i = 0, length = prefix.length(); i < length; i++) {
+            if (sequence.charAt(index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 引数として渡された文字がJavadocコメント内の空白文字か判定します。
+     *
+     * @param character 文字
+     * @return 空白または水平タブの場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isSpace(char character) {
+        return character == ' ' || character == '\t';
+    }
+
+    /**
+     * 引数として渡された文字が改行文字か判定します。
+     *
+     * @param character 文字
+     * @return 改行文字の場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isLineBreak(char character) {
+        return character == '\n' || character == '\r';
+    }
+
+    /**
+     * 指定された位置から、改行タグと段落タグ以外のHTMLタグ、HTMLコメント、またはインラインタグが開始するか判定します。
+     *
+     * @param sequence 文字列
+     * @param index    開始位置
+     * @param end      判定する範囲の終了位置
+     * @return 再現できない記法が開始する場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isUnsupportedMarkup(CharSequence sequence, int index, int end) {
+
+        if (end - index < 2) {
+            return false;
+        }
+
+        final char character = sequence.charAt(index);
+        final char nextCharacter = sequence.charAt(index + 1);
+
+        if (character == '{') {
+            return nextCharacter == '@';
+        }
+
+        return character == '<' && (Character.isLetter(nextCharacter) || nextCharacter == '/' || nextCharacter == '!');
+    }
+
+    /**
+     * 再現できない記法を含むコメントを整形しようとした場合の例外を生成します。
+     *
+     * @param text コメント
+     * @return 例外
+     */
+    private static UnsupportedOperationException unsupportedComment(CharSequence text) {
+        return new UnsupportedOperationException(
+                String.format("整形済みのリソースでは再現できない記法がコメントに含まれています。コメント = (%s)", text));
+    }
+
+    /**
+     * 出力を要求された空白の種類を定義した列挙型です。後に定義された要素ほど優先されます。
+     */
+    private enum RequestedWhitespace {
+
+        /**
+         * 空白なし
+         */
+        NONE,
+
+        /**
+         * 空白
+         */
+        WHITESPACE,
+
+        /**
+         * 改行
+         */
+        NEWLINE,
+
+        /**
+         * 空行
+         */
+        BLANK_LINE;
+    }
+
+    /**
+     * 未整形のJavadocコメントを走査しながら、単語とタグを折り返し位置を決めてバッファへ追加するクラスです。
+     * <p>
+     * 空白、改行タグ、段落タグは直後の単語を出力する時点まで出力を保留し、保留された中で最も優先される空白を出力します。
+     */
+    private static final class JavadocLayout {
+
+        /**
+         * 出力先のバッファ
+         */
+        private final StringBuilder output;
+
+        /**
+         * インデントレベル
+         */
+        private final int indentLevel;
+
+        /**
+         * 出力を保留している空白
+         */
+        private RequestedWhitespace requestedWhitespace = RequestedWhitespace.NEWLINE;
+
+        /**
+         * 行頭に位置しているか
+         */
+        private boolean atStartOfLine;
+
+        /**
+         * 現在の行に追加できる残りの桁数
+         */
+        private int remainingOnLine;
+
+        /**
+         * 単語またはタグを出力済みか
+         */
+        private boolean wroteAnythingSignificant;
+
+        /**
+         * 空白以外の文字を読み込み済みか
+         */
+        private boolean readAnything;
+
+        /**
+         * 出力した改行の数
+         */
+        private int lineCount;
+
+        /**
+         * コンストラクタ
+         *
+         * @param output      出力先のバッファ
+         * @param indentLevel インデントレベル
+         * @param continued   改行タグに続くコメントの一部を整形する場合は {@code true}
+         */
+        JavadocLayout(StringBuilder output, int indentLevel, boolean continued) {
+            this.output = output;
+            this.indentLevel = indentLevel;
+            this.wroteAnythingSignificant = continued;
+            this.readAnything = continued;
+        }
+
+        /**
+         * 指定された範囲のコメントを整形しバッファへ追加します。最後の単語またはタグの後に改行は追加されません。
+         *
+         * @param text  コメント
+         * @param start 開始位置
+         * @param end   終了位置
+         * @return 出力した改行の数。空行は2として数えます
+         *
+         * @exception UnsupportedOperationException 再現できない記法がコメントに含まれる場合
+         */
+        int layout(CharSequence text, int start, int end) {
+
+            int index = start;
+
+            while (index < end) {
+                final char character = text.charAt(index);
+
+                if (isSpace(character)) {
+                    this.requestWhitespace(RequestedWhitespace.WHITESPACE);
+                    index++;
+                    continue;
+                }
+
+                final boolean breakTag = startsWith(text, index, end, BREAK_TAG);
+                final boolean paragraphTag = startsWith(text, index, end, PARAGRAPH_TAG);
+
+                if (isLineBreak(character) || (!this.readAnything && character == '@')
+                        || (!breakTag && !paragraphTag && isUnsupportedMarkup(text, index, end))) {
+                    throw unsupportedComment(text);
+                }
+
+                this.readAnything = true;
+
+                if (breakTag) {
+                    this.writeTag(BREAK_TAG, false);
+                    this.requestWhitespace(RequestedWhitespace.NEWLINE);
+                    index += BREAK_TAG.length();
+                } else if (paragraphTag) {
+                    if (this.wroteAnythingSignificant) {
+                        this.requestWhitespace(RequestedWhitespace.BLANK_LINE);
+                        this.writeTag(PARAGRAPH_TAG, true);
+                    }
+
+                    index += PARAGRAPH_TAG.length();
+                } else {
+                    index = this.readWord(text, index, end);
+                }
+            }
+
+            return this.lineCount;
+        }
+
+        /**
+         * 指定された位置から開始する単語を読み込んでバッファへ追加し、単語の終了位置を返却します。
+         * <p>
+         * 単語の後に空白と {@code @} で始まる単語が続く場合は、間の空白を1つの空白として1つの単語へ連結します。
+         *
+         * @param text  コメント
+         * @param start 単語の開始位置
+         * @param end   コメントの終了位置
+         * @return 単語の終了位置
+         */
+        private int readWord(CharSequence text, int start, int end) {
+
+            int wordEnd = this.skipWord(text, start + 1, end);
+            int nextStart = this.skipSpaces(text, wordEnd, end);
+
+            while (nextStart > wordEnd && nextStart < end && text.charAt(nextStart) == '@') {
+                wordEnd = this.skipWord(text, nextStart + 1, end);
+                nextStart = this.skipSpaces(text, wordEnd, end);
+            }
+
+            this.writeWord(text, start, wordEnd);
+            return wordEnd;
+        }
+
+        /**
+         * 指定された位置から単語の終了位置まで読み飛ばし、空白、改行文字、またはタグの位置を返却します。
+         *
+         * @param text  コメント
+         * @param index 開始位置
+         * @param end   コメントの終了位置
+         * @return 単語の終了位置
+         */
+        private int skipWord(CharSequence text, int index, int end) {
+
+            while (index < end) {
+                final char character = text.charAt(index);
+
+                if (isSpace(character) || isLineBreak(character) || startsWith(text, index, end, BREAK_TAG)
+                        || startsWith(text, index, end, PARAGRAPH_TAG) || isUnsupportedMarkup(text, index, end)) {
+                    break;
+                }
+
+                index++;
+            }
+
+            return index;
+        }
+
+        /**
+         * 指定された位置から空白を読み飛ばし、空白以外の文字の位置を返却します。
+         *
+         * @param text  コメント
+         * @param index 開始位置
+         * @param end   コメントの終了位置
+         * @return 空白以外の文字の位置。存在しない場合はコメントの終了位置
+         */
+        private int skipSpaces(CharSequence text, int index, int end) {
+
+            while (index < end && isSpace(text.charAt(index))) {
+                index++;
+            }
+
+            return index;
+        }
+
+        /**
+         * 出力する空白を要求します。既に要求されている空白より優先される場合のみ要求を置き換えます。
+         *
+         * @param whitespace 要求する空白
+         */
+        private void requestWhitespace(RequestedWhitespace whitespace) {
+            if (whitespace.compareTo(this.requestedWhitespace) > 0) {
+                this.requestedWhitespace = whitespace;
+            }
+        }
+
+        /**
+         * 保留している空白を出力した後に、引数として渡されたタグをバッファへ追加します。
+         *
+         * @param tag              タグ
+         * @param startOfLineToken 追加した後も行頭として扱うタグの場合は {@code true}
+         */
+        private void writeTag(String tag, boolean startOfLineToken) {
+            this.beginToken(tag.length());
+            this.output.append(tag);
+            this.endToken(tag.length(), startOfLineToken);
+        }
+
+        /**
+         * 保留している空白を出力した後に、指定された範囲の単語をバッファへ追加します。単語内の連続する空白は1つの空白として追加します。
+         *
+         * @param text  コメント
+         * @param start 開始位置
+         * @param end   終了位置
+         */
+        private void writeWord(CharSequence text, int start, int end) {
+
+            int tokenLength = 0;
+
+            for (int index = start; index < end; index = this.skipSpaces(text, index, end)) {
+                final int wordEnd = this.skipWord(text, index + 1, end);
+                tokenLength += (index > start ? 1 : 0) + wordEnd - index;
+                index = wordEnd;
+            }
+
+            this.beginToken(tokenLength);
+
+            for (int index = start; index < end; index = this.skipSpaces(text, index, end)) {
+                if (index > start) {
+                    this.output.append(' ');
+                }
+
+                final int wordEnd = this.skipWord(text, index + 1, end);
+                this.output.append(text, index, wordEnd);
+                index = wordEnd;
+            }
+
+            this.endToken(tokenLength, false);
+        }
+
+        /**
+         * 保留している空白を出力し、単語またはタグが現在の行に収まらない場合は行頭を除き改行します。
+         *
+         * @param tokenLength 単語またはタグの文字数
+         */
+        private void beginToken(int tokenLength) {
+
+            if (this.requestedWhitespace == RequestedWhitespace.BLANK_LINE) {
+                this.output.append(LINE_SEPARATOR);
+                appendIndent(this.output, this.indentLevel);
+                this.output.append(JAVADOC_BLANK_LINE);
+                this.lineCount++;
+                this.writeNewline();
+            } else if (this.requestedWhitespace == RequestedWhitespace.NEWLINE) {
+                this.writeNewline();
+            }
+
+            final boolean needWhitespace = this.requestedWhitespace == RequestedWhitespace.WHITESPACE;
+
+            if (!this.atStartOfLine && tokenLength + (needWhitespace ? 1 : 0) > this.remainingOnLine) {
+                this.writeNewline();
+            }
+
+            if (!this.atStartOfLine && needWhitespace) {
+                this.output.append(' ');
+                this.remainingOnLine--;
+            }
+        }
+
+        /**
+         * 単語またはタグを追加した後の状態へ更新します。
+         *
+         * @param tokenLength      単語またはタグの文字数
+         * @param startOfLineToken 追加した後も行頭として扱うタグの場合は {@code true}
+         */
+        private void endToken(int tokenLength, boolean startOfLineToken) {
+
+            if (!startOfLineToken) {
+                this.atStartOfLine = false;
+            }
+
+            this.remainingOnLine -= tokenLength;
+            this.requestedWhitespace = RequestedWhitespace.NONE;
+            this.wroteAnythingSignificant = true;
+        }
+
+        /**
+         * 改行し、次の行の接頭辞をバッファへ追加します。
+         */
+        private void writeNewline() {
+            this.output.append(LINE_SEPARATOR);
+            appendIndent(this.output, this.indentLevel);
+            this.output.append(JAVADOC_LINE_PREFIX);
+            this.remainingOnLine = MAX_LINE_LENGTH - indentWidth(this.indentLevel) - JAVADOC_LINE_PREFIX.length();
+            this.atStartOfLine = true;
+            this.lineCount++;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.factory.dtogenerator;
+
+/**
+ * リソースを呼び出し元が用意したバッファへ直接追加する処理を定義したインターフェースです。
+ * <p>
+ * このインターフェースを実装したリソースは中間の文字列を生成せずに、{@code createResource()} と同一のリソースを
+ * 引数として渡されたバッファへ追加します。1クラス分のリソースを構成する全てのリソースが同一のバッファへ追加されるため、
+ * 大量のクラスを生成する際の一時オブジェクトの生成を抑制できます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public interface AppendableResource {
+
+    /**
+     * {@code createResource()} と同一のリソースを引数として渡されたバッファへ追加します。
+     *
+     * @param output 出力先のバッファ
+     */
+    void appendResource(StringBuilder output);
+}
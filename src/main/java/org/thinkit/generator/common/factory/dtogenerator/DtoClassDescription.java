@@ -19,6 +19,7 @@ import org.thinkit.generator.common.catalog.Annotation;
 import org.thinkit.generator.common.factory.resource.ClassDescription;
 
 import lombok.EqualsAndHashCode;
+import lombok.NonNull;
 import lombok.ToString;
 
 /**
@@ -32,13 +33,34 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoClassDescription extends ClassDescription {
+final class DtoClassDescription extends ClassDescription implements AppendableResource, FormattedResource {
 
     /**
      * 初期バージョン
      */
     private static final String INITIAL_VERSION = "1.0";
 
+    /**
+     * 生成済みのリソース。生成済みのリソースを保持しない場合は {@code null}
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final String resource;
+
+    /**
+     * 生成済みの整形済みリソース。生成済みのリソースを保持しない場合は {@code null}
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final String formattedResource;
+
+    /**
+     * 生成済みの整形済みリソースのインデントレベル
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final int formattedIndentLevel;
+
     /**
      * コンストラクタ
      *
@@ -49,22 +71,92 @@ final class DtoClassDescription extends ClassDescription {
      */
     public DtoClassDescription(String description, String creator, String version) {
         super(description, creator, version);
+        this.resource = null;
+        this.formattedResource = null;
+        this.formattedIndentLevel = 0;
+    }
+
+    /**
+     * コンストラクタ
+     * <p>
+     * 引数として渡されたクラスの説明の生成済みリソースを保持し、リソースの生成時に再利用します。<br>
+     * 整形済みのリソースで再現できない記法を含む場合、整形済みのリソースは保持しません。
+     *
+     * @param classDescription     クラスの説明
+     * @param formattedIndentLevel 整形済みのリソースのインデントレベル
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    DtoClassDescription(@NonNull DtoClassDescription classDescription, int formattedIndentLevel) {
+        super(classDescription.getDescription(), classDescription.getCreator(), classDescription.getVersion());
+        this.resource = classDescription.createResource();
+        this.formattedResource = createSupportedFormattedResource(classDescription, formattedIndentLevel);
+        this.formattedIndentLevel = formattedIndentLevel;
     }
 
     @Override
     public String createResource() {
 
-        final String space = Indentation.space();
-
         final StringBuilder classDescription = new StringBuilder();
-        classDescription.append("/**");
-        classDescription.append(" * ").append(super.getDescription());
-        classDescription.append(" *");
-        classDescription.append(" * ").append(Annotation.author()).append(space).append(super.getCreator());
-        classDescription.append(" * ").append(Annotation.since()).append(space).append(INITIAL_VERSION);
-        classDescription.append(" * ").append(Annotation.version()).append(space).append(super.getVersion());
-        classDescription.append(" */");
+        this.appendResource(classDescription);
 
         return classDescription.toString();
     }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+
+        if (this.resource != null) {
+            output.append(this.resource);
+            return;
+        }
+
+        final String space = Indentation.space();
+
+        output.append("/**");
+        output.append(" * ").append(super.getDescription());
+        output.append(" *");
+        output.append(" * ").append(Annotation.author()).append(space).append(super.getCreator());
+        output.append(" * ").append(Annotation.since()).append(space).append(INITIAL_VERSION);
+        output.append(" * ").append(Annotation.version()).append(space).append(super.getVersion());
+        output.append(" */");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 未整形のリソースと同一のコメントを {@code google-java-format} と同じ規則で整形します。
+     * 生成済みのリソースを保持し、かつインデントレベルが一致する場合は生成済みのリソースを再利用します。
+     */
+    @Override
+    public void appendFormattedResource(StringBuilder output, int indentLevel) {
+
+        if (this.formattedResource != null && this.formattedIndentLevel == indentLevel) {
+            output.append(this.formattedResource);
+            return;
+        }
+
+        final StringBuilder comment = new StringBuilder(128);
+        this.appendResource(comment);
+
+        AospStyle.appendJavadoc(output, indentLevel, comment);
+    }
+
+    /**
+     * 引数として渡されたクラスの説明から整形済みのリソースを生成し返却します。
+     * <p>
+     * 整形済みのリソースで再現できない記法を含む場合は {@code null} を返却します。
+     * この場合は整形済みのリソースを要求された時点で改めて {@link UnsupportedOperationException} が送出されます。
+     *
+     * @param classDescription クラスの説明
+     * @param indentLevel      インデントレベル
+     * @return 整形済みのリソース、再現できない記法を含む場合は {@code null}
+     */
+    private static String createSupportedFormattedResource(DtoClassDescription classDescription, int indentLevel) {
+        try {
+            return classDescription.createFormattedResource(indentLevel);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -15,8 +15,10 @@
 package org.thinkit.generator.common.factory.dtogenerator;
 
 import org.thinkit.common.catalog.Brace;
+import org.thinkit.common.catalog.Delimiter;
 import org.thinkit.common.catalog.Identifier;
 import org.thinkit.common.catalog.Indentation;
+import org.thinkit.common.catalog.Operand;
 import org.thinkit.common.catalog.Parenthesis;
 import org.thinkit.generator.common.factory.resource.Constructor;
 import org.thinkit.generator.common.factory.resource.FunctionDescription;
@@ -35,7 +37,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoConstructor extends Constructor {
+final class DtoConstructor extends Constructor implements AppendableResource, FormattedResource {
 
     /**
      * コンストラクタ
@@ -51,16 +53,395 @@ final class DtoConstructor extends Constructor {
     @Override
     public String createResource() {
 
+        final StringBuilder constructor = new StringBuilder();
+        this.appendResource(constructor);
+
+        return constructor.toString();
+    }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+
         final String space = Indentation.space();
 
-        final StringBuilder constructor = new StringBuilder();
-        constructor.append(super.getFunctionDescription().createResource());
-        constructor.append(Identifier.PUBLIC.toIdentifier()).append(space).append(super.getFunctionName());
-        constructor.append(Parenthesis.start()).append(this.getParameter()).append(Parenthesis.end()).append(space)
+        ((AppendableResource) super.getFunctionDescription()).appendResource(output);
+        output.append(Identifier.PUBLIC.toIdentifier()).append(space).append(super.getFunctionName());
+        output.append(Parenthesis.start()).append(this.getParameter()).append(Parenthesis.end()).append(space)
                 .append(Brace.start());
-        constructor.append(this.getProcess());
-        constructor.append(Indentation.getIndentSpaces()).append(Brace.end());
+        output.append(this.getProcess());
+        output.append(Indentation.getIndentSpaces()).append(Brace.end());
+    }
 
-        return constructor.toString();
+    /**
+     * {@inheritDoc}
+     * <p>
+     * コンストラクタの説明と宣言を改行で区切って出力します。
+     */
+    @Override
+    public void appendFormattedResource(StringBuilder output, int indentLevel) {
+        this.appendFormattedDescription(output, indentLevel);
+        output.append(AospStyle.LINE_SEPARATOR);
+        this.appendFormattedDeclaration(output, indentLevel);
+    }
+
+    /**
+     * 引数として渡されたインデントレベルで整形済みのコンストラクタの説明を生成しバッファへ追加します。終了行の後に改行は追加されません。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     */
+    void appendFormattedDescription(StringBuilder output, int indentLevel) {
+        ((FormattedResource) super.getFunctionDescription()).appendFormattedResource(output, indentLevel);
+    }
+
+    /**
+     * 引数として渡されたインデントレベルで整形済みのコンストラクタの宣言と処理を生成しバッファへ追加します。
+     * <p>
+     * 引数定義が1行に収まらない場合は {@code google-java-format} と同様に引数定義全体を次の行へ折り返し、
+     * それでも収まらない場合は各引数を1行ずつ出力します。1行に収まらない引数はデータ型と引数名の間で折り返します。<br>
+     * 1行に収まらない代入文は代入演算子の後で折り返し、右辺も収まらない場合は右辺のメソッド呼び出しの前で折り返します。
+     * <p>
+     * 引数定義とコンストラクタ処理の文字列は分割せずに文字の位置を基に走査し、各引数と各文をバッファへ直接追加します。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     *
+     * @exception UnsupportedOperationException コンストラクタ名または代入先が1行に収まらない場合
+     */
+    void appendFormattedDeclaration(StringBuilder output, int indentLevel) {
+
+        final String space = Indentation.space();
+        final String lineSeparator = AospStyle.LINE_SEPARATOR;
+        final String parameter = this.getParameter();
+        final String process = this.getProcess();
+        final boolean hasProcess = hasStatement(process);
+
+        final int signatureLength = AospStyle.indentWidth(indentLevel) + Identifier.PUBLIC.toIdentifier().length()
+                + space.length() + super.getFunctionName().length() + Parenthesis.start().length();
+        final int parameterListLength = joinedParameterLength(parameter);
+        final int parameterEndLength = Parenthesis.end().length() + space.length() + Brace.start().length()
+                + (hasProcess ? 0 : Brace.end().length());
+        final int continuationIndentLength = AospStyle.indentWidth(indentLevel)
+                + AospStyle.CONTINUATION_INDENT.length();
+
+        if (signatureLength > AospStyle.MAX_LINE_LENGTH
+                || (parameterListLength == 0 && signatureLength + parameterEndLength > AospStyle.MAX_LINE_LENGTH)) {
+            throw new UnsupportedOperationException(String.format(
+                    "整形済みのリソースでは1行に収まらないコンストラクタ名を再現できません。コンストラクタ名 = (%s)",
+                    super.getFunctionName()));
+        }
+
+        AospStyle.appendIndent(output, indentLevel);
+        output.append(Identifier.PUBLIC.toIdentifier()).append(space).append(super.getFunctionName())
+                .append(Parenthesis.start());
+
+        if (signatureLength + parameterListLength + parameterEndLength <= AospStyle.MAX_LINE_LENGTH) {
+            appendParameters(output, parameter, false, indentLevel, parameterEndLength);
+        } else if (continuationIndentLength + parameterListLength + parameterEndLength <= AospStyle.MAX_LINE_LENGTH) {
+            output.append(lineSeparator);
+            AospStyle.appendContinuationIndent(output, indentLevel, 1);
+            appendParameters(output, parameter, false, indentLevel, parameterEndLength);
+        } else {
+            appendParameters(output, parameter, true, indentLevel, parameterEndLength);
+        }
+
+        output.append(Parenthesis.end()).append(space).append(Brace.start());
+
+        if (!hasProcess) {
+            output.append(Brace.end());
+            return;
+        }
+
+        appendStatements(output, process, indentLevel + 1);
+        output.append(lineSeparator);
+        AospStyle.appendIndent(output, indentLevel);
+        output.append(Brace.end());
+    }
+
+    /**
+     * 引数定義の文字列を各引数へ分割した場合に、各引数を区切り文字と空白で連結した文字列の長さを返却します。
+     *
+     * @param parameter 引数定義
+     * @return 連結した引数定義の長さ
+     */
+    private static int joinedParameterLength(String parameter) {
+
+        final int separatorLength = Delimiter.comma().length() + Indentation.space().length();
+        final int length = parameter.length();
+        int joinedLength = 0;
+        int count = 0;
+        int start = 0;
+
+        while (start <= length) {
+            final int end = nextParameterEnd(parameter, start);
+            final int trimmedStart = trimStart(parameter, start, end);
+            final int trimmedEnd = trimEnd(parameter, trimmedStart, end);
+
+            if (trimmedStart < trimmedEnd) {
+                joinedLength += (count++ == 0 ? 0 : separatorLength) + trimmedEnd - trimmedStart;
+            }
+
+            start = end + 1;
+        }
+
+        return joinedLength;
+    }
+
+    /**
+     * 引数定義の文字列を各引数へ分割しバッファへ追加します。総称型の型引数に含まれる区切り文字では分割しません。
+     * <p>
+     * {@code lineByLine} が {@code false} の場合は各引数を区切り文字と空白で連結して追加し、{@code true} の場合は各引数に
+     * 折り返し時のインデントを付与して1行ずつ追加します。1行ずつ追加する引数が後続の区切り文字または引数定義の終端を含めて
+     * 1行に収まらない場合は、データ型と引数名の間で折り返します。
+     *
+     * @param output             出力先のバッファ
+     * @param parameter          引数定義
+     * @param lineByLine         各引数を1行ずつ追加する場合は {@code true}
+     * @param indentLevel        インデントレベル
+     * @param parameterEndLength 最後の引数に続く引数定義の終端の長さ
+     */
+    private static void appendParameters(StringBuilder output, String parameter, boolean lineByLine,
+            int indentLevel, int parameterEndLength) {
+
+        final String comma = Delimiter.comma();
+        final int length = parameter.length();
+        boolean hasParameter = false;
+        int start = 0;
+
+        while (start <= length) {
+            final int end = nextParameterEnd(parameter, start);
+            final int trimmedStart = trimStart(parameter, start, end);
+            final int trimmedEnd = trimEnd(parameter, trimmedStart, end);
+
+            if (trimmedStart < trimmedEnd) {
+                if (hasParameter) {
+                    output.append(comma);
+                }
+
+                if (lineByLine) {
+                    output.append(AospStyle.LINE_SEPARATOR);
+                    AospStyle.appendContinuationIndent(output, indentLevel, 1);
+
+                    final int suffixLength = trimStart(parameter, end + 1, length) < length ? comma.length()
+                            : parameterEndLength;
+                    appendParameter(output, parameter, trimmedStart, trimmedEnd, indentLevel, suffixLength);
+                } else {
+                    if (hasParameter) {
+                        output.append(Indentation.space());
+                    }
+
+                    output.append(parameter, trimmedStart, trimmedEnd);
+                }
+
+                hasParameter = true;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    /**
+     * 折り返し時のインデントが付与された行へ1件の引数を追加します。引数が後続の文字列を含めて1行に収まらない場合は、
+     * データ型と引数名の間で折り返し、引数名にさらに折り返し時のインデントを付与します。
+     *
+     * @param output       出力先のバッファ
+     * @param parameter    引数定義
+     * @param start        引数の開始位置
+     * @param end          引数の終了位置
+     * @param indentLevel  インデントレベル
+     * @param suffixLength 引数に続く文字列の長さ
+     *
+     * @exception UnsupportedOperationException 折り返した引数のデータ型が1行に収まらない場合
+     */
+    private static void appendParameter(StringBuilder output, String parameter, int start, int end, int indentLevel,
+            int suffixLength) {
+
+        final int lineLength = AospStyle.indentWidth(indentLevel) + AospStyle.CONTINUATION_INDENT.length() + end - start
+                + suffixLength;
+        final int nameStart = parameter.lastIndexOf(' ', end - 1) + 1;
+
+        if (lineLength <= AospStyle.MAX_LINE_LENGTH || nameStart <= start) {
+            output.append(parameter, start, end);
+            return;
+        }
+
+        final int typeEnd = trimEnd(parameter, start, nameStart);
+
+        if (lineLength - (end - typeEnd) - suffixLength > AospStyle.MAX_LINE_LENGTH) {
+            throw new UnsupportedOperationException(String.format(
+                    "整形済みのリソースでは1行に収まらない引数のデータ型を再現できません。引数 = (%s)", parameter.substring(start, end)));
+        }
+
+        output.append(parameter, start, typeEnd).append(AospStyle.LINE_SEPARATOR);
+        AospStyle.appendContinuationIndent(output, indentLevel, 2);
+        output.append(parameter, nameStart, end);
+    }
+
+    /**
+     * コンストラクタ処理の文字列を各文へ分割し、インデントを付与して1行ずつバッファへ追加します。
+     * <p>
+     * 1行に収まらない代入文は代入演算子の後で折り返し、右辺に折り返し時のインデントを付与します。
+     * 右辺が {@code Class.getField()} の形式で、右辺も1行に収まらない場合はメソッド呼び出しの前でさらに折り返します。
+     *
+     * @param output      出力先のバッファ
+     * @param process     コンストラクタ処理
+     * @param indentLevel インデントレベル
+     */
+    private static void appendStatements(StringBuilder output, String process, int indentLevel) {
+
+        final String semicolon = Delimiter.semicolon();
+        final int length = process.length();
+        int start = 0;
+
+        while (start <= length) {
+            int end = process.indexOf(semicolon, start);
+            end = end < 0 ? length : end;
+
+            final int trimmedStart = trimStart(process, start, end);
+            final int trimmedEnd = trimEnd(process, trimmedStart, end);
+
+            if (trimmedStart < trimmedEnd) {
+                output.append(AospStyle.LINE_SEPARATOR);
+                AospStyle.appendIndent(output, indentLevel);
+                appendStatement(output, process, trimmedStart, trimmedEnd, indentLevel);
+                output.append(semicolon);
+            }
+
+            start = end + semicolon.length();
+        }
+    }
+
+    /**
+     * インデントが付与された行へ終端のセミコロンを除く1件の文を追加し、1行に収まらない代入文を折り返します。
+     *
+     * @param output      出力先のバッファ
+     * @param process     コンストラクタ処理
+     * @param start       文の開始位置
+     * @param end         文の終了位置
+     * @param indentLevel インデントレベル
+     *
+     * @exception UnsupportedOperationException 代入先が1行に収まらない場合
+     */
+    private static void appendStatement(StringBuilder output, String process, int start, int end, int indentLevel) {
+
+        final int semicolonLength = Delimiter.semicolon().length();
+        final int indentWidth = AospStyle.indentWidth(indentLevel);
+        final String assignment = Indentation.space() + Operand.assignment() + Indentation.space();
+        final int assignmentIndex = process.indexOf(assignment, start);
+
+        if (indentWidth + end - start + semicolonLength <= AospStyle.MAX_LINE_LENGTH || assignmentIndex < 0
+                || assignmentIndex >= end) {
+            output.append(process, start, end);
+            return;
+        }
+
+        final int valueStart = assignmentIndex + assignment.length();
+        final int valueIndentWidth = indentWidth + AospStyle.CONTINUATION_INDENT.length();
+
+        final int targetEnd = assignmentIndex + assignment.length() - Indentation.space().length();
+
+        if (indentWidth + targetEnd - start > AospStyle.MAX_LINE_LENGTH) {
+            throw new UnsupportedOperationException(String.format(
+                    "整形済みのリソースでは1行に収まらない代入先を再現できません。文 = (%s)", process.substring(start, end)));
+        }
+
+        output.append(process, start, targetEnd);
+        output.append(AospStyle.LINE_SEPARATOR);
+        AospStyle.appendContinuationIndent(output, indentLevel, 1);
+
+        final int invocationStart = process.indexOf(Delimiter.period(), valueStart);
+        final int argumentStart = process.indexOf(Parenthesis.start(), valueStart);
+
+        if (valueIndentWidth + end - valueStart + semicolonLength <= AospStyle.MAX_LINE_LENGTH || invocationStart < 0
+                || argumentStart < 0 || argumentStart < invocationStart || argumentStart >= end) {
+            output.append(process, valueStart, end);
+            return;
+        }
+
+        output.append(process, valueStart, invocationStart).append(AospStyle.LINE_SEPARATOR);
+        AospStyle.appendContinuationIndent(output, indentLevel, 2);
+        output.append(process, invocationStart, end);
+    }
+
+    /**
+     * コンストラクタ処理の文字列に空白以外の文が含まれるか判定します。
+     *
+     * @param process コンストラクタ処理
+     * @return 文が含まれる場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean hasStatement(String process) {
+
+        final char semicolon = Delimiter.semicolon().charAt(0);
+
+        for (int i = 0, length = process.length(); i < length; i++) {
+            final char character = process.charAt(i);
+
+            if (character != semicolon && !Character.isWhitespace(character)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 指定された位置から次の引数の終了位置を返却します。総称型の型引数に含まれる区切り文字は終了位置として扱いません。
+     *
+     * @param parameter 引数定義
+     * @param start     開始位置
+     * @return 次の引数の終了位置。区切り文字が存在しない場合は文字列の長さ
+     */
+    private static int nextParameterEnd(String parameter, int start) {
+
+        final char comma = Delimiter.comma().charAt(0);
+        int depth = 0;
+
+        for (int i = start, length = parameter.length(); i < length; i++) {
+            final char character = parameter.charAt(i);
+
+            if (character == '<') {
+                depth++;
+            } else if (character == '>') {
+                depth--;
+            } else if (character == comma && depth == 0) {
+                return i;
+            }
+        }
+
+        return parameter.length();
+    }
+
+    /**
+     * 指定された範囲の先頭の空白を読み飛ばした位置を返却します。
+     *
+     * @param sequence 文字列
+     * @param start    開始位置
+     * @param end      終了位置
+     * @return 空白以外の文字の位置。存在しない場合は終了位置
+     */
+    private static int trimStart(String sequence, int start, int end) {
+
+        while (start < end && sequence.charAt(start) <= ' ') {
+            start++;
+        }
+
+        return start;
+    }
+
+    /**
+     * 指定された範囲の末尾の空白を読み飛ばした位置を返却します。
+     *
+     * @param sequence 文字列
+     * @param start    開始位置
+     * @param end      終了位置
+     * @return 末尾の空白を除いた終了位置
+     */
+    private static int trimEnd(String sequence, int start, int end) {
+
+        while (end > start && sequence.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return end;
     }
 }
\ No newline at end of file
@@ -14,9 +14,9 @@
 
 package org.thinkit.generator.common.factory.dtogenerator;
 
+import org.thinkit.generator.common.factory.dtogenerator.strategy.AppendableConstructorProcessStrategy;
 import org.thinkit.generator.common.factory.dtogenerator.strategy.CopyingConstructorProcess;
 import org.thinkit.generator.common.factory.dtogenerator.strategy.DefaultConstructorProcess;
-import org.thinkit.generator.common.factory.dtogenerator.strategy.DtoConstructorProcessContext;
 import org.thinkit.generator.common.factory.dtogenerator.strategy.RequiredConstructorProcess;
 import org.thinkit.generator.common.factory.resource.ConstructorProcess;
 
@@ -25,6 +25,9 @@ import lombok.ToString;
 
 /**
  * DTOクラスのコンストラクタ処理を生成する具象クラスです。
+ * <p>
+ * コンストラクタ処理の各ストラテジーは状態を持たないため、全てのインスタンスで同一のストラテジーを共有します。
+ * 処理定義の生成時にコンテキストやストラテジーを新たに生成することはありません。
  *
  * @author Kato Shinya
  * @since 1.0
@@ -34,7 +37,22 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoConstructorProcess extends ConstructorProcess {
+final class DtoConstructorProcess extends ConstructorProcess implements AppendableResource {
+
+    /**
+     * 必須引数有りのコンストラクタ処理ストラテジー
+     */
+    private static final RequiredConstructorProcess REQUIRED_CONSTRUCTOR_PROCESS = new RequiredConstructorProcess();
+
+    /**
+     * コピーコンストラクタ処理ストラテジー
+     */
+    private static final CopyingConstructorProcess COPYING_CONSTRUCTOR_PROCESS = new CopyingConstructorProcess();
+
+    /**
+     * デフォルトコンストラクタ処理ストラテジー
+     */
+    private static final DefaultConstructorProcess DEFAULT_CONSTRUCTOR_PROCESS = new DefaultConstructorProcess();
 
     /**
      * コンストラクタ
@@ -59,11 +77,23 @@ final class DtoConstructorProcess extends ConstructorProcess {
 
     @Override
     public String createResource() {
-        return this.getConstructorProcessContext().toConstructorProcess(super.getVariableName(), super.getGetterName());
+
+        final String variableName = super.getVariableName();
+        final String getterName = super.getGetterName();
+        final StringBuilder process = new StringBuilder(variableName.length() * 2 + getterName.length() * 2 + 24);
+        this.getConstructorProcessStrategy().appendConstructorProcess(process, variableName, getterName);
+
+        return process.toString();
+    }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+        this.getConstructorProcessStrategy().appendConstructorProcess(output, super.getVariableName(),
+                super.getGetterName());
     }
 
     /**
-     * 設定された {@link ConstructorState} の値を基にコンストラクタの処理定義を生成する際のコンテキストを取得し返却します。
+     * 設定された {@link ConstructorState} の値を基にコンストラクタの処理定義を生成する際の共有ストラテジーを返却します。
      * <p>
      * 以下のストラテジーを使用します。
      * <p>
@@ -71,14 +101,14 @@ final class DtoConstructorProcess extends ConstructorProcess {
      * {@link RequiredConstructorProcess} <br>
      * {@link CopyingConstructorProcess} <br>
      *
-     * @return コンストラクタ定義を生成する際に使用するコンテキスト
+     * @return コンストラクタ定義を生成する際に使用するストラテジー
      */
-    private DtoConstructorProcessContext getConstructorProcessContext() {
+    private AppendableConstructorProcessStrategy getConstructorProcessStrategy() {
 
         return switch (super.getConstructorType()) {
-            case REQUIRED -> new DtoConstructorProcessContext(new RequiredConstructorProcess());
-            case COPYING -> new DtoConstructorProcessContext(new CopyingConstructorProcess());
-            default -> new DtoConstructorProcessContext(new DefaultConstructorProcess());
+            case REQUIRED -> REQUIRED_CONSTRUCTOR_PROCESS;
+            case COPYING -> COPYING_CONSTRUCTOR_PROCESS;
+            default -> DEFAULT_CONSTRUCTOR_PROCESS;
         };
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import org.thinkit.common.catalog.Indentation;
 import org.thinkit.generator.common.factory.resource.Copyright;
 
 import lombok.EqualsAndHashCode;
+import lombok.NonNull;
 import lombok.ToString;
 
 /**
@@ -32,7 +33,14 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoCopyright extends Copyright {
+final class DtoCopyright extends Copyright implements AppendableResource, FormattedResource {
+
+        /**
+         * ヘッダーテンプレート。テンプレートを使用しない場合は {@code null}
+         */
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private final DtoHeaderTemplate headerTemplate;
 
         /**
          * コンストラクタ
@@ -47,30 +55,166 @@ final class DtoCopyright extends Copyright {
          */
         public DtoCopyright(String projectName, String fileName, String encoding, String creator, String creationDate) {
                 super(projectName, fileName, encoding, creator, creationDate);
+                this.headerTemplate = null;
+        }
+
+        /**
+         * コンストラクタ
+         * <p>
+         * ファイル名以外の定義情報はヘッダーテンプレートから取得し、リソースの生成時はテンプレートのリテラル部分を再利用します。
+         *
+         * @param headerTemplate ヘッダーテンプレート
+         * @param fileName       ファイル名
+         *
+         * @exception NullPointerException 引数として {@code null} が渡された場合
+         */
+        DtoCopyright(@NonNull DtoHeaderTemplate headerTemplate, @NonNull String fileName) {
+                super(headerTemplate.getProjectName(), fileName, headerTemplate.getEncoding(),
+                                headerTemplate.getCreator(), headerTemplate.getCreationDate());
+                this.headerTemplate = headerTemplate;
         }
 
         @Override
         public String createResource() {
+                final StringBuilder copyright = new StringBuilder();
+                this.appendResource(copyright);
+                return copyright.toString();
+        }
+
+        @Override
+        public void appendResource(StringBuilder output) {
+
+                if (this.headerTemplate != null) {
+                        output.append(this.headerTemplate.getCopyrightHead());
+                        output.append(super.getFileName());
+                        output.append(this.headerTemplate.getCopyrightTail());
+                        return;
+                }
+
+                this.appendResourceHead(output);
+                output.append(super.getFileName());
+                this.appendResourceTail(output);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * 未整形のリソースと同一のコメントを改行タグの位置で分割して整形します。改行タグの後は常に改行されるため、各部分は独立して整形されます。
+         * 可変部分を含む各部分は1つの作業用バッファを再利用して組み立てます。
+         * ヘッダーテンプレートが整形済みのリテラルを保持し、かつテンプレートと同一のインデントレベルの場合はファイル名の行のみを生成します。
+         */
+        @Override
+        public void appendFormattedResource(StringBuilder output, int indentLevel) {
+
+                final StringBuilder line = new StringBuilder(128);
+
+                if (this.headerTemplate != null && this.headerTemplate.getIndentLevel() == indentLevel
+                                && this.headerTemplate.getFormattedCopyrightHead() != null) {
+                        output.append(this.headerTemplate.getFormattedCopyrightHead());
+                        this.appendFormattedFileName(output, indentLevel, line);
+                        output.append(this.headerTemplate.getFormattedCopyrightTail());
+                        return;
+                }
+
+                this.appendFormattedResourceHead(output, indentLevel, line);
+                this.appendFormattedFileName(output, indentLevel, line);
+                this.appendFormattedResourceTail(output, indentLevel, line);
+        }
+
+        /**
+         * 未整形のリソースのうちファイル名より前の部分をバッファへ追加します。
+         *
+         * @param output 出力先のバッファ
+         */
+        void appendResourceHead(StringBuilder output) {
+                output.append("/**");
+                this.appendProjectNameLine(output);
+                output.append(" * ").append("File Name : ");
+        }
+
+        /**
+         * 未整形のリソースのうちファイル名より後の部分をバッファへ追加します。
+         *
+         * @param output 出力先のバッファ
+         */
+        void appendResourceTail(StringBuilder output) {
+                output.append(HtmlTag.br());
+                this.appendTrailingLines(output);
+                output.append(" */");
+        }
+
+        /**
+         * 整形済みのリソースのうちファイル名の行より前の部分をバッファへ追加します。
+         *
+         * @param output      出力先のバッファ
+         * @param indentLevel インデントレベル
+         * @param line        作業用バッファ
+         *
+         * @exception UnsupportedOperationException 整形済みのリソースでは再現できない記法が含まれる場合
+         */
+        void appendFormattedResourceHead(StringBuilder output, int indentLevel, StringBuilder line) {
+                line.setLength(0);
+                this.appendProjectNameLine(line);
+                AospStyle.appendJavadocStart(output, indentLevel, line);
+        }
+
+        /**
+         * 整形済みのリソースのうちファイル名の行より後の部分をバッファへ追加します。
+         *
+         * @param output      出力先のバッファ
+         * @param indentLevel インデントレベル
+         * @param line        作業用バッファ
+         *
+         * @exception UnsupportedOperationException 整形済みのリソースでは再現できない記法が含まれる場合
+         */
+        void appendFormattedResourceTail(StringBuilder output, int indentLevel, StringBuilder line) {
+                line.setLength(0);
+                this.appendTrailingLines(line);
+                AospStyle.appendJavadocContinuation(output, indentLevel, line);
+                AospStyle.appendJavadocEnd(output, indentLevel);
+        }
+
+        /**
+         * 整形済みのリソースのうちファイル名の行をバッファへ追加します。
+         *
+         * @param output      出力先のバッファ
+         * @param indentLevel インデントレベル
+         * @param line        作業用バッファ
+         */
+        private void appendFormattedFileName(StringBuilder output, int indentLevel, StringBuilder line) {
+                line.setLength(0);
+                line.append(" * ").append("File Name : ").append(super.getFileName()).append(HtmlTag.br());
+                AospStyle.appendJavadocContinuation(output, indentLevel, line);
+        }
+
+        /**
+         * 未整形のコメントのうちプロジェクト名の行をバッファへ追加します。
+         *
+         * @param output 出力先のバッファ
+         */
+        private void appendProjectNameLine(StringBuilder output) {
+                output.append(" * ").append("Project Name : ").append(super.getProjectName()).append(HtmlTag.br());
+        }
+
+        /**
+         * 未整形のコメントのうちファイル名の行に続く各行を、コメントの終了を除きバッファへ追加します。
+         *
+         * @param output 出力先のバッファ
+         */
+        private void appendTrailingLines(StringBuilder output) {
                 final String htmlTagBreak = HtmlTag.br();
                 final String htmlTagParagraph = HtmlTag.p();
 
-                final StringBuilder copyright = new StringBuilder();
-                copyright.append("/**");
-                copyright.append(" * ").append("Project Name : ").append(super.getProjectName()).append(htmlTagBreak);
-                copyright.append(" * ").append("File Name : ").append(super.getFileName()).append(htmlTagBreak);
-                copyright.append(" * ").append("Encoding : ").append(super.getEncoding()).append(htmlTagBreak);
-                copyright.append(" * ").append("Creation Date : ").append(super.getCreationDate()).append(htmlTagBreak);
-                copyright.append(" * ").append(htmlTagParagraph);
-                copyright.append(" * ").append("Copyright © ").append(super.getCreationYear())
+                output.append(" * ").append("Encoding : ").append(super.getEncoding()).append(htmlTagBreak);
+                output.append(" * ").append("Creation Date : ").append(super.getCreationDate()).append(htmlTagBreak);
+                output.append(" * ").append(htmlTagParagraph);
+                output.append(" * ").append("Copyright © ").append(super.getCreationYear())
                                 .append(Indentation.space()).append(super.getCreator())
                                 .append(". All rights reserved.");
-                copyright.append(" * ").append(htmlTagParagraph);
+                output.append(" * ").append(htmlTagParagraph);
 
-                copyright.append(" * ").append("This source code or any portion thereof must not be")
+                output.append(" * ").append("This source code or any portion thereof must not be")
                                 .append(htmlTagBreak);
-                copyright.append(" * ").append("reproduced or used in any manner whatsoever.");
-                copyright.append(" */");
-
-                return copyright.toString();
+                output.append(" * ").append("reproduced or used in any manner whatsoever.");
         }
 }
\ No newline at end of file
@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoDescription extends Description {
+final class DtoDescription extends Description implements AppendableResource, FormattedResource {
 
     /**
      * コンストラクタ
@@ -45,10 +45,29 @@ final class DtoDescription extends Description {
     public String createResource() {
 
         final StringBuilder description = new StringBuilder();
-        description.append("/**");
-        description.append(" * ").append(super.getDescription());
-        description.append(" */");
+        this.appendResource(description);
 
         return description.toString();
     }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+        output.append("/**");
+        output.append(" * ").append(super.getDescription());
+        output.append(" */");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 未整形のリソースと同一のコメントを {@code google-java-format} と同じ規則で整形します。
+     */
+    @Override
+    public void appendFormattedResource(StringBuilder output, int indentLevel) {
+
+        final StringBuilder comment = new StringBuilder(64);
+        this.appendResource(comment);
+
+        AospStyle.appendJavadoc(output, indentLevel, comment);
+    }
 }
\ No newline at end of file
@@ -32,7 +32,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoDescriptionTag extends DescriptionTag {
+final class DtoDescriptionTag extends DescriptionTag implements AppendableResource {
 
     /**
      * コンストラクタ
@@ -47,13 +47,15 @@ final class DtoDescriptionTag extends DescriptionTag {
 
     @Override
     public String createResource() {
-        final String space = Indentation.space();
-        final String annotation = Annotation.param();
-
         final StringBuilder paramAnnotation = new StringBuilder();
-        paramAnnotation.append(annotation).append(space).append(super.getVariableName()).append(space)
-                .append(super.getDescription());
-
+        this.appendResource(paramAnnotation);
         return paramAnnotation.toString();
     }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+        final String space = Indentation.space();
+        output.append(Annotation.param()).append(space).append(super.getVariableName()).append(space)
+                .append(super.getDescription());
+    }
 }
\ No newline at end of file
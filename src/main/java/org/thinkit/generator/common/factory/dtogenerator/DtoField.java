@@ -34,7 +34,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class DtoField extends Field {
+public final class DtoField extends Field implements AppendableResource, FormattedResource {
 
     /**
      * 引数として渡された情報を基に {@link DtoField} の新しいインスタンスを生成します。
@@ -52,9 +52,22 @@ public final class DtoField extends Field {
     public String createResource() {
 
         final StringBuilder field = new StringBuilder();
-        field.append(super.getDescription().createResource()).append(Indentation.returnCode());
-        field.append(super.getFieldDefinition().createResource());
+        this.appendResource(field);
 
         return field.toString();
     }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+        ((AppendableResource) super.getDescription()).appendResource(output);
+        output.append(Indentation.returnCode());
+        ((AppendableResource) super.getFieldDefinition()).appendResource(output);
+    }
+
+    @Override
+    public void appendFormattedResource(StringBuilder output, int indentLevel) {
+        ((FormattedResource) super.getDescription()).appendFormattedResource(output, indentLevel);
+        output.append(AospStyle.LINE_SEPARATOR);
+        ((FormattedResource) super.getFieldDefinition()).appendFormattedResource(output, indentLevel);
+    }
 }
\ No newline at end of file
@@ -36,7 +36,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoFieldDefinition extends FieldDefinition {
+final class DtoFieldDefinition extends FieldDefinition implements AppendableResource, FormattedResource {
 
     /**
      * コンストラクタ
@@ -53,18 +53,108 @@ final class DtoFieldDefinition extends FieldDefinition {
     @Override
     public String createResource() {
         final StringBuilder field = new StringBuilder();
+        this.appendResource(field);
+        return field.toString();
+    }
+
+    @Override
+    public void appendResource(StringBuilder output) {
         final String dataType = super.getDataType();
 
         if (PrimitiveDataType.isPrimitive(dataType)) {
-            field.append(Annotation.lombokNonNull()).append(Indentation.returnCode());
+            output.append(Annotation.lombokNonNull()).append(Indentation.returnCode());
         }
 
+        this.appendDeclaration(output, dataType);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * フィールド宣言が1行に収まらない場合は {@code google-java-format} と同様にアノテーションを独立した行へ出力し、
+     * 代入演算子の後で初期値を折り返します。代入演算子までが1行に収まらない場合はデータ型と変数名の間で折り返し、
+     * 変数名から終端のセミコロンまでが収まらない場合はさらに代入演算子の後で折り返します。
+     *
+     * @exception UnsupportedOperationException データ型が1行に収まらない場合
+     */
+    @Override
+    public void appendFormattedResource(StringBuilder output, int indentLevel) {
+
         final String space = Indentation.space();
+        final String lineSeparator = AospStyle.LINE_SEPARATOR;
+        final String dataType = super.getDataType();
+        final String variableName = super.getVariableName();
+        final String initialValue = super.getInitialValue();
 
-        field.append(Identifier.PRIVATE.toIdentifier()).append(space).append(dataType).append(space);
-        field.append(super.getVariableName()).append(space);
-        field.append(Operand.assignment()).append(space).append(super.getInitialValue()).append(Delimiter.semicolon());
+        final int indentWidth = AospStyle.indentWidth(indentLevel);
+        final int typeLength = Identifier.PRIVATE.toIdentifier().length() + space.length() + dataType.length();
+        final int nameLength = variableName.length() + space.length() + Operand.assignment().length();
+        final int initialValueLength = initialValue.length() + Delimiter.semicolon().length();
+        final int declarationLength = typeLength + space.length() + nameLength + space.length() + initialValueLength;
 
-        return field.toString();
+        AospStyle.appendIndent(output, indentLevel);
+
+        if (PrimitiveDataType.isPrimitive(dataType)) {
+            final String annotation = Annotation.lombokNonNull();
+            output.append(annotation);
+
+            if (indentWidth + annotation.length() + space.length() + declarationLength <= AospStyle.MAX_LINE_LENGTH) {
+                output.append(space);
+                this.appendDeclaration(output, dataType);
+                return;
+            }
+
+            output.append(lineSeparator);
+            AospStyle.appendIndent(output, indentLevel);
+        }
+
+        if (indentWidth + declarationLength <= AospStyle.MAX_LINE_LENGTH) {
+            this.appendDeclaration(output, dataType);
+            return;
+        }
+
+        if (indentWidth + typeLength > AospStyle.MAX_LINE_LENGTH) {
+            throw new UnsupportedOperationException(String.format(
+                    "整形済みのリソースでは1行に収まらないデータ型を再現できません。データ型 = (%s)", dataType));
+        }
+
+        output.append(Identifier.PRIVATE.toIdentifier()).append(space).append(dataType);
+        int continuationDepth = 1;
+
+        if (indentWidth + typeLength + space.length() + nameLength <= AospStyle.MAX_LINE_LENGTH) {
+            output.append(space);
+        } else {
+            output.append(lineSeparator);
+            AospStyle.appendContinuationIndent(output, indentLevel, continuationDepth);
+
+            final int nameIndentWidth = indentWidth + AospStyle.CONTINUATION_INDENT.length();
+
+            if (nameIndentWidth + nameLength + space.length() + initialValueLength <= AospStyle.MAX_LINE_LENGTH) {
+                output.append(variableName).append(space).append(Operand.assignment()).append(space)
+                        .append(initialValue).append(Delimiter.semicolon());
+                return;
+            }
+
+            continuationDepth++;
+        }
+
+        output.append(variableName).append(space).append(Operand.assignment()).append(lineSeparator);
+        AospStyle.appendContinuationIndent(output, indentLevel, continuationDepth);
+        output.append(initialValue).append(Delimiter.semicolon());
+    }
+
+    /**
+     * アクセス修飾子から終端のセミコロンまでのフィールド宣言を引数として渡されたバッファへ追加します。
+     *
+     * @param output   出力先のバッファ
+     * @param dataType データ型
+     */
+    private void appendDeclaration(StringBuilder output, String dataType) {
+        final String space = Indentation.space();
+
+        output.append(Identifier.PRIVATE.toIdentifier()).append(space).append(dataType).append(space);
+        output.append(super.getVariableName()).append(space);
+        output.append(Operand.assignment()).append(space).append(super.getInitialValue())
+                .append(Delimiter.semicolon());
     }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.factory.dtogenerator;
+
+import org.apache.commons.lang3.StringUtils;
+import org.thinkit.generator.common.factory.resource.ClassDescription;
+import org.thinkit.generator.common.factory.resource.Copyright;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTOクラスの著作権とクラスの説明で構成されるヘッダーを事前に生成したテンプレートクラスです。
+ * <p>
+ * 著作権とクラスの説明はファイル名を除き、同一のDTOメタとDTO作成者から生成される全てのクラスで同一です。<br>
+ * このクラスはインスタンスの生成時に、著作権をファイル名の前後のリテラル部分へ、クラスの説明を1つのリテラルへ事前に生成します。
+ * 各クラスのリソースを生成する際はファイル名の部分のみを生成し、その他の部分はリテラルを連結します。
+ * <p>
+ * 整形済みのリテラルは {@link #getIndentLevel()} のインデントレベルで生成されます。
+ * 異なるインデントレベルで整形する場合、または整形済みのリソースで再現できない記法を含むため整形済みのリテラルを生成できない場合は
+ * 通常どおり全体を生成します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoHeaderTemplate {
+
+    /**
+     * 整形済みのリテラルのインデントレベル
+     */
+    private static final int INDENT_LEVEL = 0;
+
+    /**
+     * プロジェクト名
+     */
+    @Getter
+    private final String projectName;
+
+    /**
+     * エンコード
+     */
+    @Getter
+    private final String encoding;
+
+    /**
+     * 作成者
+     */
+    @Getter
+    private final String creator;
+
+    /**
+     * 作成日付
+     */
+    @Getter
+    private final String creationDate;
+
+    /**
+     * 著作権のファイル名より前のリテラル
+     */
+    @Getter
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final String copyrightHead;
+
+    /**
+     * 著作権のファイル名より後のリテラル
+     */
+    @Getter
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final String copyrightTail;
+
+    /**
+     * 整形済みの著作権のファイル名の行より前のリテラル。整形済みのリソースで再現できない記法を含む場合は {@code null}
+     */
+    @Getter
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final String formattedCopyrightHead;
+
+    /**
+     * 整形済みの著作権のファイル名の行より後のリテラル。整形済みのリソースで再現できない記法を含む場合は {@code null}
+     */
+    @Getter
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final String formattedCopyrightTail;
+
+    /**
+     * 生成済みのリソースを保持するクラスの説明
+     */
+    private final ClassDescription classDescription;
+
+    /**
+     * コンストラクタ
+     *
+     * @param projectName  プロジェクト名
+     * @param encoding     エンコード
+     * @param creator      作成者
+     * @param creationDate 作成日付
+     * @param description  クラスの説明
+     * @param version      クラスのバージョン
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoHeaderTemplate(@NonNull String projectName, @NonNull String encoding, @NonNull String creator,
+            @NonNull String creationDate, @NonNull String description, @NonNull String version) {
+        this.projectName = projectName;
+        this.encoding = encoding;
+        this.creator = creator;
+        this.creationDate = creationDate;
+
+        final DtoCopyright copyright = new DtoCopyright(projectName, StringUtils.EMPTY, encoding, creator,
+                creationDate);
+        final StringBuilder segment = new StringBuilder(512);
+        final StringBuilder line = new StringBuilder(128);
+
+        copyright.appendResourceHead(segment);
+        this.copyrightHead = segment.toString();
+
+        segment.setLength(0);
+        copyright.appendResourceTail(segment);
+        this.copyrightTail = segment.toString();
+
+        String formattedCopyrightHead;
+        String formattedCopyrightTail;
+
+        try {
+            segment.setLength(0);
+            copyright.appendFormattedResourceHead(segment, INDENT_LEVEL, line);
+            formattedCopyrightHead = segment.toString();
+
+            segment.setLength(0);
+            copyright.appendFormattedResourceTail(segment, INDENT_LEVEL, line);
+            formattedCopyrightTail = segment.toString();
+        } catch (UnsupportedOperationException e) {
+            formattedCopyrightHead = null;
+            formattedCopyrightTail = null;
+        }
+
+        this.formattedCopyrightHead = formattedCopyrightHead;
+        this.formattedCopyrightTail = formattedCopyrightTail;
+
+        this.classDescription = new DtoClassDescription(new DtoClassDescription(description, creator, version),
+                INDENT_LEVEL);
+    }
+
+    /**
+     * 引数として渡された情報を基にヘッダーを事前に生成し、 {@link DtoHeaderTemplate} クラスの新しいインスタンスを返却します。
+     *
+     * @param projectName  プロジェクト名
+     * @param encoding     エンコード
+     * @param creator      作成者
+     * @param creationDate 作成日付
+     * @param description  クラスの説明
+     * @param version      クラスのバージョン
+     * @return {@link DtoHeaderTemplate} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoHeaderTemplate of(@NonNull String projectName, @NonNull String encoding,
+            @NonNull String creator, @NonNull String creationDate, @NonNull String description,
+            @NonNull String version) {
+        return new DtoHeaderTemplate(projectName, encoding, creator, creationDate, description, version);
+    }
+
+    /**
+     * 整形済みのリテラルのインデントレベルを返却します。
+     *
+     * @return 整形済みのリテラルのインデントレベル
+     */
+    public int getIndentLevel() {
+        return INDENT_LEVEL;
+    }
+
+    /**
+     * 引数として渡されたファイル名を基に、事前に生成したリテラルを再利用する著作権定義オブジェクトを生成し返却します。
+     *
+     * @param fileName ファイル名
+     * @return 著作権定義オブジェクト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public Copyright createCopyright(@NonNull String fileName) {
+        return new DtoCopyright(this, fileName);
+    }
+
+    /**
+     * 事前に生成したリソースを再利用するクラスの説明定義オブジェクトを返却します。
+     * <p>
+     * クラスの説明定義オブジェクトは不変のため、このテンプレートから生成される全てのクラスで同一のインスタンスを共有します。
+     *
+     * @return クラスの説明定義オブジェクト
+     */
+    public ClassDescription createClassDescription() {
+        return this.classDescription;
+    }
+}
@@ -30,7 +30,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-class DtoMethodDescription extends FunctionDescription {
+class DtoMethodDescription extends FunctionDescription implements AppendableResource, FormattedResource {
 
     /**
      * コンストラクタ
@@ -46,19 +46,40 @@ class DtoMethodDescription extends FunctionDescription {
     public String createResource() {
 
         final StringBuilder methodDescription = new StringBuilder();
-        methodDescription.append("/**");
-        methodDescription.append(" * ").append(super.getDescription());
+        this.appendResource(methodDescription);
+
+        return methodDescription.toString();
+    }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+
+        output.append("/**");
+        output.append(" * ").append(super.getDescription());
 
         if (super.hasAnnotation()) {
-            methodDescription.append(" *");
+            output.append(" *");
 
             super.getDescriptionTags().forEach(functionParamAnnotation -> {
-                methodDescription.append(" * ").append(functionParamAnnotation.createResource());
+                output.append(" * ");
+                ((AppendableResource) functionParamAnnotation).appendResource(output);
             });
         }
 
-        methodDescription.append(" */");
+        output.append(" */");
+    }
 
-        return methodDescription.toString();
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 未整形のリソースと同一のコメントを {@code google-java-format} と同じ規則で整形します。
+     */
+    @Override
+    public void appendFormattedResource(StringBuilder output, int indentLevel) {
+
+        final StringBuilder comment = new StringBuilder(256);
+        this.appendResource(comment);
+
+        AospStyle.appendJavadoc(output, indentLevel, comment);
     }
 }
\ No newline at end of file
@@ -31,7 +31,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoParameter extends Parameter {
+final class DtoParameter extends Parameter implements AppendableResource {
 
     /**
      * コンストラクタ
@@ -47,7 +47,12 @@ final class DtoParameter extends Parameter {
     @Override
     public String createResource() {
         final StringBuilder parameter = new StringBuilder();
-        parameter.append(super.getDataType()).append(Indentation.space()).append(super.getVariableName());
+        this.appendResource(parameter);
         return parameter.toString();
     }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+        output.append(super.getDataType()).append(Indentation.space()).append(super.getVariableName());
+    }
 }
\ No newline at end of file
@@ -19,7 +19,9 @@ import org.thinkit.common.catalog.Identifier;
 import org.thinkit.common.catalog.Indentation;
 import org.thinkit.generator.common.catalog.Annotation;
 import org.thinkit.generator.common.factory.resource.ClassDescription;
+import org.thinkit.generator.common.factory.resource.Constructor;
 import org.thinkit.generator.common.factory.resource.Copyright;
+import org.thinkit.generator.common.factory.resource.Field;
 import org.thinkit.generator.common.factory.resource.Package;
 import org.thinkit.generator.common.factory.resource.Resource;
 
@@ -37,12 +39,22 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class DtoResource extends Resource {
+final class DtoResource extends Resource implements AppendableResource, FormattedResource {
 
     /**
-     * リソース
+     * リソースの初期容量
      */
-    private final StringBuilder resource = new StringBuilder();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * フィールド1件あたりのリソースの見積容量。コンストラクタの引数と処理に占める分を含みます。
+     */
+    private static final int FIELD_CAPACITY = 384;
+
+    /**
+     * コンストラクタ1件あたりのリソースの見積容量
+     */
+    private static final int CONSTRUCTOR_CAPACITY = 256;
 
     /**
      * コンストラクタ
@@ -59,87 +71,286 @@ final class DtoResource extends Resource {
         super(copyright, packageName, classDescription, resourceName);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 全てのリソースはフィールド数とコンストラクタ数から見積もった容量で確保した1つのバッファへ追加されます。
+     */
     @Override
     public String createResource() {
 
-        this.createResource(super.getCopyright().createResource());
-        this.createClassNameResource();
-        this.createFieldResource();
-        this.createConstructorResource();
-        this.createResource(Brace.end());
+        final StringBuilder resource = new StringBuilder(this.estimateCapacity());
+        this.appendResource(resource);
+
+        return resource.toString();
+    }
+
+    @Override
+    public void appendResource(StringBuilder output) {
+
+        ((AppendableResource) super.getCopyright()).appendResource(output);
+        this.appendClassNameResource(output);
+        this.appendFieldResource(output);
+        this.appendConstructorResource(output);
+        output.append(Brace.end());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 全てのリソースはフィールド数とコンストラクタ数から見積もった容量で確保した1つのバッファへ追加されます。
+     */
+    @Override
+    public String createFormattedResource(int indentLevel) {
 
-        return this.getResource();
+        final StringBuilder resource = new StringBuilder(this.estimateCapacity());
+        this.appendFormattedResource(resource, indentLevel);
+
+        return resource.toString();
     }
 
     /**
-     * {@link Resource} に設定された定義情報を基にクラス名リソースを生成します。<br>
+     * {@inheritDoc}
+     * <p>
+     * 生成されるリソースは未整形のリソースを {@code google-java-format} で整形した結果と同一のため、フォーマッタによる整形処理は不要です。
+     * 空行はフォーマッタと同様に、パッケージ宣言とインポート宣言の間、各フィールドの後、及び直前のコンストラクタに続く各コンストラクタの説明と宣言の間へ挿入します。
+     * <p>
+     * フィールドを含む場合、未整形のリソースはフィールドの区切りに {@link Indentation#returnCode()} を含み、
+     * フォーマッタはその改行コードを出力全体へ適用するため、整形済みのリソースの改行コードも同様に置換します。
+     *
+     * @exception UnsupportedOperationException 整形済みのリソースでは再現できない記法が含まれる場合
+     */
+    @Override
+    public void appendFormattedResource(StringBuilder output, int indentLevel) {
+
+        final String space = Indentation.space();
+        final String lineSeparator = AospStyle.LINE_SEPARATOR;
+        final int memberIndentLevel = indentLevel + 1;
+        final int start = output.length();
+
+        ((FormattedResource) super.getCopyright()).appendFormattedResource(output, indentLevel);
+        output.append(lineSeparator);
+        output.append("package").append(space).append(super.getPackageName()).append(";").append(lineSeparator);
+        output.append(lineSeparator);
+        output.append("import java.util.*;").append(lineSeparator);
+        output.append("import lombok.*;").append(lineSeparator);
+        ((FormattedResource) super.getClassDescription()).appendFormattedResource(output, indentLevel);
+        output.append(lineSeparator);
+        this.appendFormattedClassDeclaration(output);
+
+        if (super.getFields().isEmpty() && super.getConstructors().isEmpty()) {
+            output.append(Brace.end()).append(lineSeparator);
+            return;
+        }
+
+        output.append(lineSeparator);
+        boolean firstMember = true;
+
+        for (Field field : super.getFields()) {
+            if (!firstMember) {
+                output.append(lineSeparator);
+            }
+
+            ((FormattedResource) field).appendFormattedResource(output, memberIndentLevel);
+            output.append(lineSeparator);
+            firstMember = false;
+        }
+
+        final boolean hasFields = !firstMember;
+        boolean firstConstructor = true;
+
+        for (Constructor constructor : super.getConstructors()) {
+            final DtoConstructor dtoConstructor = (DtoConstructor) constructor;
+
+            if (firstConstructor && hasFields) {
+                output.append(lineSeparator);
+            }
+
+            dtoConstructor.appendFormattedDescription(output, memberIndentLevel);
+            output.append(lineSeparator);
+
+            if (!firstConstructor) {
+                output.append(lineSeparator);
+            }
+
+            dtoConstructor.appendFormattedDeclaration(output, memberIndentLevel);
+            output.append(lineSeparator);
+            firstConstructor = false;
+        }
+
+        output.append(Brace.end()).append(lineSeparator);
+
+        if (hasFields) {
+            replaceLineSeparator(output, start, Indentation.returnCode());
+        }
+    }
+
+    /**
+     * {@link Resource} に設定された定義情報を基にクラス名リソースを生成しバッファへ追加します。<br>
      * このメソッドではパッケージ名からクラス定義の開始ブレースまでを生成します。<br>
+     *
+     * @param output 出力先のバッファ
+     */
+    private void appendClassNameResource(StringBuilder output) {
+
+        final String space = Indentation.space();
+
+        output.append("package").append(space).append(super.getPackageName()).append(";");
+        output.append("import java.util.*;");
+        output.append("import lombok.*;");
+        ((AppendableResource) super.getClassDescription()).appendResource(output);
+        this.appendClassDeclaration(output);
+    }
+
+    /**
+     * {@link Resource} に設定された定義情報を基にクラスのアノテーションからクラス定義の開始ブレースまでを生成しバッファへ追加します。
+     *
+     * @param output 出力先のバッファ
      */
-    private void createClassNameResource() {
+    private void appendClassDeclaration(StringBuilder output) {
 
         final String space = Indentation.space();
 
-        final StringBuilder resource = new StringBuilder();
-        resource.append("package").append(space).append(super.getPackageName()).append(";");
-        resource.append("import java.util.*;");
-        resource.append("import lombok.*;");
-        resource.append(super.getClassDescription().createResource());
-        resource.append(Annotation.lombokGetter());
-        resource.append(Annotation.lombokToString());
-        resource.append(Annotation.lombokEqualsAndHashCode());
-        resource.append(Identifier.PUBLIC.toIdentifier()).append(space).append("final").append(space).append("class")
+        output.append(Annotation.lombokGetter());
+        output.append(Annotation.lombokToString());
+        output.append(Annotation.lombokEqualsAndHashCode());
+        output.append(Identifier.PUBLIC.toIdentifier()).append(space).append("final").append(space).append("class")
                 .append(space).append(super.getResourceName()).append(space);
-        resource.append(Brace.start());
+        output.append(Brace.start());
+    }
+
+    /**
+     * 未整形のリソースと同一のクラスのアノテーションからクラス定義の開始ブレースまでを整形しバッファへ追加します。
+     * <p>
+     * フォーマッタと同様に各アノテーションを1行ずつ出力し、クラス定義の各語を1つの空白で区切って出力します。
+     * 未整形のリソースは各アノテーションを区切らずに連結するため、アノテーションに続く識別子の文字はアノテーション名の一部として扱います。
+     *
+     * @param output 出力先のバッファ
+     *
+     * @exception UnsupportedOperationException 引数を持つアノテーションが含まれる場合
+     */
+    private void appendFormattedClassDeclaration(StringBuilder output) {
+
+        final String lineSeparator = AospStyle.LINE_SEPARATOR;
+        final StringBuilder declaration = new StringBuilder(128);
+        this.appendClassDeclaration(declaration);
+
+        final int length = declaration.length();
+        int index = skipWhitespace(declaration, 0);
+
+        while (index < length && declaration.charAt(index) == '@') {
+            int annotationEnd = index + 1;
 
-        this.createResource(resource.toString());
+            while (annotationEnd < length && (Character.isJavaIdentifierPart(declaration.charAt(annotationEnd))
+                    || declaration.charAt(annotationEnd) == '.')) {
+                annotationEnd++;
+            }
+
+            final int nextIndex = skipWhitespace(declaration, annotationEnd);
+
+            if (nextIndex < length && declaration.charAt(nextIndex) == '(') {
+                throw new UnsupportedOperationException(String.format(
+                        "整形済みのリソースでは引数を持つアノテーションを再現できません。クラス定義 = (%s)", declaration));
+            }
+
+            output.append(declaration, index, annotationEnd).append(lineSeparator);
+            index = nextIndex;
+        }
+
+        if (length - index > AospStyle.MAX_LINE_LENGTH) {
+            throw new UnsupportedOperationException(String.format(
+                    "整形済みのリソースでは1行に収まらないクラス定義を再現できません。クラス定義 = (%s)", declaration));
+        }
+
+        while (index < length) {
+            int wordEnd = index;
+
+            while (wordEnd < length && !Character.isWhitespace(declaration.charAt(wordEnd))) {
+                wordEnd++;
+            }
+
+            output.append(declaration, index, wordEnd);
+            index = skipWhitespace(declaration, wordEnd);
+
+            if (index < length) {
+                output.append(' ');
+            }
+        }
     }
 
     /**
-     * {@link Resource} に設定された定義情報を基にフィールドリソースを生成します。<br>
+     * {@link Resource} に設定された定義情報を基にフィールドリソースを生成しバッファへ追加します。<br>
      * このメソッドではフィールド定義までを生成します。<br>
+     *
+     * @param output 出力先のバッファ
      */
-    private void createFieldResource() {
+    private void appendFieldResource(StringBuilder output) {
 
         final String returnCode = Indentation.returnCode();
 
         super.getFields().forEach(field -> {
-            this.createResource(field.createResource());
-            this.createResource(returnCode);
-            this.createResource(returnCode);
+            ((AppendableResource) field).appendResource(output);
+            output.append(returnCode);
+            output.append(returnCode);
         });
     }
 
     /**
-     * {@link Resource} に設定された定義情報を基にコンストラクタリソースを生成します。<br>
+     * {@link Resource} に設定された定義情報を基にコンストラクタリソースを生成しバッファへ追加します。<br>
      * このメソッドではコンストラクタ定義までを生成します。<br>
+     *
+     * @param output 出力先のバッファ
      */
-    private void createConstructorResource() {
+    private void appendConstructorResource(StringBuilder output) {
+        super.getConstructors().forEach(constructor -> ((AppendableResource) constructor).appendResource(output));
+    }
 
-        final StringBuilder resource = new StringBuilder();
+    /**
+     * 指定された位置から空白文字を読み飛ばし、空白文字以外の文字の位置を返却します。
+     *
+     * @param sequence 文字列
+     * @param index    開始位置
+     * @return 空白文字以外の文字の位置。存在しない場合は文字列の長さ
+     */
+    private static int skipWhitespace(CharSequence sequence, int index) {
 
-        super.getConstructors().forEach(constructor -> {
-            resource.append(constructor.createResource());
-        });
+        final int length = sequence.length();
 
-        this.createResource(resource.toString());
+        while (index < length && Character.isWhitespace(sequence.charAt(index))) {
+            index++;
+        }
+
+        return index;
     }
 
     /**
-     * 引数として指定された文字列を基にリソースを生成します。
+     * 指定された位置以降の整形済みのリソースの改行コードを、引数として渡された改行コードへ置換します。
      *
-     * @param resource リソース
+     * @param output        出力先のバッファ
+     * @param start         置換を開始する位置
+     * @param lineSeparator 置換後の改行コード
      */
-    private void createResource(String resource) {
-        assert resource != null;
-        this.resource.append(resource);
+    private static void replaceLineSeparator(StringBuilder output, int start, String lineSeparator) {
+
+        final String formattedLineSeparator = AospStyle.LINE_SEPARATOR;
+
+        if (formattedLineSeparator.equals(lineSeparator)) {
+            return;
+        }
+
+        for (int index = output.indexOf(formattedLineSeparator, start); index >= 0; index = output
+                .indexOf(formattedLineSeparator, index + lineSeparator.length())) {
+            output.replace(index, index + formattedLineSeparator.length(), lineSeparator);
+        }
     }
 
     /**
-     * 生成されたリソースを返却します。
+     * フィールド数とコンストラクタ数を基にリソースの容量を見積もり返却します。
      *
-     * @return 生成されたリソース
+     * @return リソースの見積容量
      */
-    private String getResource() {
-        return this.resource.toString();
+    private int estimateCapacity() {
+        return INITIAL_CAPACITY + super.getFields().size() * FIELD_CAPACITY
+                + super.getConstructors().size() * CONSTRUCTOR_CAPACITY;
     }
 }
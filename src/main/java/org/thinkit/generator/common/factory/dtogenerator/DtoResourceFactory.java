@@ -232,12 +232,12 @@ public final class DtoResourceFactory extends ResourceFactory {
 
     @Override
     public Package createPackage(@NonNull String packageName) {
-        return null;
+        return new DtoPackage(packageName);
     }
 
     @Override
     public DependentPackage createDependentPackage(@NonNull String dependentPackage) {
-        return null;
+        return new DtoDependentPackage(dependentPackage);
     }
 
     @Override
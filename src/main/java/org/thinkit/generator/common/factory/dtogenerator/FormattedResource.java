@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.factory.dtogenerator;
+
+/**
+ * AOSPスタイルで整形済みのリソースを生成する処理を定義したインターフェースです。
+ * <p>
+ * このインターフェースを実装したリソースは {@code google-java-format} による整形処理を経由せずに、
+ * 未整形のリソースをフォーマッタで整形した結果と同一のソースコードを直接生成します。
+ * フォーマッタと同一の結果を再現できない記法を含むリソースは {@link UnsupportedOperationException} を送出します。
+ * <p>
+ * 実装クラスは {@link #appendFormattedResource(StringBuilder, int)} で整形済みのリソースを呼び出し元のバッファへ直接追加します。
+ * {@link #createFormattedResource(int)} は新しいバッファへ追加した結果を文字列として返却します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public interface FormattedResource {
+
+    /**
+     * インデント無しで整形済みのリソースを生成し返却します。
+     *
+     * @return 整形済みのリソース
+     */
+    default String createFormattedResource() {
+        return this.createFormattedResource(0);
+    }
+
+    /**
+     * 引数として渡されたインデントレベルで整形済みのリソースを生成し返却します。
+     *
+     * @param indentLevel インデントレベル
+     * @return 整形済みのリソース
+     */
+    default String createFormattedResource(int indentLevel) {
+        final StringBuilder output = new StringBuilder();
+        this.appendFormattedResource(output, indentLevel);
+        return output.toString();
+    }
+
+    /**
+     * 引数として渡されたインデントレベルで整形済みのリソースを生成し、引数として渡されたバッファへ追加します。
+     *
+     * @param output      出力先のバッファ
+     * @param indentLevel インデントレベル
+     */
+    void appendFormattedResource(StringBuilder output, int indentLevel);
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.factory.dtogenerator.strategy;
+
+/**
+ * コンストラクタの処理定義を呼び出し元が用意したバッファへ直接追加するストラテジーを定義したインターフェースです。
+ * <p>
+ * このインターフェースを実装したストラテジーは状態を持たず、中間の文字列を生成せずに
+ * {@code toConstructorProcess(String, String)} と同一の処理定義をバッファへ追加します。
+ * そのため1つのインスタンスを全てのコンストラクタ処理およびスレッドで共有できます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public interface AppendableConstructorProcessStrategy {
+
+    /**
+     * 引数として渡された情報を基にコンストラクタの処理定義を生成し、引数として渡されたバッファへ追加します。
+     *
+     * @param output       出力先のバッファ
+     * @param variableName 変数名
+     * @param getterName   ゲッター名
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    void appendConstructorProcess(StringBuilder output, String variableName, String getterName);
+}
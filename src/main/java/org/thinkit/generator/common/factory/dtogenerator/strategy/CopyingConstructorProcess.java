@@ -28,6 +28,7 @@ import lombok.ToString;
  * <p>
  * 以下の機能を提供しています。<br>
  * {@link #toConstructorProcess(String, String)}<br>
+ * {@link #appendConstructorProcess(StringBuilder, String, String)}<br>
  *
  * @author Kato Shinya
  * @since 1.0
@@ -37,7 +38,8 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class CopyingConstructorProcess extends ConstructorProcessStrategy {
+public class CopyingConstructorProcess extends ConstructorProcessStrategy
+        implements AppendableConstructorProcessStrategy {
 
     /**
      * カレントオブジェクト
@@ -46,30 +48,33 @@ public class CopyingConstructorProcess extends ConstructorProcessStrategy {
 
     @Override
     public String toConstructorProcess(@NonNull String variableName, @NonNull String getterName) {
-        final String space = Indentation.space();
-        final String returnCode = Indentation.returnCode();
-        final String period = Delimiter.period();
-        final String assignment = Operand.assignment();
-
-        final StringBuilder process = new StringBuilder();
-        process.append(CURRENT_OBJECT).append(period).append(getterName).append(space).append(assignment).append(space);
-        process.append(variableName).append(".get").append(this.toInitialUpperCase(getterName)).append("();")
-                .append(returnCode);
+        final StringBuilder process = new StringBuilder(
+                CURRENT_OBJECT.length() + variableName.length() + getterName.length() * 2 + 16);
+        this.appendConstructorProcess(process, variableName, getterName);
+        return process.toString();
+    }
 
-        process.setLength(process.length() - returnCode.length());
+    @Override
+    public void appendConstructorProcess(@NonNull StringBuilder output, @NonNull String variableName,
+            @NonNull String getterName) {
+        final String space = Indentation.space();
 
-        return process.toString();
+        output.append(CURRENT_OBJECT).append(Delimiter.period()).append(getterName).append(space)
+                .append(Operand.assignment()).append(space);
+        output.append(variableName).append(".get");
+        this.appendInitialUpperCase(output, getterName);
+        output.append("();");
     }
 
     /**
-     * 文字列の上1桁目を大文字に変換して返却します。
+     * 文字列の上1桁目を大文字に変換してバッファへ追加します。
      *
+     * @param output   出力先のバッファ
      * @param sequence 文字列
-     * @return 上1桁目が大文字に変換された文字列
      *
-     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @exception StringIndexOutOfBoundsException 引数として空文字列が渡された場合
      */
-    private String toInitialUpperCase(@NonNull String sequence) {
-        return sequence.substring(0, 1).toUpperCase() + sequence.substring(1);
+    private void appendInitialUpperCase(StringBuilder output, String sequence) {
+        output.append(Character.toUpperCase(sequence.charAt(0))).append(sequence, 1, sequence.length());
     }
 }
\ No newline at end of file
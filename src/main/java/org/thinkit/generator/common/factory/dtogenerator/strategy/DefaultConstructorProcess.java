@@ -26,8 +26,9 @@ import lombok.ToString;
  * <p>
  * 以下の機能を提供しています。<br>
  * {@link #toConstructorProcess(String, String)}<br>
+ * {@link #appendConstructorProcess(StringBuilder, String, String)}<br>
  * <p>
- * デフォルトコンストラクタでは処理情報が存在しないため各機能は必ず空文字列を返却します。
+ * デフォルトコンストラクタでは処理情報が存在しないため各機能は必ず空文字列を返却し、バッファへは何も追加しません。
  *
  * @author Kato Shinya
  * @since 1.0
@@ -37,10 +38,16 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class DefaultConstructorProcess extends ConstructorProcessStrategy {
+public class DefaultConstructorProcess extends ConstructorProcessStrategy
+        implements AppendableConstructorProcessStrategy {
 
     @Override
     public String toConstructorProcess(@NonNull String variableName, @NonNull String getterName) {
         return StringUtils.EMPTY;
     }
+
+    @Override
+    public void appendConstructorProcess(@NonNull StringBuilder output, @NonNull String variableName,
+            @NonNull String getterName) {
+    }
 }
\ No newline at end of file
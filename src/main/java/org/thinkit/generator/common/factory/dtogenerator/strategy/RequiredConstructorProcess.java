@@ -28,6 +28,7 @@ import lombok.ToString;
  * <p>
  * 以下の機能を提供しています。<br>
  * {@link #toConstructorProcess(String, String)}<br>
+ * {@link #appendConstructorProcess(StringBuilder, String, String)}<br>
  *
  * @author Kato Shinya
  * @since 1.0
@@ -37,7 +38,8 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class RequiredConstructorProcess extends ConstructorProcessStrategy {
+public class RequiredConstructorProcess extends ConstructorProcessStrategy
+        implements AppendableConstructorProcessStrategy {
 
     /**
      * カレントオブジェクト
@@ -46,12 +48,17 @@ public class RequiredConstructorProcess extends ConstructorProcessStrategy {
 
     @Override
     public String toConstructorProcess(@NonNull String variableName, @NonNull String getterName) {
-        final String space = Indentation.space();
+        final StringBuilder process = new StringBuilder(CURRENT_OBJECT.length() + variableName.length() * 2 + 8);
+        this.appendConstructorProcess(process, variableName, getterName);
+        return process.toString();
+    }
 
-        final StringBuilder process = new StringBuilder();
-        process.append(CURRENT_OBJECT).append(Delimiter.period()).append(variableName).append(space);
-        process.append(Operand.assignment()).append(space).append(variableName).append(Delimiter.semicolon());
+    @Override
+    public void appendConstructorProcess(@NonNull StringBuilder output, @NonNull String variableName,
+            @NonNull String getterName) {
+        final String space = Indentation.space();
 
-        return process.toString();
+        output.append(CURRENT_OBJECT).append(Delimiter.period()).append(variableName).append(space);
+        output.append(Operand.assignment()).append(space).append(variableName).append(Delimiter.semicolon());
     }
 }
\ No newline at end of file
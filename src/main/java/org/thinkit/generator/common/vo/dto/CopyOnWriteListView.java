@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.vo.dto;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * コピーオンライトで内部のリストを共有するグループのリストを公開するビューです。
+ * <p>
+ * 参照系の操作はグループが現在保持しているリストへ委譲します。変更系の操作はグループが内部のリストを共有している場合に複製させた上で、
+ * グループのみが保持するリストへ委譲するため、ビューを経由した変更はコピー元とコピー先の間で互いに影響しません。
+ * <p>
+ * このクラスは {@link DtoDefinitionGroup} と {@link DtoFieldGroup} の内部でのみ使用され、外部へ公開されることはありません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class CopyOnWriteListView<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * 参照用のリストを返却するサプライヤー
+     */
+    private final Supplier<List<E>> readableList;
+
+    /**
+     * 変更用のリストを返却するサプライヤー
+     */
+    private final Supplier<List<E>> writableList;
+
+    /**
+     * コンストラクタ
+     *
+     * @param readableList 参照用のリストを返却するサプライヤー
+     * @param writableList 内部のリストを共有している場合は複製した上で変更用のリストを返却するサプライヤー
+     */
+    CopyOnWriteListView(Supplier<List<E>> readableList, Supplier<List<E>> writableList) {
+        this.readableList = readableList;
+        this.writableList = writableList;
+    }
+
+    @Override
+    public E get(int index) {
+        return this.readableList.get().get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.readableList.get().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return this.writableList.get().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        this.writableList.get().add(index, element);
+        super.modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        final E element = this.writableList.get().remove(index);
+        super.modCount++;
+        return element;
+    }
+}
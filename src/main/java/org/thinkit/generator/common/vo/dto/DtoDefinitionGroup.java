@@ -24,7 +24,6 @@ import org.thinkit.common.util.iterator.FluentIterator;
 import org.thinkit.common.util.iterator.IterableNode;
 
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
@@ -41,6 +40,10 @@ import lombok.ToString;
  *                                  .add(dtoDefinition2);
  * </code>
  * </pre>
+ * <p>
+ * {@link #of(DtoDefinitionGroup)} によるコピーは要素を複製せずに元のグループと内部のリストを共有するため、グループの規模に関わらず
+ * 定数時間で完了します。共有中のグループへ要素を追加した場合は、追加したグループのみが内部のリストを複製します
+ * (コピーオンライト)。複製されるのは要素への参照のみであり、各要素とその配下の子グループは引き続き共有されます。
  *
  * @author Kato Shinya
  * @since 1.0
@@ -58,9 +61,17 @@ public final class DtoDefinitionGroup implements Iterable<DtoDefinition>, Iterab
     /**
      * DTO定義グループ
      */
-    @Getter
     private List<DtoDefinition> dtoDefinitionGroup;
 
+    /**
+     * 内部のリストを他のグループと共有しているか
+     * <p>
+     * コピー元のインスタンスにはコピーを生成したスレッドから書き込まれるため、他のスレッドからも参照できるよう {@code volatile} とします。
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile boolean shared;
+
     /**
      * デフォルトコンストラクタ
      */
@@ -76,7 +87,9 @@ public final class DtoDefinitionGroup implements Iterable<DtoDefinition>, Iterab
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private DtoDefinitionGroup(@NonNull DtoDefinitionGroup dtoDefinitionGroup) {
-        this.dtoDefinitionGroup = new ArrayList<>(dtoDefinitionGroup.getDtoDefinitionGroup());
+        dtoDefinitionGroup.shared = true;
+        this.dtoDefinitionGroup = dtoDefinitionGroup.dtoDefinitionGroup;
+        this.shared = true;
     }
 
     /**
@@ -91,6 +104,16 @@ public final class DtoDefinitionGroup implements Iterable<DtoDefinition>, Iterab
     /**
      * 引数として指定された {@code dtoDefinitionGroup} オブジェクトの情報をコピーした新しい
      * {@link DtoDefinitionGroup} クラスのインスタンスを生成し返却します。
+     * <p>
+     * コピー元と内部のリストを共有するため、このメソッドの処理時間はグループの規模に依存しません。
+     * <p>
+     * このメソッドは引数として渡された {@code dtoDefinitionGroup} を共有状態へ変更します。共有状態のグループは次回の変更時に内部のリストを複製するため、
+     * コピー元とコピー先のどちらを変更しても互いに影響しません。コピー元の変更と並行してこのメソッドを呼び出さないでください。
+     *
+     * @param dtoDefinitionGroup DTO定義グループ
+     * @return {@link DtoDefinitionGroup} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     public static DtoDefinitionGroup of(@NonNull DtoDefinitionGroup dtoDefinitionGroup) {
         return new DtoDefinitionGroup(dtoDefinitionGroup);
@@ -116,10 +139,23 @@ public final class DtoDefinitionGroup implements Iterable<DtoDefinition>, Iterab
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     public DtoDefinitionGroup add(@NonNull DtoDefinition dtoDefinition) {
-        this.dtoDefinitionGroup.add(dtoDefinition);
+
+        this.ensureWritable().add(dtoDefinition);
         return this;
     }
 
+    /**
+     * DTO定義グループのリストを返却します。
+     * <p>
+     * 返却されるリストは内部のリストのビューです。ビューを経由して要素を変更した場合は {@link #add(DtoDefinition)}
+     * と同様に、内部のリストを共有している場合は複製した上で変更するため、コピー元とコピー先のどちらを変更しても互いに影響しません。
+     *
+     * @return DTO定義グループのリスト
+     */
+    public List<DtoDefinition> getDtoDefinitionGroup() {
+        return new CopyOnWriteListView<>(() -> this.dtoDefinitionGroup, this::ensureWritable);
+    }
+
     /**
      * 指定された {@code index} の数値に紐づく {@link DtoDefinition} オブジェクトを返却します。
      * 存在しないインデックスを指定した場合は実行時に必ず {@link ArrayIndexOutOfBoundsException} が発生するため、
@@ -155,7 +191,7 @@ public final class DtoDefinitionGroup implements Iterable<DtoDefinition>, Iterab
 
     @Override
     public List<DtoDefinition> nodes() {
-        return this.dtoDefinitionGroup;
+        return this.getDtoDefinitionGroup();
     }
 
     @Override
@@ -167,4 +203,19 @@ public final class DtoDefinitionGroup implements Iterable<DtoDefinition>, Iterab
     public Iterator<DtoDefinition> iterator() {
         return FluentIterator.of(this);
     }
+
+    /**
+     * 内部のリストを共有している場合に複製し、このグループのみが変更できるリストを返却します。
+     *
+     * @return このグループのみが変更できるリスト
+     */
+    private List<DtoDefinition> ensureWritable() {
+
+        if (this.shared) {
+            this.dtoDefinitionGroup = new ArrayList<>(this.dtoDefinitionGroup);
+            this.shared = false;
+        }
+
+        return this.dtoDefinitionGroup;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.vo.dto;
+
+import java.io.Serializable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTO定義の生成計画に含まれる1件のDTO定義を管理するデータクラスです。
+ * <p>
+ * 生成計画内の位置を表すインデックス、親DTO定義のインデックスおよびネストの深さを保持します。
+ * ルートのDTO定義の場合、親DTO定義のインデックスは {@code -1} 、ネストの深さは {@code 0} です。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class DtoDefinitionNode implements Serializable {
+
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = -5316846061985214407L;
+
+    /**
+     * ルートのDTO定義の親DTO定義のインデックス
+     */
+    public static final int ROOT_PARENT_INDEX = -1;
+
+    /**
+     * 生成計画内のインデックス
+     */
+    private int index;
+
+    /**
+     * DTO定義
+     */
+    private DtoDefinition dtoDefinition;
+
+    /**
+     * 親DTO定義の生成計画内のインデックス
+     */
+    private int parentIndex;
+
+    /**
+     * ネストの深さ
+     */
+    private int depth;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoDefinitionNode() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param index         生成計画内のインデックス
+     * @param dtoDefinition DTO定義
+     * @param parentIndex   親DTO定義の生成計画内のインデックス
+     * @param depth         ネストの深さ
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoDefinitionNode(int index, @NonNull DtoDefinition dtoDefinition, int parentIndex, int depth) {
+        this.index = index;
+        this.dtoDefinition = dtoDefinition;
+        this.parentIndex = parentIndex;
+        this.depth = depth;
+    }
+
+    /**
+     * 引数として指定された情報を基に {@link DtoDefinitionNode} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param index         生成計画内のインデックス
+     * @param dtoDefinition DTO定義
+     * @param parentIndex   親DTO定義の生成計画内のインデックス。ルートのDTO定義の場合は {@link #ROOT_PARENT_INDEX}
+     * @param depth         ネストの深さ
+     * @return {@link DtoDefinitionNode} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoDefinitionNode of(int index, @NonNull DtoDefinition dtoDefinition, int parentIndex, int depth) {
+        return new DtoDefinitionNode(index, dtoDefinition, parentIndex, depth);
+    }
+
+    /**
+     * ルートのDTO定義か判定します。
+     *
+     * @return ルートのDTO定義の場合は {@code true} 、それ以外は {@code false}
+     */
+    public boolean isRoot() {
+        return this.parentIndex == ROOT_PARENT_INDEX;
+    }
+}
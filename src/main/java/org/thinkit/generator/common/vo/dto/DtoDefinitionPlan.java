@@ -0,0 +1,264 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.vo.dto;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.thinkit.common.util.iterator.FluentIterator;
+import org.thinkit.common.util.iterator.IterableNode;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * ネストされたDTO定義グループを生成順に平坦化したDTO定義の生成計画を管理するデータクラスです。
+ * <p>
+ * 生成計画は各DTO定義を、そのDTOフィールドが持つ子DTO定義グループのDTO定義より後に、定義順に並べたものです。
+ * この順序は子クラスを親クラスより先に生成する従来の再帰処理と同一です。各要素は {@link DtoDefinitionNode}
+ * として親DTO定義のインデックスとネストの深さを保持します。
+ * <p>
+ * 生成計画は再帰呼び出しを使用せず明示的なスタックで構築されるため、ネストの深さに関わらず
+ * {@link StackOverflowError} は発生しません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class DtoDefinitionPlan
+        implements Iterable<DtoDefinitionNode>, IterableNode<DtoDefinitionNode>, Serializable {
+
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = 2987264380317541652L;
+
+    /**
+     * DTO定義の生成計画
+     */
+    private List<DtoDefinitionNode> dtoDefinitionNodes;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoDefinitionPlan() {
+        this.dtoDefinitionNodes = new ArrayList<>(0);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param dtoDefinitionNodes DTO定義の生成計画
+     */
+    private DtoDefinitionPlan(List<DtoDefinitionNode> dtoDefinitionNodes) {
+        this.dtoDefinitionNodes = dtoDefinitionNodes;
+    }
+
+    /**
+     * 引数として渡された {@code dtoDefinitionGroup} を平坦化した {@link DtoDefinitionPlan}
+     * クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param dtoDefinitionGroup DTO定義グループ
+     * @return {@link DtoDefinitionPlan} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoDefinitionPlan of(@NonNull DtoDefinitionGroup dtoDefinitionGroup) {
+
+        final List<PlanningFrame> plannedFrames = new ArrayList<>(dtoDefinitionGroup.size());
+        final Deque<PlanningFrame> pendingFrames = new ArrayDeque<>();
+
+        for (DtoDefinition dtoDefinition : dtoDefinitionGroup) {
+            pendingFrames.push(new PlanningFrame(dtoDefinition, null, 0));
+
+            while (!pendingFrames.isEmpty()) {
+                final PlanningFrame frame = pendingFrames.peek();
+                final DtoDefinition childDtoDefinition = frame.nextChildDtoDefinition();
+
+                if (childDtoDefinition != null) {
+                    pendingFrames.push(new PlanningFrame(childDtoDefinition, frame, frame.depth + 1));
+                    continue;
+                }
+
+                pendingFrames.pop();
+                frame.index = plannedFrames.size();
+                plannedFrames.add(frame);
+            }
+        }
+
+        final List<DtoDefinitionNode> dtoDefinitionNodes = new ArrayList<>(plannedFrames.size());
+
+        for (PlanningFrame frame : plannedFrames) {
+            dtoDefinitionNodes.add(DtoDefinitionNode.of(frame.index, frame.dtoDefinition,
+                    frame.parent == null ? DtoDefinitionNode.ROOT_PARENT_INDEX : frame.parent.index, frame.depth));
+        }
+
+        return new DtoDefinitionPlan(dtoDefinitionNodes);
+    }
+
+    /**
+     * DTO定義の生成計画を変更不可能なリストとして返却します。
+     *
+     * @return DTO定義の生成計画
+     */
+    public List<DtoDefinitionNode> getDtoDefinitionNodes() {
+        return Collections.unmodifiableList(this.dtoDefinitionNodes);
+    }
+
+    /**
+     * 指定された {@code index} の数値に紐づく {@link DtoDefinitionNode} オブジェクトを返却します。
+     *
+     * @param index インデックス
+     * @return 指定された {@code index} の数値に紐づく {@link DtoDefinitionNode} オブジェクト
+     *
+     * @exception IndexOutOfBoundsException 引数として指定された {@code index} に紐づく情報が存在しない場合
+     */
+    public DtoDefinitionNode get(int index) {
+        return this.dtoDefinitionNodes.get(index);
+    }
+
+    /**
+     * 引数として渡された {@code dtoDefinitionNode} の親DTO定義を返却します。
+     *
+     * @param dtoDefinitionNode 生成計画に含まれるDTO定義
+     * @return 親DTO定義。ルートのDTO定義の場合は {@code null}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoDefinitionNode getParent(@NonNull DtoDefinitionNode dtoDefinitionNode) {
+        return dtoDefinitionNode.isRoot() ? null : this.dtoDefinitionNodes.get(dtoDefinitionNode.getParentIndex());
+    }
+
+    /**
+     * 生成計画に含まれるDTO定義のネストの深さの最大値を返却します。
+     *
+     * @return ネストの深さの最大値。生成計画が空の場合は {@code 0}
+     */
+    public int getMaxDepth() {
+        return this.dtoDefinitionNodes.stream().mapToInt(DtoDefinitionNode::getDepth).max().orElse(0);
+    }
+
+    /**
+     * オブジェクトに含まれる情報が空か判定します。
+     *
+     * @return オブジェクトに含まれる情報が空の場合は {@code true} 、それ以外は {@code false}
+     */
+    public boolean isEmpty() {
+        return this.dtoDefinitionNodes.isEmpty();
+    }
+
+    /**
+     * {@link DtoDefinitionNode} クラスを総称型として持つストリームを返却します。
+     *
+     * @return {@link DtoDefinitionNode} クラスを総称型として持つストリーム
+     */
+    public Stream<DtoDefinitionNode> stream() {
+        return this.getDtoDefinitionNodes().stream();
+    }
+
+    @Override
+    public List<DtoDefinitionNode> nodes() {
+        return this.getDtoDefinitionNodes();
+    }
+
+    @Override
+    public int size() {
+        return this.dtoDefinitionNodes.size();
+    }
+
+    @Override
+    public Iterator<DtoDefinitionNode> iterator() {
+        return FluentIterator.of(this);
+    }
+
+    /**
+     * 生成計画の構築中に1件のDTO定義の走査状態を管理するクラスです。
+     */
+    private static final class PlanningFrame {
+
+        /**
+         * DTO定義
+         */
+        private final DtoDefinition dtoDefinition;
+
+        /**
+         * 親DTO定義の走査状態
+         */
+        private final PlanningFrame parent;
+
+        /**
+         * ネストの深さ
+         */
+        private final int depth;
+
+        /**
+         * DTOフィールドの反復子
+         */
+        private final Iterator<DtoField> dtoFields;
+
+        /**
+         * 走査中の子DTO定義グループの反復子
+         */
+        private Iterator<DtoDefinition> childDtoDefinitions;
+
+        /**
+         * 生成計画内のインデックス
+         */
+        private int index;
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoDefinition DTO定義
+         * @param parent        親DTO定義の走査状態。ルートのDTO定義の場合は {@code null}
+         * @param depth         ネストの深さ
+         */
+        private PlanningFrame(DtoDefinition dtoDefinition, PlanningFrame parent, int depth) {
+            this.dtoDefinition = dtoDefinition;
+            this.parent = parent;
+            this.depth = depth;
+
+            final DtoFieldGroup dtoFieldGroup = dtoDefinition.getDtoFieldGroup();
+            this.dtoFields = dtoFieldGroup == null ? Collections.emptyIterator() : dtoFieldGroup.iterator();
+        }
+
+        /**
+         * 未走査の次の子DTO定義を返却します。
+         *
+         * @return 次の子DTO定義。全ての子DTO定義を走査済みの場合は {@code null}
+         */
+        private DtoDefinition nextChildDtoDefinition() {
+
+            while (this.childDtoDefinitions == null || !this.childDtoDefinitions.hasNext()) {
+                if (!this.dtoFields.hasNext()) {
+                    return null;
+                }
+
+                this.childDtoDefinitions = this.dtoFields.next().getChildDtoDefinitionGroup().iterator();
+            }
+
+            return this.childDtoDefinitions.next();
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.vo.dto;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 列指向の形式でDTOフィールドの情報を保持するクラスです。
+ * <p>
+ * 変数名、データ型、初期値、説明はそれぞれ並列の配列に、不変の指定は {@link BitSet} に保持します。<br>
+ * 子DTO定義グループは子クラスを持つフィールドのみ、昇順のインデックスと対応する配列に疎に保持します。
+ * <p>
+ * このクラスは {@link DtoFieldGroup} の内部表現として使用され、外部へ公開されることはありません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class DtoFieldColumns implements Serializable {
+
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = 6370934958187411521L;
+
+    /**
+     * 既定の初期容量
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * フィールド数
+     */
+    private int size;
+
+    /**
+     * 変数名の列
+     */
+    private String[] variableNames;
+
+    /**
+     * データ型の列
+     */
+    private String[] dataTypes;
+
+    /**
+     * 初期値の列
+     */
+    private String[] initialValues;
+
+    /**
+     * 説明の列
+     */
+    private String[] descriptions;
+
+    /**
+     * 不変の列
+     */
+    private BitSet invariants;
+
+    /**
+     * 子DTO定義グループを持つフィールド数
+     */
+    private int childCount;
+
+    /**
+     * 子DTO定義グループを持つフィールドのインデックス。昇順に保持します。
+     */
+    private int[] childIndexes;
+
+    /**
+     * {@link #childIndexes} と同一の順序で保持する子DTO定義グループ
+     */
+    private DtoDefinitionGroup[] childDtoDefinitionGroups;
+
+    /**
+     * コンストラクタ
+     *
+     * @param initialCapacity 初期容量
+     *
+     * @exception IllegalArgumentException 初期容量が負数の場合
+     */
+    DtoFieldColumns(int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(String.format("Illegal capacity: %s", initialCapacity));
+        }
+
+        final int capacity = initialCapacity == 0 ? DEFAULT_CAPACITY : initialCapacity;
+
+        this.variableNames = new String[capacity];
+        this.dataTypes = new String[capacity];
+        this.initialValues = new String[capacity];
+        this.descriptions = new String[capacity];
+        this.invariants = new BitSet(capacity);
+        this.childIndexes = new int[0];
+        this.childDtoDefinitionGroups = new DtoDefinitionGroup[0];
+    }
+
+    /**
+     * コピーコンストラクタ。各列の配列を複製し、子DTO定義グループは共有します。
+     *
+     * @param dtoFieldColumns コピー元
+     */
+    private DtoFieldColumns(DtoFieldColumns dtoFieldColumns) {
+        final int capacity = Math.max(DEFAULT_CAPACITY, dtoFieldColumns.size + (dtoFieldColumns.size >> 1));
+
+        this.size = dtoFieldColumns.size;
+        this.variableNames = Arrays.copyOf(dtoFieldColumns.variableNames, capacity);
+        this.dataTypes = Arrays.copyOf(dtoFieldColumns.dataTypes, capacity);
+        this.initialValues = Arrays.copyOf(dtoFieldColumns.initialValues, capacity);
+        this.descriptions = Arrays.copyOf(dtoFieldColumns.descriptions, capacity);
+        this.invariants = (BitSet) dtoFieldColumns.invariants.clone();
+        this.childCount = dtoFieldColumns.childCount;
+        this.childIndexes = Arrays.copyOf(dtoFieldColumns.childIndexes, dtoFieldColumns.childCount);
+        this.childDtoDefinitionGroups = Arrays.copyOf(dtoFieldColumns.childDtoDefinitionGroups,
+                dtoFieldColumns.childCount);
+    }
+
+    /**
+     * 各列を複製した新しいインスタンスを返却します。子DTO定義グループは共有されます。
+     *
+     * @return 複製したインスタンス
+     */
+    DtoFieldColumns copy() {
+        return new DtoFieldColumns(this);
+    }
+
+    /**
+     * 引数として渡された情報を末尾のフィールドとして追加します。
+     *
+     * @param variableName            変数名
+     * @param dataType                データ型
+     * @param initialValue            初期値
+     * @param invariant               不変
+     * @param description             説明
+     * @param childDtoDefinitionGroup 子DTO定義グループ。子クラスを持たない場合は {@code null}
+     */
+    void add(String variableName, String dataType, String initialValue, boolean invariant, String description,
+            DtoDefinitionGroup childDtoDefinitionGroup) {
+
+        if (this.size == this.variableNames.length) {
+            this.grow();
+        }
+
+        final int index = this.size++;
+
+        this.variableNames[index] = variableName;
+        this.dataTypes[index] = dataType;
+        this.initialValues[index] = initialValue;
+        this.descriptions[index] = description;
+        this.invariants.set(index, invariant);
+
+        if (childDtoDefinitionGroup != null && !childDtoDefinitionGroup.isEmpty()) {
+            this.putChildDtoDefinitionGroup(index, childDtoDefinitionGroup);
+        }
+    }
+
+    /**
+     * 指定されたインデックスのフィールドの子DTO定義グループを設定します。
+     *
+     * @param index                   インデックス
+     * @param childDtoDefinitionGroup 子DTO定義グループ
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    void setChildDtoDefinitionGroup(int index, DtoDefinitionGroup childDtoDefinitionGroup) {
+        this.checkIndex(index);
+        this.putChildDtoDefinitionGroup(index, childDtoDefinitionGroup);
+    }
+
+    /**
+     * フィールド数を返却します。
+     *
+     * @return フィールド数
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * 指定されたインデックスのフィールドの変数名を返却します。
+     *
+     * @param index インデックス
+     * @return 変数名
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    String getVariableName(int index) {
+        this.checkIndex(index);
+        return this.variableNames[index];
+    }
+
+    /**
+     * 指定されたインデックスのフィールドのデータ型を返却します。
+     *
+     * @param index インデックス
+     * @return データ型
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    String getDataType(int index) {
+        this.checkIndex(index);
+        return this.dataTypes[index];
+    }
+
+    /**
+     * 指定されたインデックスのフィールドの初期値を返却します。
+     *
+     * @param index インデックス
+     * @return 初期値
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    String getInitialValue(int index) {
+        this.checkIndex(index);
+        return this.initialValues[index];
+    }
+
+    /**
+     * 指定されたインデックスのフィールドが不変か判定します。
+     *
+     * @param index インデックス
+     * @return 不変の場合は {@code true} 、それ以外は {@code false}
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    boolean isInvariant(int index) {
+        this.checkIndex(index);
+        return this.invariants.get(index);
+    }
+
+    /**
+     * 指定されたインデックスのフィールドの説明を返却します。
+     *
+     * @param index インデックス
+     * @return 説明
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    String getDescription(int index) {
+        this.checkIndex(index);
+        return this.descriptions[index];
+    }
+
+    /**
+     * 指定されたインデックスのフィールドの子DTO定義グループを返却します。
+     *
+     * @param index インデックス
+     * @return 子DTO定義グループ。子クラスを持たない場合は {@code null}
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    DtoDefinitionGroup getChildDtoDefinitionGroup(int index) {
+        this.checkIndex(index);
+        final int position = Arrays.binarySearch(this.childIndexes, 0, this.childCount, index);
+        return position < 0 ? null : this.childDtoDefinitionGroups[position];
+    }
+
+    /**
+     * 指定されたインデックスのフィールドの子DTO定義グループを昇順を維持して格納します。
+     *
+     * @param index                   インデックス
+     * @param childDtoDefinitionGroup 子DTO定義グループ
+     */
+    private void putChildDtoDefinitionGroup(int index, DtoDefinitionGroup childDtoDefinitionGroup) {
+
+        int position = Arrays.binarySearch(this.childIndexes, 0, this.childCount, index);
+
+        if (position >= 0) {
+            this.childDtoDefinitionGroups[position] = childDtoDefinitionGroup;
+            return;
+        }
+
+        position = -position - 1;
+
+        if (this.childCount == this.childIndexes.length) {
+            final int capacity = Math.max(4, this.childCount * 2);
+            this.childIndexes = Arrays.copyOf(this.childIndexes, capacity);
+            this.childDtoDefinitionGroups = Arrays.copyOf(this.childDtoDefinitionGroups, capacity);
+        }
+
+        System.arraycopy(this.childIndexes, position, this.childIndexes, position + 1, this.childCount - position);
+        System.arraycopy(this.childDtoDefinitionGroups, position, this.childDtoDefinitionGroups, position + 1,
+                this.childCount - position);
+
+        this.childIndexes[position] = index;
+        this.childDtoDefinitionGroups[position] = childDtoDefinitionGroup;
+        this.childCount++;
+    }
+
+    /**
+     * 各列の容量を拡張します。
+     */
+    private void grow() {
+        final int capacity = Math.max(DEFAULT_CAPACITY, this.variableNames.length + (this.variableNames.length >> 1));
+
+        this.variableNames = Arrays.copyOf(this.variableNames, capacity);
+        this.dataTypes = Arrays.copyOf(this.dataTypes, capacity);
+        this.initialValues = Arrays.copyOf(this.initialValues, capacity);
+        this.descriptions = Arrays.copyOf(this.descriptions, capacity);
+    }
+
+    /**
+     * 引数として渡されたインデックスが範囲内か検査します。
+     *
+     * @param index インデックス
+     *
+     * @exception IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, this.size));
+        }
+    }
+}
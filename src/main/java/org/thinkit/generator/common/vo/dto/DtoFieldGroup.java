@@ -15,16 +15,16 @@
 package org.thinkit.generator.common.vo.dto;
 
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 import org.thinkit.common.util.iterator.FluentIterator;
 import org.thinkit.common.util.iterator.IterableNode;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
@@ -41,13 +41,23 @@ import lombok.ToString;
  *                                  .add(dtoField2);
  * </code>
  * </pre>
+ * <p>
+ * {@link #of(DtoFieldGroup)} によるコピーは要素を複製せずに元のグループと内部のリストを共有するため、グループの規模に関わらず
+ * 定数時間で完了します。共有中のグループへ要素を追加した場合は、追加したグループのみが内部のリストを複製します
+ * (コピーオンライト)。複製されるのは要素への参照のみであり、各要素とその配下の子グループは引き続き共有されます。
+ * <p>
+ * 項目数の多いDTOには {@link #ofColumnar(int)} で生成する列指向のグループを使用できます。列指向のグループは
+ * DTOフィールドオブジェクトを保持せずに、変数名、データ型、初期値、説明を並列の配列に、不変の指定をビット集合に保持し、
+ * 子DTO定義グループは存在するフィールドのみ保持します。{@link #get(int)} や反復処理で返却されるDTOフィールドオブジェクトは
+ * 参照時に生成される軽量なビューです。ビューに対する子DTO定義グループの設定はグループへ反映されないため、
+ * {@link #setChildDtoDefinitionGroup(int, DtoDefinitionGroup)} を使用してください。<br>
+ * 同一の内容を持つグループは内部表現に関わらず等価です。
  *
  * @author Kato Shinya
  * @since 1.0
  * @version 1.0
  */
-@ToString
-@EqualsAndHashCode
+@ToString(onlyExplicitlyIncluded = true)
 public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<DtoField>, Serializable {
 
     /**
@@ -56,11 +66,22 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
     private static final long serialVersionUID = -2251700047243592927L;
 
     /**
-     * DTOフィールドオブジェクトグループ
+     * DTOフィールドオブジェクトグループ。列指向のグループの場合は {@code null}
      */
-    @Getter
     private List<DtoField> dtoFieldGroup;
 
+    /**
+     * 列指向のDTOフィールド。列指向ではないグループの場合は {@code null}
+     */
+    private DtoFieldColumns dtoFieldColumns;
+
+    /**
+     * 内部のリストを他のグループと共有しているか
+     * <p>
+     * コピー元のインスタンスにはコピーを生成したスレッドから書き込まれるため、他のスレッドからも参照できるよう {@code volatile} とします。
+     */
+    private volatile boolean shared;
+
     /**
      * デフォルトコンストラクタ
      */
@@ -68,6 +89,15 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
         this.dtoFieldGroup = new ArrayList<>(0);
     }
 
+    /**
+     * 列指向のグループを生成するコンストラクタ
+     *
+     * @param dtoFieldColumns 列指向のDTOフィールド
+     */
+    private DtoFieldGroup(DtoFieldColumns dtoFieldColumns) {
+        this.dtoFieldColumns = dtoFieldColumns;
+    }
+
     /**
      * コピーコンストラクタ
      *
@@ -76,7 +106,10 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     private DtoFieldGroup(@NonNull DtoFieldGroup dtoFieldGroup) {
-        this.dtoFieldGroup = new ArrayList<>(dtoFieldGroup.getDtoFieldGroup());
+        dtoFieldGroup.shared = true;
+        this.dtoFieldGroup = dtoFieldGroup.dtoFieldGroup;
+        this.dtoFieldColumns = dtoFieldGroup.dtoFieldColumns;
+        this.shared = true;
     }
 
     /**
@@ -91,11 +124,54 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
     /**
      * 引数として指定された {@code dtoFieldGroup} オブジェクトの情報をコピーした新しい {@link DtoFieldGroup}
      * クラスのインスタンスを生成し返却します。
+     * <p>
+     * コピー元と内部のリストを共有するため、このメソッドの処理時間はグループの規模に依存しません。
+     * <p>
+     * このメソッドは引数として渡された {@code dtoFieldGroup} を共有状態へ変更します。共有状態のグループは次回の変更時に内部のリストを複製するため、
+     * コピー元とコピー先のどちらを変更しても互いに影響しません。コピー元の変更と並行してこのメソッドを呼び出さないでください。
+     *
+     * @param dtoFieldGroup DTOフィールドオブジェクトグループ
+     * @return {@link DtoFieldGroup} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     public static DtoFieldGroup of(@NonNull DtoFieldGroup dtoFieldGroup) {
         return new DtoFieldGroup(dtoFieldGroup);
     }
 
+    /**
+     * 列指向の {@link DtoFieldGroup} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param initialCapacity 初期容量
+     * @return 列指向の {@link DtoFieldGroup} クラスの新しいインスタンス
+     *
+     * @exception IllegalArgumentException 初期容量が負数の場合
+     */
+    public static DtoFieldGroup ofColumnar(int initialCapacity) {
+        return new DtoFieldGroup(new DtoFieldColumns(initialCapacity));
+    }
+
+    /**
+     * 引数として指定された {@code dtoFieldGroup} オブジェクトの情報を列指向へ変換した新しい {@link DtoFieldGroup}
+     * クラスのインスタンスを生成し返却します。
+     *
+     * @param dtoFieldGroup DTOフィールドオブジェクトグループ
+     * @return 列指向の {@link DtoFieldGroup} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoFieldGroup ofColumnar(@NonNull DtoFieldGroup dtoFieldGroup) {
+
+        if (dtoFieldGroup.isColumnar()) {
+            return new DtoFieldGroup(dtoFieldGroup);
+        }
+
+        final DtoFieldGroup columnarDtoFieldGroup = ofColumnar(dtoFieldGroup.size());
+        dtoFieldGroup.dtoFieldGroup.forEach(columnarDtoFieldGroup::add);
+
+        return columnarDtoFieldGroup;
+    }
+
     /**
      * 引数として渡された {@code dtoField} を条件リストへ追加します。
      * <p>
@@ -109,6 +185,8 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
      *                                  .add(dtoField2);
      * </code>
      * </pre>
+     * <p>
+     * 列指向のグループの場合は {@code dtoField} の各項目を列へ複写し、{@code dtoField} 自体は保持しません。
      *
      * @param dtoField DTOフィールドオブジェクト
      * @return 自分自身のインスタンス
@@ -116,10 +194,101 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     public DtoFieldGroup add(@NonNull DtoField dtoField) {
+
+        this.ensureWritable();
+
+        if (this.dtoFieldColumns != null) {
+            this.dtoFieldColumns.add(dtoField.getVariableName(), dtoField.getDataType(), dtoField.getInitialValue(),
+                    dtoField.isInvariant(), dtoField.getDescription(), dtoField.getChildDtoDefinitionGroup());
+            return this;
+        }
+
         this.dtoFieldGroup.add(dtoField);
         return this;
     }
 
+    /**
+     * 引数として渡された情報を持つDTOフィールドを追加します。
+     * <p>
+     * 列指向のグループの場合はDTOフィールドオブジェクトを生成せずに各項目を列へ追加します。
+     *
+     * @param variableName 変数名
+     * @param dataType     データ型
+     * @param initialValue 初期値
+     * @param invariant    不変
+     * @param description  説明
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public DtoFieldGroup add(@NonNull String variableName, @NonNull String dataType, @NonNull String initialValue,
+            boolean invariant, @NonNull String description) {
+
+        if (this.dtoFieldColumns == null) {
+            return this.add(DtoField.of(variableName, dataType, initialValue, invariant, description));
+        }
+
+        this.ensureWritable();
+        this.dtoFieldColumns.add(variableName, dataType, initialValue, invariant, description, null);
+
+        return this;
+    }
+
+    /**
+     * 指定された {@code index} の数値に紐づくDTOフィールドの子DTO定義グループを設定します。
+     * <p>
+     * 内部表現に関わらず、子DTO定義グループはこのグループが保持するDTOフィールドにのみ設定されます。列指向ではないグループの場合は
+     * 対象のDTOフィールドを複製したDTOフィールドへ置き換えてから設定するため、{@link #of(DtoFieldGroup)}
+     * で生成したコピー元とコピー先のどちらに設定しても互いに影響しません。
+     *
+     * @param index                   インデックス
+     * @param childDtoDefinitionGroup 子DTO定義グループ
+     * @return 自分自身のインスタンス
+     *
+     * @exception NullPointerException      引数として {@code null} が渡された場合
+     * @exception IndexOutOfBoundsException 引数として指定された {@code index} に紐づく情報が存在しない場合
+     */
+    public DtoFieldGroup setChildDtoDefinitionGroup(int index, @NonNull DtoDefinitionGroup childDtoDefinitionGroup) {
+
+        if (this.dtoFieldColumns == null) {
+            final DtoField dtoField = DtoField.of(this.dtoFieldGroup.get(index));
+            dtoField.setChildDtoDefinitionGroup(childDtoDefinitionGroup);
+
+            this.ensureWritable();
+            this.dtoFieldGroup.set(index, dtoField);
+
+            return this;
+        }
+
+        this.ensureWritable();
+        this.dtoFieldColumns.setChildDtoDefinitionGroup(index, childDtoDefinitionGroup);
+
+        return this;
+    }
+
+    /**
+     * DTOフィールドオブジェクトグループのリストを返却します。
+     * <p>
+     * 返却されるリストは内部のリストのビューです。ビューを経由して要素を変更した場合は {@link #add(DtoField)}
+     * と同様に、内部のリストを共有している場合は複製した上で変更するため、コピー元とコピー先のどちらを変更しても互いに影響しません。
+     * <p>
+     * 列指向のグループの場合は、各要素を参照時に生成する変更不可能なリストのビューを返却します。
+     *
+     * @return DTOフィールドオブジェクトグループのリスト
+     */
+    @ToString.Include(name = "dtoFieldGroup")
+    public List<DtoField> getDtoFieldGroup() {
+
+        if (this.dtoFieldColumns != null) {
+            return new ColumnarDtoFieldList(this.dtoFieldColumns);
+        }
+
+        return new CopyOnWriteListView<>(() -> this.dtoFieldGroup, () -> {
+            this.ensureWritable();
+            return this.dtoFieldGroup;
+        });
+    }
+
     /**
      * 指定された {@code index} の数値に紐づく {@link DtoField} オブジェクトを返却します。
      * 存在しないインデックスを指定した場合は実行時に必ず {@link ArrayIndexOutOfBoundsException} が発生するため、
@@ -132,16 +301,30 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
      *                                           に紐づく情報が存在しない場合
      */
     public DtoField get(int index) {
+
+        if (this.dtoFieldColumns != null) {
+            return toDtoField(this.dtoFieldColumns, index);
+        }
+
         return this.dtoFieldGroup.get(index);
     }
 
+    /**
+     * 列指向のグループか判定します。
+     *
+     * @return 列指向のグループの場合は {@code true} 、それ以外は {@code false}
+     */
+    public boolean isColumnar() {
+        return this.dtoFieldColumns != null;
+    }
+
     /**
      * オブジェクトに含まれる情報が空か判定します。
      *
      * @return オブジェクトに含まれる情報がからの場合は {@code true} 、それ以外は {@code false}
      */
     public boolean isEmpty() {
-        return this.dtoFieldGroup.isEmpty();
+        return this.size() == 0;
     }
 
     /**
@@ -150,21 +333,114 @@ public final class DtoFieldGroup implements Iterable<DtoField>, IterableNode<Dto
      * @return {@link DtoField} クラスを総称型として持つストリーム
      */
     public Stream<DtoField> stream() {
-        return this.dtoFieldGroup.stream();
+        return this.getDtoFieldGroup().stream();
     }
 
     @Override
     public List<DtoField> nodes() {
-        return this.dtoFieldGroup;
+        return this.getDtoFieldGroup();
     }
 
     @Override
     public int size() {
-        return this.dtoFieldGroup.size();
+        return this.dtoFieldColumns != null ? this.dtoFieldColumns.size() : this.dtoFieldGroup.size();
     }
 
     @Override
     public Iterator<DtoField> iterator() {
         return FluentIterator.of(this);
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 内部表現に関わらず、同一の順序で等価なDTOフィールドを持つグループを等価と判定します。
+     */
+    @Override
+    public boolean equals(Object object) {
+
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof DtoFieldGroup)) {
+            return false;
+        }
+
+        return this.getDtoFieldGroup().equals(((DtoFieldGroup) object).getDtoFieldGroup());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getDtoFieldGroup().hashCode();
+    }
+
+    /**
+     * 内部のリストまたは列を共有している場合に複製し、このグループのみが変更できる状態にします。
+     */
+    private void ensureWritable() {
+
+        if (!this.shared) {
+            return;
+        }
+
+        if (this.dtoFieldColumns != null) {
+            this.dtoFieldColumns = this.dtoFieldColumns.copy();
+        } else {
+            this.dtoFieldGroup = new ArrayList<>(this.dtoFieldGroup);
+        }
+
+        this.shared = false;
+    }
+
+    /**
+     * 列指向のDTOフィールドから指定されたインデックスのDTOフィールドのビューを生成し返却します。
+     *
+     * @param dtoFieldColumns 列指向のDTOフィールド
+     * @param index           インデックス
+     * @return DTOフィールドのビュー
+     */
+    private static DtoField toDtoField(DtoFieldColumns dtoFieldColumns, int index) {
+
+        final DtoField dtoField = DtoField.of(dtoFieldColumns.getVariableName(index),
+                dtoFieldColumns.getDataType(index), dtoFieldColumns.getInitialValue(index),
+                dtoFieldColumns.isInvariant(index), dtoFieldColumns.getDescription(index));
+        final DtoDefinitionGroup childDtoDefinitionGroup = dtoFieldColumns.getChildDtoDefinitionGroup(index);
+
+        if (childDtoDefinitionGroup != null) {
+            dtoField.setChildDtoDefinitionGroup(childDtoDefinitionGroup);
+        }
+
+        return dtoField;
+    }
+
+    /**
+     * 列指向のDTOフィールドを変更不可能なリストとして参照するビュークラスです。
+     */
+    private static final class ColumnarDtoFieldList extends AbstractList<DtoField> implements RandomAccess {
+
+        /**
+         * 列指向のDTOフィールド
+         */
+        private final DtoFieldColumns dtoFieldColumns;
+
+        /**
+         * コンストラクタ
+         *
+         * @param dtoFieldColumns 列指向のDTOフィールド
+         */
+        private ColumnarDtoFieldList(DtoFieldColumns dtoFieldColumns) {
+            this.dtoFieldColumns = dtoFieldColumns;
+        }
+
+        @Override
+        public DtoField get(int index) {
+            return toDtoField(this.dtoFieldColumns, index);
+        }
+
+        @Override
+        public int size() {
+            return this.dtoFieldColumns.size();
+        }
+    }
+}
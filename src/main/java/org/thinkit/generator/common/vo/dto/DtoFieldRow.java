@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.vo.dto;
+
+import java.io.Serializable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * DTO定義ファイルの1行に定義されたDTOフィールドの情報を管理するデータクラスです。
+ * <p>
+ * DTOフィールドの情報に加えて、ネストの深さを表す階層と定義元の行番号を保持します。階層は {@code 1} から始まり、
+ * 階層 {@code n} の行の直後に続く階層 {@code n + 1} の行は、階層 {@code n} のDTOフィールドが持つ子DTO定義のフィールドを表します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class DtoFieldRow implements Serializable {
+
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = 7416035588941201363L;
+
+    /**
+     * 行番号
+     */
+    private int rowNumber;
+
+    /**
+     * 階層
+     */
+    private int layer;
+
+    /**
+     * 変数名
+     */
+    private String variableName;
+
+    /**
+     * データ型
+     */
+    private String dataType;
+
+    /**
+     * 初期値
+     */
+    private String initialValue;
+
+    /**
+     * 不変
+     */
+    private boolean invariant;
+
+    /**
+     * 説明
+     */
+    private String description;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoFieldRow() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param rowNumber    行番号
+     * @param layer        階層
+     * @param variableName 変数名
+     * @param dataType     データ型
+     * @param initialValue 初期値
+     * @param invariant    不変
+     * @param description  説明
+     *
+     * @exception NullPointerException 引数として {@code null} が指定された場合
+     */
+    private DtoFieldRow(int rowNumber, int layer, @NonNull String variableName, @NonNull String dataType,
+            @NonNull String initialValue, boolean invariant, @NonNull String description) {
+        this.rowNumber = rowNumber;
+        this.layer = layer;
+        this.variableName = variableName;
+        this.dataType = dataType;
+        this.initialValue = initialValue;
+        this.invariant = invariant;
+        this.description = description;
+    }
+
+    /**
+     * 引数として指定された情報を基に {@link DtoFieldRow} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param rowNumber    行番号
+     * @param layer        階層
+     * @param variableName 変数名
+     * @param dataType     データ型
+     * @param initialValue 初期値
+     * @param invariant    不変
+     * @param description  説明
+     * @return {@link DtoFieldRow} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が指定された場合
+     */
+    public static DtoFieldRow of(int rowNumber, int layer, @NonNull String variableName, @NonNull String dataType,
+            @NonNull String initialValue, boolean invariant, @NonNull String description) {
+        return new DtoFieldRow(rowNumber, layer, variableName, dataType, initialValue, invariant, description);
+    }
+}
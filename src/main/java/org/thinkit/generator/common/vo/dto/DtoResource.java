@@ -14,7 +14,12 @@
 
 package org.thinkit.generator.common.vo.dto;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -23,12 +28,20 @@ import lombok.ToString;
 
 /**
  * DTOリソースを管理するデータクラスです。
+ * <p>
+ * {@link #ofLazy(String, String, Supplier)} で生成したDTOリソースはパッケージ名とリソース名のみを保持し、リソースは
+ * {@link #getResource()} が初めて呼び出された時点で生成されキャッシュされます。パッケージ名とリソース名の参照ではリソースは生成されません。
+ * 等価判定、文字列表現の生成、シリアライズではリソースが生成されます。
+ * <p>
+ * 生成されるソースコードは常にUTF-8で出力されるため、DTOリソースはリソースをUTF-8で符号化したバイト列を保持できます。
+ * {@code ofEncoded} で生成したDTOリソースは符号化したバイト列のみを保持し、リソースは {@link #getResource()}
+ * が初めて呼び出された時点で復号されます。それ以外のDTOリソースは {@link #getEncodedResource()} が初めて呼び出された時点で符号化されます。
+ * 符号化したバイト列はコピーされたDTOリソースを含め共有されます。
  *
  * @author Kato Shinya
  * @since 1.0
  * @version 1.0
  */
-@Getter
 @ToString
 @EqualsAndHashCode
 public final class DtoResource implements Serializable {
@@ -41,17 +54,33 @@ public final class DtoResource implements Serializable {
     /**
      * パッケージ名
      */
+    @Getter
     private String packageName;
 
     /**
      * リソース名
      */
+    @Getter
     private String resourceName;
 
     /**
      * リソース
      */
-    private String resource;
+    private volatile String resource;
+
+    /**
+     * リソースの生成処理。リソースが生成済みの場合は {@code null}
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient Supplier<String> resourceSupplier;
+
+    /**
+     * UTF-8で符号化したリソース。符号化されていない場合は {@code null}
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile byte[] encodedResource;
 
     /**
      * デフォルトコンストラクタ
@@ -74,6 +103,22 @@ public final class DtoResource implements Serializable {
         this.resource = resource;
     }
 
+    /**
+     * リソースを遅延生成するコンストラクタ
+     *
+     * @param packageName      パッケージ名
+     * @param resourceName     リソース名
+     * @param resourceSupplier リソースの生成処理
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoResource(@NonNull String packageName, @NonNull String resourceName,
+            @NonNull Supplier<String> resourceSupplier) {
+        this.packageName = packageName;
+        this.resourceName = resourceName;
+        this.resourceSupplier = resourceSupplier;
+    }
+
     /**
      * コピーコンストラクタ
      *
@@ -84,7 +129,12 @@ public final class DtoResource implements Serializable {
     private DtoResource(@NonNull DtoResource dtoResource) {
         this.packageName = dtoResource.getPackageName();
         this.resourceName = dtoResource.getResourceName();
-        this.resource = dtoResource.getResource();
+        this.resource = dtoResource.resource;
+        this.encodedResource = dtoResource.encodedResource;
+
+        if (this.resource == null) {
+            this.resourceSupplier = dtoResource::getResource;
+        }
     }
 
     /**
@@ -101,9 +151,63 @@ public final class DtoResource implements Serializable {
         return new DtoResource(packageName, resourceName, resource);
     }
 
+    /**
+     * 引数として指定された情報を基に、リソースをUTF-8で符号化したバイト列を保持する {@link DtoResource}
+     * クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * 生成されたDTOリソースは符号化したバイト列のみを保持し、リソースの文字列は {@link #getResource()}
+     * が初めて呼び出された時点でバイト列から復号されます。
+     *
+     * @param packageName  パッケージ名
+     * @param resourceName リソース名
+     * @param resource     リソース
+     * @return {@link DtoResource} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoResource ofEncoded(@NonNull String packageName, @NonNull String resourceName,
+            @NonNull String resource) {
+        return ofEncodedResource(packageName, resourceName, resource.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 引数として指定されたUTF-8で符号化済みのバイト列を保持する {@link DtoResource} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * リソースの文字列は {@link #getResource()} が初めて呼び出された時点でバイト列から復号されます。
+     * 引数として指定されたバイト列は複製された上で保持されます。
+     *
+     * @param packageName     パッケージ名
+     * @param resourceName    リソース名
+     * @param encodedResource UTF-8で符号化されたリソース
+     * @return {@link DtoResource} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoResource ofEncoded(@NonNull String packageName, @NonNull String resourceName,
+            @NonNull byte[] encodedResource) {
+        return ofEncodedResource(packageName, resourceName, encodedResource.clone());
+    }
+
+    /**
+     * 引数として指定されたバイト列を複製せずに保持し、リソースを遅延して復号する {@link DtoResource} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param packageName     パッケージ名
+     * @param resourceName    リソース名
+     * @param encodedResource UTF-8で符号化されたリソース
+     * @return {@link DtoResource} クラスの新しいインスタンス
+     */
+    private static DtoResource ofEncodedResource(String packageName, String resourceName, byte[] encodedResource) {
+        final DtoResource dtoResource = new DtoResource(packageName, resourceName,
+                () -> new String(encodedResource, StandardCharsets.UTF_8));
+        dtoResource.encodedResource = encodedResource;
+        return dtoResource;
+    }
+
     /**
      * 引数として指定された {@code dtoResource} オブジェクトの情報を基に {@link DtoResource}
      * クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * コピー元のリソースが未生成の場合、コピー先のリソースはコピー元のリソースを参照して遅延生成されます。
      *
      * @param dtoResource DTOリソース
      * @return {@link DtoResource} クラスの新しいインスタンス
@@ -113,4 +217,105 @@ public final class DtoResource implements Serializable {
     public static DtoResource of(@NonNull DtoResource dtoResource) {
         return new DtoResource(dtoResource);
     }
-}
\ No newline at end of file
+
+    /**
+     * 引数として指定された情報を基にリソースを遅延生成する {@link DtoResource} クラスの新しいインスタンスを生成し返却します。
+     * <p>
+     * {@code resourceSupplier} は {@link #getResource()} が初めて呼び出された時点で実行され、結果はキャッシュされます。
+     * {@code resourceSupplier} が {@code null} を返却した場合はキャッシュせず、次回の呼び出し時に再度実行します。
+     *
+     * @param packageName      パッケージ名
+     * @param resourceName     リソース名
+     * @param resourceSupplier リソースの生成処理
+     * @return {@link DtoResource} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoResource ofLazy(@NonNull String packageName, @NonNull String resourceName,
+            @NonNull Supplier<String> resourceSupplier) {
+        return new DtoResource(packageName, resourceName, resourceSupplier);
+    }
+
+    /**
+     * リソースを返却します。
+     * <p>
+     * リソースを遅延生成するDTOリソースの場合、初回の呼び出し時にリソースを生成しキャッシュします。
+     *
+     * @return リソース。リソースの生成に失敗した場合は {@code null}
+     */
+    public String getResource() {
+
+        final String materializedResource = this.resource;
+
+        if (materializedResource != null) {
+            return materializedResource;
+        }
+
+        synchronized (this) {
+            if (this.resource == null && this.resourceSupplier != null) {
+                this.resource = this.resourceSupplier.get();
+
+                if (this.resource != null) {
+                    this.resourceSupplier = null;
+                }
+            }
+
+            return this.resource;
+        }
+    }
+
+    /**
+     * リソースをUTF-8で符号化したバイト列を読み取り専用のバッファとして返却します。
+     * <p>
+     * 返却されるバッファは保持しているバイト列をコピーせずに参照するため、呼び出しごとに独立した位置を持ちます。
+     * リソースが符号化されていない場合は初回の呼び出し時に符号化しキャッシュします。
+     *
+     * @return UTF-8で符号化したリソースの読み取り専用のバッファ。リソースの生成に失敗した場合は {@code null}
+     */
+    public ByteBuffer getEncodedResource() {
+
+        byte[] encoded = this.encodedResource;
+
+        if (encoded == null) {
+            final String materializedResource = this.getResource();
+
+            if (materializedResource == null) {
+                return null;
+            }
+
+            encoded = materializedResource.getBytes(StandardCharsets.UTF_8);
+            this.encodedResource = encoded;
+        }
+
+        return ByteBuffer.wrap(encoded).asReadOnlyBuffer();
+    }
+
+    /**
+     * リソースが生成済みか判定します。
+     *
+     * @return リソースが生成済みの場合は {@code true} 、それ以外は {@code false}
+     */
+    public boolean isResourceMaterialized() {
+        return this.resource != null;
+    }
+
+    /**
+     * リソースがUTF-8で符号化済みか判定します。
+     *
+     * @return リソースが符号化済みの場合は {@code true} 、それ以外は {@code false}
+     */
+    public boolean isResourceEncoded() {
+        return this.encodedResource != null;
+    }
+
+    /**
+     * リソースを生成した上でシリアライズします。
+     *
+     * @param objectOutputStream 出力ストリーム
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void writeObject(ObjectOutputStream objectOutputStream) throws IOException {
+        this.getResource();
+        objectOutputStream.defaultWriteObject();
+    }
+}
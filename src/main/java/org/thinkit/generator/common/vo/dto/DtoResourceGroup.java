@@ -153,6 +153,18 @@ public final class DtoResourceGroup implements Iterable<DtoResource>, IterableNo
         return this.dtoResourceGroup.stream();
     }
 
+    /**
+     * 各DTOリソースのパッケージ名とリソース名を連結した完全修飾名のストリームを返却します。
+     * <p>
+     * このメソッドはリソースを参照しないため、遅延生成されるDTOリソースのリソースは生成されません。
+     *
+     * @return DTOリソースの完全修飾名のストリーム
+     */
+    public Stream<String> streamQualifiedNames() {
+        return this.dtoResourceGroup.stream()
+                .map(dtoResource -> dtoResource.getPackageName() + "." + dtoResource.getResourceName());
+    }
+
     @Override
     public List<DtoResource> nodes() {
         return this.dtoResourceGroup;
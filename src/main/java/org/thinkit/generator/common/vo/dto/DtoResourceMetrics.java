@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.generator.common.vo.dto;
+
+import java.io.Serializable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 1件のDTOリソースを生成する際の各処理の所要時間と出力サイズを管理するデータクラスです。
+ * <p>
+ * 所要時間は全てナノ秒で管理されます。各処理の内容は以下の通りです。
+ * <ul>
+ * <li>構築処理 : DTO定義を基にリソースファクトリからリソース情報を構築する処理</li>
+ * <li>連結処理 : リソース情報からソースコードの文字列を生成する処理</li>
+ * <li>整形処理 : 生成されたソースコードをフォーマッタで整形または検証する処理</li>
+ * </ul>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class DtoResourceMetrics implements Serializable {
+
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = 6427010858129581427L;
+
+    /**
+     * リソース名
+     */
+    private String resourceName;
+
+    /**
+     * 構築処理の所要時間
+     */
+    private long buildTime;
+
+    /**
+     * 連結処理の所要時間
+     */
+    private long concatenationTime;
+
+    /**
+     * 整形処理の所要時間
+     */
+    private long formattingTime;
+
+    /**
+     * 連結処理で生成されたソースコードの文字数
+     */
+    private int sourceLength;
+
+    /**
+     * 整形処理後のソースコードの文字数
+     */
+    private int resourceLength;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private DtoResourceMetrics() {
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param resourceName      リソース名
+     * @param buildTime         構築処理の所要時間
+     * @param concatenationTime 連結処理の所要時間
+     * @param formattingTime    整形処理の所要時間
+     * @param sourceLength      連結処理で生成されたソースコードの文字数
+     * @param resourceLength    整形処理後のソースコードの文字数
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    private DtoResourceMetrics(@NonNull String resourceName, long buildTime, long concatenationTime,
+            long formattingTime, int sourceLength, int resourceLength) {
+        this.resourceName = resourceName;
+        this.buildTime = buildTime;
+        this.concatenationTime = concatenationTime;
+        this.formattingTime = formattingTime;
+        this.sourceLength = sourceLength;
+        this.resourceLength = resourceLength;
+    }
+
+    /**
+     * 引数として指定された情報を基に {@link DtoResourceMetrics} クラスの新しいインスタンスを生成し返却します。
+     *
+     * @param resourceName      リソース名
+     * @param buildTime         構築処理の所要時間
+     * @param concatenationTime 連結処理の所要時間
+     * @param formattingTime    整形処理の所要時間
+     * @param sourceLength      連結処理で生成されたソースコードの文字数
+     * @param resourceLength    整形処理後のソースコードの文字数
+     * @return {@link DtoResourceMetrics} クラスの新しいインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static DtoResourceMetrics of(@NonNull String resourceName, long buildTime, long concatenationTime,
+            long formattingTime, int sourceLength, int resourceLength) {
+        return new DtoResourceMetrics(resourceName, buildTime, concatenationTime, formattingTime, sourceLength,
+                resourceLength);
+    }
+
+    /**
+     * 構築処理、連結処理、整形処理の所要時間の合計を返却します。
+     *
+     * @return 各処理の所要時間の合計
+     */
+    public long getTotalTime() {
+        return this.buildTime + this.concatenationTime + this.formattingTime;
+    }
+}